@@ -22,20 +22,27 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import org.apache.commons.io.output.WriterOutputStream;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.http.access.UserResponseVerifier;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseResultSetHelper;
 import org.eclipse.dirigible.components.data.management.service.DatabaseDefinitionService;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.components.database.DatabaseParameters;
 import org.eclipse.dirigible.database.persistence.processors.identity.PersistenceNextValueIdentityProcessor;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * The Class DatabaseFacade.
@@ -46,6 +53,9 @@ public class DatabaseFacade implements InitializingBean {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(DatabaseFacade.class);
 
+    /** The built next value statements per dialect and sequence. */
+    private static final Map<String, String> NEXTVAL_STATEMENTS = new ConcurrentHashMap<>();
+
     /** The database facade. */
     private static DatabaseFacade INSTANCE;
 
@@ -279,6 +289,165 @@ public class DatabaseFacade implements InitializingBean {
         return query(sql, null, null);
     }
 
+    // ======= Streaming Query ======
+
+    /**
+     * Executes SQL query and returns a cursor over the result rows, fetched in chunks of
+     * DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE rows. The cursor must be closed.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @return the query cursor
+     * @throws Exception the exception
+     */
+    public static final QueryCursor queryCursor(String sql, String parameters, String datasourceName) throws Exception {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            String error = format("DataSource {0} not known.", datasourceName);
+            throw new IllegalArgumentException(error);
+        }
+        Connection connection = dataSource.getConnection();
+        boolean autoCommit = false;
+        PreparedStatement preparedStatement = null;
+        try {
+            autoCommit = disableAutoCommit(connection);
+            preparedStatement = prepareStreamingStatement(connection, sql, parameters);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            return new QueryCursor(connection, preparedStatement, resultSet, autoCommit);
+        } catch (Exception ex) {
+            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
+            if (preparedStatement != null) {
+                preparedStatement.close();
+            }
+            if (autoCommit) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Executes SQL query and returns a cursor over the result rows.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @return the query cursor
+     * @throws Exception the exception
+     */
+    public static final QueryCursor queryCursor(String sql, String parameters) throws Exception {
+        return queryCursor(sql, parameters, null);
+    }
+
+    /**
+     * Executes SQL query and writes the result as JSON array directly to the given output stream,
+     * without keeping the result in memory.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public static final void queryToStream(String sql, String parameters, String datasourceName, OutputStream output) throws Exception {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            String error = format("DataSource {0} not known.", datasourceName);
+            throw new IllegalArgumentException(error);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = disableAutoCommit(connection);
+            try (PreparedStatement preparedStatement = prepareStreamingStatement(connection, sql, parameters);
+                    ResultSet resultSet = preparedStatement.executeQuery()) {
+                DatabaseResultSetHelper.toJson(resultSet, false, false, output);
+            } finally {
+                if (autoCommit) {
+                    connection.commit();
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (Exception ex) {
+            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Executes SQL query and writes the result as JSON array directly to the response of the current
+     * request.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @throws Exception the exception
+     */
+    public static final void queryToResponse(String sql, String parameters, String datasourceName) throws Exception {
+        HttpServletResponse response = UserResponseVerifier.getResponse();
+        if (response == null) {
+            throw new IllegalStateException("Trying to stream a query result without a valid Response");
+        }
+        if (response.getContentType() == null) {
+            response.setContentType("application/json");
+        }
+        queryToStream(sql, parameters, datasourceName, response.getOutputStream());
+    }
+
+    /**
+     * Executes SQL query and writes the result as JSON array directly to the response of the current
+     * request.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @throws Exception the exception
+     */
+    public static final void queryToResponse(String sql, String parameters) throws Exception {
+        queryToResponse(sql, parameters, null);
+    }
+
+    /**
+     * Prepares a statement fetching the rows in chunks of DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE rows.
+     *
+     * @param connection the connection
+     * @param sql the sql
+     * @param parameters the parameters
+     * @return the prepared statement
+     * @throws Exception the exception
+     */
+    private static PreparedStatement prepareStreamingStatement(Connection connection, String sql, String parameters) throws Exception {
+        PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            preparedStatement.setFetchSize(Configuration.getAsInt(DatabaseParameters.DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE, 1000));
+            if (parameters != null) {
+                ParametersSetter.setParameters(parameters, preparedStatement);
+            }
+            return preparedStatement;
+        } catch (Exception ex) {
+            preparedStatement.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Disables the auto commit of the connection, since some drivers (e.g. PostgreSQL) fetch the
+     * rows in chunks only within a transaction.
+     *
+     * @param connection the connection
+     * @return the previous auto commit state, which has to be restored after the query
+     */
+    private static boolean disableAutoCommit(Connection connection) {
+        try {
+            if (connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+                return true;
+            }
+        } catch (SQLException ex) {
+            logger.debug("Auto commit cannot be disabled for the streaming query", ex);
+        }
+        return false;
+    }
+
     // =========== Insert ===========
 
     /**
@@ -451,15 +620,16 @@ public class DatabaseFacade implements InitializingBean {
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
+            ISqlDialect dialect = SqlFactory.deriveDialect(dataSource, connection);
             try {
-                return getNextVal(sequence, connection);
+                return getNextVal(sequence, dialect, connection);
             } catch (SQLException e) {
                 // assuming the sequence does not exists first time, hence create it implicitly
                 if (logger.isWarnEnabled()) {
                     logger.warn(format("Implicitly creating a Sequence [{0}] due to: [{1}]", sequence, e.getMessage()));
                 }
-                createSequenceInternal(sequence, null, connection, tableName);
-                return getNextVal(sequence, connection);
+                createSequenceInternal(sequence, null, dialect, connection, tableName);
+                return getNextVal(sequence, dialect, connection);
             } catch (IllegalStateException e) {
                 // assuming the sequence objects are not supported by the underlying database
                 PersistenceNextValueIdentityProcessor persistenceNextValueIdentityProcessor =
@@ -477,14 +647,18 @@ public class DatabaseFacade implements InitializingBean {
      * Gets the next val.
      *
      * @param sequence the sequence
+     * @param dialect the dialect
      * @param connection the connection
      * @return the next val
      * @throws SQLException the SQL exception
      */
-    private static long getNextVal(String sequence, Connection connection) throws SQLException {
-        String sql = SqlFactory.getNative(connection)
-                               .nextval(sequence)
-                               .build();
+    private static long getNextVal(String sequence, ISqlDialect dialect, Connection connection) throws SQLException {
+        String key = dialect.getClass()
+                            .getName()
+                + ":" + sequence;
+        String sql = NEXTVAL_STATEMENTS.computeIfAbsent(key, k -> SqlFactory.getNative(dialect)
+                                                                            .nextval(sequence)
+                                                                            .build());
         PreparedStatement preparedStatement = connection.prepareStatement(sql);
         try {
             ResultSet resultSet = preparedStatement.executeQuery();
@@ -504,14 +678,15 @@ public class DatabaseFacade implements InitializingBean {
      *
      * @param sequence the sequence
      * @param sequenceStart the sequence start
+     * @param dialect the dialect
      * @param connection the connection
      * @param tableName the table name
      * @throws SQLException the SQL exception
      */
-    private static void createSequenceInternal(String sequence, Integer sequenceStart, Connection connection, String tableName)
-            throws SQLException {
+    private static void createSequenceInternal(String sequence, Integer sequenceStart, ISqlDialect dialect, Connection connection,
+            String tableName) throws SQLException {
         if (sequenceStart == null && tableName != null) {
-            String countSql = SqlFactory.getNative(connection)
+            String countSql = SqlFactory.getNative(dialect)
                                         .select()
                                         .column("count(*)")
                                         .from(tableName)
@@ -533,7 +708,7 @@ public class DatabaseFacade implements InitializingBean {
             }
         }
 
-        String sql = SqlFactory.getNative(connection)
+        String sql = SqlFactory.getNative(dialect)
                                .create()
                                .sequence(sequence)
                                .start(sequenceStart)
@@ -565,7 +740,7 @@ public class DatabaseFacade implements InitializingBean {
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
-            createSequenceInternal(sequence, start, connection, null);
+            createSequenceInternal(sequence, start, SqlFactory.deriveDialect(dataSource, connection), connection, null);
 
         } catch (Exception ex) {
             logger.error("Failed to create sequence [{}] in data source [{}].", sequence, datasourceName, ex);
@@ -614,7 +789,7 @@ public class DatabaseFacade implements InitializingBean {
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
-            String sql = SqlFactory.getNative(connection)
+            String sql = SqlFactory.getNative(SqlFactory.deriveDialect(dataSource, connection))
                                    .drop()
                                    .sequence(sequence)
                                    .build();
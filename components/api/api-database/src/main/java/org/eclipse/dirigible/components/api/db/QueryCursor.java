@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import org.eclipse.dirigible.components.data.management.format.ResultSetJsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Cursor over the rows of a query result. The rows are fetched from the database in chunks of the
+ * configured fetch size and returned one by one as JSON objects, so that the memory consumption
+ * does not depend on the size of the result. The cursor owns the connection and must be closed.
+ */
+public class QueryCursor implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(QueryCursor.class);
+
+    /** The Constant JSON_FACTORY. */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The prepared statement. */
+    private final PreparedStatement preparedStatement;
+
+    /** The result set. */
+    private final ResultSet resultSet;
+
+    /** The auto commit state of the connection before the query. */
+    private final boolean autoCommit;
+
+    /** The writer. */
+    private final ResultSetJsonWriter writer = new ResultSetJsonWriter();
+
+    /** The next row is fetched. */
+    private boolean fetched;
+
+    /** The has next row. */
+    private boolean hasNext;
+
+    /** The closed. */
+    private boolean closed;
+
+    /**
+     * Instantiates a new query cursor.
+     *
+     * @param connection the connection
+     * @param preparedStatement the prepared statement
+     * @param resultSet the result set
+     * @param autoCommit the auto commit state of the connection to be restored on close
+     */
+    QueryCursor(Connection connection, PreparedStatement preparedStatement, ResultSet resultSet, boolean autoCommit) {
+        this.connection = connection;
+        this.preparedStatement = preparedStatement;
+        this.resultSet = resultSet;
+        this.autoCommit = autoCommit;
+        this.writer.setLimited(false);
+        this.writer.setStringified(false);
+    }
+
+    /**
+     * Checks whether there are more rows. The cursor is closed automatically after the last row.
+     *
+     * @return true, if there is a next row
+     * @throws SQLException the SQL exception
+     */
+    public boolean hasNext() throws SQLException {
+        if (closed) {
+            return false;
+        }
+        if (!fetched) {
+            hasNext = resultSet.next();
+            fetched = true;
+            if (!hasNext) {
+                close();
+            }
+        }
+        return hasNext;
+    }
+
+    /**
+     * Returns the next row.
+     *
+     * @return the row as JSON object
+     * @throws Exception the exception
+     */
+    public String next() throws Exception {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in the query result");
+        }
+        fetched = false;
+        StringWriter row = new StringWriter();
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(row)) {
+            writer.writeRow(resultSet, jsonGenerator);
+        }
+        return row.toString();
+    }
+
+    /**
+     * Closes the result set, the statement and the connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resultSet.close();
+            preparedStatement.close();
+            if (autoCommit) {
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException ex) {
+            logger.error("Failed to close the query cursor", ex);
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                logger.error("Failed to close the connection of the query cursor", ex);
+            }
+        }
+    }
+
+}
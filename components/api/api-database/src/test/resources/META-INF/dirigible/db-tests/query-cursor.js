@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+var query = require('db/query');
+var update = require('db/update');
+var assertTrue = require('test/assert').assertTrue;
+
+update.execute("CREATE TABLE QC (A INT, B VARCHAR(10))");
+update.execute("INSERT INTO QC VALUES (1, 'ABC')");
+update.execute("INSERT INTO QC VALUES (2, 'DEF')");
+update.execute("INSERT INTO QC VALUES (3, 'GHI')");
+
+var rows = [];
+for (var row of query.cursor("SELECT * FROM QC WHERE A > ? ORDER BY A", [1])) {
+	rows.push(row);
+}
+
+console.log(JSON.stringify(rows));
+
+update.execute("DROP TABLE QC");
+
+assertTrue(rows.length === 2 && rows[0].A === 2 && rows[1].B === 'GHI');
@@ -28,7 +28,7 @@ import org.apache.http.client.methods.HttpTrace;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
-import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.eclipse.dirigible.components.api.http.client.HttpClientManager;
 import org.eclipse.dirigible.components.api.http.client.HttpClientRequestOptions;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
 import org.slf4j.Logger;
@@ -116,7 +116,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpGet request = HttpClientFacade.createGetRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -132,7 +133,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpPost request = HttpClientFacade.createPostRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -148,7 +150,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpPut request = HttpClientFacade.createPutRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -164,7 +167,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpPatch request = HttpClientFacade.createPatchRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -179,7 +183,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpDelete request = HttpClientFacade.createDeleteRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -194,7 +199,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpHead request = HttpClientFacade.createHeadRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -209,7 +215,8 @@ public final class HttpClientAsyncFacade {
         HttpClientRequestOptions httpClientRequestOptions = HttpClientFacade.parseOptions(options);
         httpResponseCallback.setOptions(httpClientRequestOptions);
         HttpTrace request = HttpClientFacade.createTraceRequest(url, httpClientRequestOptions);
-        asyncHttpRequests.add(new AsyncHttpRequest(request, httpResponseCallback.getCallback()));
+        asyncHttpRequests.add(
+                new AsyncHttpRequest(request, httpClientRequestOptions.isSslTrustAllEnabled(), httpResponseCallback.getCallback()));
     }
 
     /**
@@ -220,13 +227,12 @@ public final class HttpClientAsyncFacade {
      */
     public void execute() throws InterruptedException, IOException {
         countDownLatch = new CountDownLatch(requestsCounter);
-        try (CloseableHttpAsyncClient httpClient = HttpAsyncClients.createDefault()) {
-            httpClient.start();
-            for (AsyncHttpRequest next : asyncHttpRequests) {
-                httpClient.execute(next.getRequest(), next.getCallback());
-            }
-            countDownLatch.await();
+        for (AsyncHttpRequest next : asyncHttpRequests) {
+            CloseableHttpAsyncClient httpClient = HttpClientManager.get()
+                                                                   .getHttpAsyncClient(next.isTrustAll());
+            httpClient.execute(next.getRequest(), next.getCallback());
         }
+        countDownLatch.await();
     }
 
     /**
@@ -237,6 +243,9 @@ public final class HttpClientAsyncFacade {
         /** The request. */
         private final HttpUriRequest request;
 
+        /** The trust all. */
+        private final boolean trustAll;
+
         /** The callback. */
         private final FutureCallback<HttpResponse> callback;
 
@@ -244,13 +253,24 @@ public final class HttpClientAsyncFacade {
          * Instantiates a new async http request.
          *
          * @param request the request
+         * @param trustAll if no SSL verification should be done
          * @param callback the callback
          */
-        private AsyncHttpRequest(HttpUriRequest request, FutureCallback<HttpResponse> callback) {
+        private AsyncHttpRequest(HttpUriRequest request, boolean trustAll, FutureCallback<HttpResponse> callback) {
             this.request = request;
+            this.trustAll = trustAll;
             this.callback = callback;
         }
 
+        /**
+         * Checks if is trust all.
+         *
+         * @return true, if no SSL verification should be done
+         */
+        private boolean isTrustAll() {
+            return trustAll;
+        }
+
         /**
          * Gets the request.
          *
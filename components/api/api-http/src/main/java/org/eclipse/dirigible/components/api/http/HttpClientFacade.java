@@ -40,6 +40,7 @@ import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.api.http.client.HttpClientHeader;
+import org.eclipse.dirigible.components.api.http.client.HttpClientManager;
 import org.eclipse.dirigible.components.api.http.client.HttpClientParam;
 import org.eclipse.dirigible.components.api.http.client.HttpClientProxyUtils;
 import org.eclipse.dirigible.components.api.http.client.HttpClientRequestOptions;
@@ -167,6 +168,16 @@ public class HttpClientFacade {
         return processResponse(response, httpClientRequestOptions.isBinary());
     }
 
+    /**
+     * Gets the statistics of the shared connection pools.
+     *
+     * @return the leased, pending, available and max connections per pool as JSON
+     */
+    public static final String getPoolStats() {
+        return GsonHelper.toJson(HttpClientManager.get()
+                                                  .getPoolStats());
+    }
+
     /**
      * Prepare headers.
      *
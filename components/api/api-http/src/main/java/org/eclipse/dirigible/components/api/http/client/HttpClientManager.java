@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import org.apache.http.HttpHost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.pool.PoolStats;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the shared, pooled HTTP clients.
+ *
+ * The clients are keyed by the trust mode and the proxy settings, so that every combination gets
+ * its own connection pool, while the connections to the same route are kept alive and reused
+ * across the calls. The pools are limited by DIRIGIBLE_HTTP_CLIENT_POOL_MAX_TOTAL and
+ * DIRIGIBLE_HTTP_CLIENT_POOL_MAX_PER_ROUTE, and the connections idle for more than
+ * DIRIGIBLE_HTTP_CLIENT_POOL_IDLE_TIMEOUT seconds are evicted. The shared clients must not be
+ * closed by the callers, only the responses have to be consumed and closed.
+ */
+public class HttpClientManager {
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_POOL_MAX_TOTAL. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_POOL_MAX_TOTAL = "DIRIGIBLE_HTTP_CLIENT_POOL_MAX_TOTAL"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_POOL_MAX_PER_ROUTE. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_POOL_MAX_PER_ROUTE = "DIRIGIBLE_HTTP_CLIENT_POOL_MAX_PER_ROUTE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_POOL_IDLE_TIMEOUT. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_POOL_IDLE_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_POOL_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_POOL_VALIDATE_AFTER_INACTIVITY. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_POOL_VALIDATE_AFTER_INACTIVITY =
+            "DIRIGIBLE_HTTP_CLIENT_POOL_VALIDATE_AFTER_INACTIVITY"; //$NON-NLS-1$
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientManager.class);
+
+    /** The instance. */
+    private static final HttpClientManager INSTANCE = new HttpClientManager();
+
+    /** The clients. */
+    private final Map<PoolKey, PooledClient> clients = new ConcurrentHashMap<>();
+
+    /** The async clients. */
+    private final Map<PoolKey, PooledAsyncClient> asyncClients = new ConcurrentHashMap<>();
+
+    /** The evictor. */
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "http-client-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Instantiates a new http client manager.
+     */
+    private HttpClientManager() {
+        long idleTimeout = getIdleTimeout();
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, idleTimeout, Math.max(1, idleTimeout / 2), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Gets the manager instance.
+     *
+     * @return the http client manager
+     */
+    public static HttpClientManager get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the shared http client.
+     *
+     * @param trustAll if no SSL verification should be done
+     * @return the http client
+     */
+    public CloseableHttpClient getHttpClient(boolean trustAll) {
+        return clients.computeIfAbsent(PoolKey.current(trustAll), this::createClient).client();
+    }
+
+    /**
+     * Gets the shared and started http async client.
+     *
+     * @param trustAll if no SSL verification should be done
+     * @return the http async client
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient(boolean trustAll) {
+        return asyncClients.computeIfAbsent(PoolKey.current(trustAll), this::createAsyncClient).client();
+    }
+
+    /**
+     * Gets the statistics of the connection pools.
+     *
+     * @return the pool statistics by pool
+     */
+    public Map<String, PoolStats> getPoolStats() {
+        Map<String, PoolStats> stats = new LinkedHashMap<>();
+        clients.forEach((key, pooled) -> stats.put("sync " + key, pooled.connectionManager()
+                                                                         .getTotalStats()));
+        asyncClients.forEach((key, pooled) -> stats.put("async " + key, pooled.connectionManager()
+                                                                               .getTotalStats()));
+        return stats;
+    }
+
+    /**
+     * Creates a pooled client. A trust all client is not silently replaced by a verifying one, if its
+     * SSL context cannot be created.
+     *
+     * @param key the key
+     * @return the pooled client
+     * @throws IllegalStateException if the trust all SSL context cannot be created
+     */
+    private PooledClient createClient(PoolKey key) {
+        SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+        if (key.trustAll()) {
+            try {
+                sslSocketFactory = new SSLConnectionSocketFactory(HttpClientProxyUtils.createTrustSelfSignedSSLContext(),
+                        NoopHostnameVerifier.INSTANCE);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to create the TRUST ALL SSL context for " + key, e);
+            }
+        }
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                                                                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                                                                    .register("https", sslSocketFactory)
+                                                                    .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setMaxTotal(getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(getValidateAfterInactivity());
+
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                                                         .setConnectionManager(connectionManager);
+        HttpHost proxy = HttpClientProxyUtils.getProxy();
+        if (proxy != null) {
+            httpClientBuilder.setProxy(proxy);
+            HttpRoutePlanner routePlanner = HttpClientProxyUtils.getNonProxyHostsRoutePlanner(proxy);
+            if (routePlanner != null) {
+                httpClientBuilder.setRoutePlanner(routePlanner);
+            }
+        }
+        logger.debug("Created a pooled HTTP client for [{}]", key);
+        return new PooledClient(httpClientBuilder.build(), connectionManager);
+    }
+
+    /**
+     * Creates a pooled async client.
+     *
+     * @param key the key
+     * @return the pooled async client
+     * @throws IllegalStateException if the trust all SSL context or the I/O reactor cannot be created
+     */
+    private PooledAsyncClient createAsyncClient(PoolKey key) {
+        SchemeIOSessionStrategy sslStrategy = SSLIOSessionStrategy.getDefaultStrategy();
+        if (key.trustAll()) {
+            try {
+                SSLContext sslContext = HttpClientProxyUtils.createTrustSelfSignedSSLContext();
+                sslStrategy = new SSLIOSessionStrategy(sslContext, NoopHostnameVerifier.INSTANCE);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to create the TRUST ALL SSL context for " + key, e);
+            }
+        }
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                                                                    .register("http", NoopIOSessionStrategy.INSTANCE)
+                                                                    .register("https", sslStrategy)
+                                                                    .build();
+        try {
+            PoolingNHttpClientConnectionManager connectionManager =
+                    new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(), registry);
+            connectionManager.setMaxTotal(getMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(getMaxPerRoute());
+
+            HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+                                                                            .setConnectionManager(connectionManager);
+            HttpHost proxy = HttpClientProxyUtils.getProxy();
+            if (proxy != null) {
+                httpAsyncClientBuilder.setProxy(proxy);
+                HttpRoutePlanner routePlanner = HttpClientProxyUtils.getNonProxyHostsRoutePlanner(proxy);
+                if (routePlanner != null) {
+                    httpAsyncClientBuilder.setRoutePlanner(routePlanner);
+                }
+            }
+            CloseableHttpAsyncClient client = httpAsyncClientBuilder.build();
+            client.start();
+            logger.debug("Created a pooled HTTP async client for [{}]", key);
+            return new PooledAsyncClient(client, connectionManager);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create an HTTP async client for " + key, e);
+        }
+    }
+
+    /**
+     * Evicts the expired and the idle connections of all the pools.
+     */
+    private void evictIdleConnections() {
+        try {
+            long idleTimeout = getIdleTimeout();
+            clients.values()
+                   .forEach(pooled -> {
+                       pooled.connectionManager()
+                             .closeExpiredConnections();
+                       pooled.connectionManager()
+                             .closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+                   });
+            asyncClients.values()
+                        .forEach(pooled -> {
+                            pooled.connectionManager()
+                                  .closeExpiredConnections();
+                            pooled.connectionManager()
+                                  .closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+                        });
+        } catch (RuntimeException e) {
+            logger.error("Failed to evict the idle HTTP connections", e);
+        }
+    }
+
+    /**
+     * Gets the max total connections per pool.
+     *
+     * @return the max total
+     */
+    private static int getMaxTotal() {
+        return Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_POOL_MAX_TOTAL, 200);
+    }
+
+    /**
+     * Gets the max connections per route.
+     *
+     * @return the max per route
+     */
+    private static int getMaxPerRoute() {
+        return Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_POOL_MAX_PER_ROUTE, 20);
+    }
+
+    /**
+     * Gets the idle timeout in seconds.
+     *
+     * @return the idle timeout
+     */
+    private static int getIdleTimeout() {
+        return Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_POOL_IDLE_TIMEOUT, 60);
+    }
+
+    /**
+     * Gets the inactivity period in milliseconds, after which a connection is validated before reuse.
+     *
+     * @return the validate after inactivity
+     */
+    private static int getValidateAfterInactivity() {
+        return Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_POOL_VALIDATE_AFTER_INACTIVITY, 2000);
+    }
+
+    /**
+     * The key of a pool.
+     *
+     * @param trustAll the trust all
+     * @param proxyHost the proxy host
+     * @param proxyPort the proxy port
+     * @param nonProxyHosts the non proxy hosts
+     */
+    private record PoolKey(boolean trustAll, String proxyHost, String proxyPort, String nonProxyHosts) {
+
+        /**
+         * Creates the key for the current proxy settings.
+         *
+         * @param trustAll the trust all
+         * @return the pool key
+         */
+        static PoolKey current(boolean trustAll) {
+            return new PoolKey(trustAll, Configuration.get(HttpClientProxyUtils.HTTP_PROXY_HOST),
+                    Configuration.get(HttpClientProxyUtils.HTTP_PROXY_PORT), Configuration.get(HttpClientProxyUtils.HTTP_NON_PROXY_HOSTS));
+        }
+    }
+
+    /**
+     * The pooled client.
+     *
+     * @param client the client
+     * @param connectionManager the connection manager
+     */
+    private record PooledClient(CloseableHttpClient client, PoolingHttpClientConnectionManager connectionManager) {
+    }
+
+    /**
+     * The pooled async client.
+     *
+     * @param client the client
+     * @param connectionManager the connection manager
+     */
+    private record PooledAsyncClient(CloseableHttpAsyncClient client, PoolingNHttpClientConnectionManager connectionManager) {
+    }
+
+}
@@ -11,6 +11,7 @@
 package org.eclipse.dirigible.components.api.http.client;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -25,11 +26,9 @@ import org.apache.http.HttpException;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.conn.routing.HttpRoute;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
@@ -80,67 +79,55 @@ public class HttpClientProxyUtils {
     }
 
     /**
-     * Returns the http client.
+     * Returns the shared, pooled http client. The client must not be closed by the caller.
      *
      * @param trustAll if no SSL verification should be done
      * @return the http client
      */
     public static CloseableHttpClient getHttpClient(boolean trustAll) {
-        CloseableHttpClient httpClient = null;
-
-        if (trustAll) {
-            try {
-                SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
-                sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                SSLConnectionSocketFactory sslSocketFactory =
-                        new SSLConnectionSocketFactory(sslContextBuilder.build(), (hostName, sslSession) -> true);
-                HttpClientBuilder httpClientBuilder = HttpClients.custom();
-                httpClientBuilder.setSSLSocketFactory(sslSocketFactory);
-                setProxyIfNeeded(httpClientBuilder);
-                httpClient = httpClientBuilder.build();
-            } catch (Exception e) {
-                if (logger.isErrorEnabled()) {
-                    logger.error("Error occurred when trying to create a TRUST ALL HTTP Client", e);
-                }
-                httpClient = HttpClients.createDefault();
-            }
-        } else {
-            HttpClientBuilder httpClientBuilder = HttpClients.custom();
-            setProxyIfNeeded(httpClientBuilder);
-            httpClient = httpClientBuilder.build();
-        }
+        return HttpClientManager.get()
+                                .getHttpClient(trustAll);
+    }
 
-        return httpClient;
+    /**
+     * Creates the SSL context trusting the self signed certificates.
+     *
+     * @return the SSL context
+     * @throws GeneralSecurityException in case the SSL context cannot be created
+     */
+    static SSLContext createTrustSelfSignedSSLContext() throws GeneralSecurityException {
+        SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
+        sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+        return sslContextBuilder.build();
     }
 
     /**
-     * Sets the proxy if needed.
+     * Gets the configured proxy.
      *
-     * @param httpClientBuilder the client build
+     * @return the proxy or null, if not configured
      */
-    private static void setProxyIfNeeded(HttpClientBuilder httpClientBuilder) {
+    static HttpHost getProxy() {
         String httpProxyHost = Configuration.get(HTTP_PROXY_HOST);
         String httpProxyPort = Configuration.get(HTTP_PROXY_PORT);
 
         if (!StringUtils.isEmpty(httpProxyHost) && !StringUtils.isEmpty(httpProxyPort)) {
-            HttpHost httpProxy = new HttpHost(httpProxyHost, Integer.parseInt(httpProxyPort));
-            httpClientBuilder.setProxy(httpProxy);
-            setNonProxyHostsIfNeeded(httpClientBuilder, httpProxy);
+            return new HttpHost(httpProxyHost, Integer.parseInt(httpProxyPort));
         }
+        return null;
     }
 
     /**
-     * Sets the non proxy hosts if needed.
+     * Gets the route planner bypassing the proxy for the non proxy hosts.
      *
-     * @param httpClientBuilder the http client builder
      * @param httpProxy the http proxy
+     * @return the route planner or null, if no non proxy hosts are configured
      */
-    private static void setNonProxyHostsIfNeeded(HttpClientBuilder httpClientBuilder, HttpHost httpProxy) {
+    static HttpRoutePlanner getNonProxyHostsRoutePlanner(HttpHost httpProxy) {
         String httpNonProxyHosts = Configuration.get(HTTP_NON_PROXY_HOSTS);
 
         if (!StringUtils.isEmpty(httpNonProxyHosts)) {
             String[] nonProxyHosts = httpNonProxyHosts.split("\\|");
-            httpClientBuilder.setRoutePlanner(new DefaultProxyRoutePlanner(httpProxy) {
+            return new DefaultProxyRoutePlanner(httpProxy) {
 
                 @Override
                 public HttpRoute determineRoute(HttpHost target, HttpRequest request, HttpContext context) throws HttpException {
@@ -159,8 +146,9 @@ public class HttpClientProxyUtils {
                     return (nonProxyHost.startsWith("*.") && hostname.endsWith(nonProxyHost.substring(nonProxyHost.indexOf("*.") + 2)))
                             || nonProxyHost.equalsIgnoreCase(hostname);
                 }
-            });
+            };
         }
+        return null;
     }
 
     /**
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The Class HttpClientManagerTest.
+ */
+public class HttpClientManagerTest {
+
+    /** The server. */
+    private static HttpServer server;
+
+    /** The url. */
+    private static String url;
+
+    /**
+     * Starts the server.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress()
+                                          .getPort()
+                + "/ping";
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * The same client is shared per trust mode.
+     */
+    @Test
+    public void testClientIsShared() {
+        HttpClientManager manager = HttpClientManager.get();
+        assertSame(manager.getHttpClient(false), manager.getHttpClient(false));
+        assertSame(manager.getHttpClient(true), manager.getHttpClient(true));
+        assertNotSame(manager.getHttpClient(false), manager.getHttpClient(true));
+        assertSame(manager.getHttpAsyncClient(false), manager.getHttpAsyncClient(false));
+    }
+
+    /**
+     * The changed proxy settings get their own pool.
+     */
+    @Test
+    public void testProxySettingsChangeThePool() {
+        HttpClientManager manager = HttpClientManager.get();
+        CloseableHttpClient direct = manager.getHttpClient(false);
+        try {
+            Configuration.set(HttpClientProxyUtils.HTTP_PROXY_HOST, "proxy.local");
+            Configuration.set(HttpClientProxyUtils.HTTP_PROXY_PORT, "3128");
+            assertNotSame(direct, manager.getHttpClient(false));
+        } finally {
+            Configuration.remove(HttpClientProxyUtils.HTTP_PROXY_HOST);
+            Configuration.remove(HttpClientProxyUtils.HTTP_PROXY_PORT);
+        }
+        assertSame(direct, manager.getHttpClient(false));
+    }
+
+    /**
+     * The connection is kept alive and returned to the pool after the response is consumed.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testConnectionIsReleasedAndReused() throws IOException {
+        HttpClientManager manager = HttpClientManager.get();
+        CloseableHttpClient client = manager.getHttpClient(false);
+        for (int i = 0; i < 3; i++) {
+            try (CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+                assertEquals(200, response.getStatusLine()
+                                          .getStatusCode());
+                assertEquals("pong", EntityUtils.toString(response.getEntity()));
+            }
+        }
+        PoolStats stats = getStats(manager, "sync ");
+        assertEquals(0, stats.getLeased());
+        assertEquals(1, stats.getAvailable());
+    }
+
+    /**
+     * The async client is started and its connections are pooled as well.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testAsyncClientIsStarted() throws Exception {
+        HttpClientManager manager = HttpClientManager.get();
+        CloseableHttpAsyncClient client = manager.getHttpAsyncClient(false);
+        assertTrue(client.isRunning());
+        Future<HttpResponse> future = client.execute(new HttpGet(url), null);
+        HttpResponse response = future.get(10, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatusLine()
+                                  .getStatusCode());
+        assertEquals("pong", EntityUtils.toString(response.getEntity()));
+        assertTrue(getStats(manager, "async ").getMax() > 0);
+    }
+
+    /**
+     * Gets the stats of the pool without proxy and SSL verification.
+     *
+     * @param manager the manager
+     * @param prefix the prefix of the pool
+     * @return the pool stats
+     */
+    private static PoolStats getStats(HttpClientManager manager, String prefix) {
+        String key = prefix + "PoolKey[trustAll=false, proxyHost=" + Configuration.get(HttpClientProxyUtils.HTTP_PROXY_HOST) + ",";
+        for (Map.Entry<String, PoolStats> entry : manager.getPoolStats()
+                                                         .entrySet()) {
+            if (entry.getKey()
+                     .startsWith(key)) {
+                return entry.getValue();
+            }
+        }
+        throw new AssertionError("No pool found for " + prefix);
+    }
+
+}
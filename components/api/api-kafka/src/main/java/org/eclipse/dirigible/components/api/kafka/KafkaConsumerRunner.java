@@ -15,22 +15,31 @@ import static java.text.MessageFormat.format;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * The Class KafkaConsumerRunner.
+ *
+ * In batch mode all the records of a poll are passed at once as an array to the
+ * <code>onMessages</code> function of the handler, which is loaded once in a warm runtime. The
+ * offsets are committed only if the handler succeeds, otherwise the consumer is rewound to the
+ * first record of the batch, so that the batch is polled again. After the configured count of
+ * retries the batch is passed to the <code>onError</code> function of the handler, if any, and is
+ * committed, so that a failing batch does not stall the partition.
  */
 public class KafkaConsumerRunner implements Runnable {
 
@@ -43,6 +52,12 @@ public class KafkaConsumerRunner implements Runnable {
     /** The Constant DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR. */
     private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR = "messaging/wrappers/onError";
 
+    /** The Constant DIRIGIBLE_KAFKA_BATCH_MAX_RETRIES. */
+    static final String DIRIGIBLE_KAFKA_BATCH_MAX_RETRIES = "DIRIGIBLE_KAFKA_BATCH_MAX_RETRIES";
+
+    /** The Constant DEFAULT_BATCH_MAX_RETRIES. */
+    private static final int DEFAULT_BATCH_MAX_RETRIES = 3;
+
     /** The stopped. */
     private final AtomicBoolean stopped = new AtomicBoolean(false);
 
@@ -58,8 +73,17 @@ public class KafkaConsumerRunner implements Runnable {
     /** The timeout. */
     private int timeout = 1000;
 
-    @Autowired
-    private JavascriptService javascriptService;
+    /** The batch mode. */
+    private final boolean batch;
+
+    /** The runtime of the handler in batch mode. */
+    private final KafkaHandlerRuntime runtime;
+
+    /** The max count of retries of a failed batch. */
+    private final int maxRetries;
+
+    /** The count of the consecutive failures of the current batch. */
+    private int failures;
 
     /**
      * Instantiates a new kafka consumer runner.
@@ -70,10 +94,41 @@ public class KafkaConsumerRunner implements Runnable {
      * @param timeout the timeout
      */
     public KafkaConsumerRunner(Consumer consumer, String name, String handler, int timeout) {
+        this(consumer, name, handler, timeout, false);
+    }
+
+    /**
+     * Instantiates a new kafka consumer runner.
+     *
+     * @param consumer the consumer, which does not auto commit in batch mode
+     * @param name the name
+     * @param handler the handler
+     * @param timeout the timeout
+     * @param batch the batch mode
+     */
+    public KafkaConsumerRunner(Consumer consumer, String name, String handler, int timeout, boolean batch) {
+        this(consumer, name, handler, timeout, batch && handler != null ? new KafkaHandlerRuntime(handler) : null,
+                Math.max(0, Configuration.getAsInt(DIRIGIBLE_KAFKA_BATCH_MAX_RETRIES, DEFAULT_BATCH_MAX_RETRIES)));
+    }
+
+    /**
+     * Instantiates a new kafka consumer runner.
+     *
+     * @param consumer the consumer
+     * @param name the name
+     * @param handler the handler
+     * @param timeout the timeout
+     * @param runtime the runtime of the handler in batch mode, or null for the single record mode
+     * @param maxRetries the max count of retries of a failed batch
+     */
+    KafkaConsumerRunner(Consumer consumer, String name, String handler, int timeout, KafkaHandlerRuntime runtime, int maxRetries) {
         this.consumer = consumer;
         this.name = name;
         this.handler = handler;
         this.timeout = timeout;
+        this.batch = runtime != null;
+        this.runtime = runtime;
+        this.maxRetries = maxRetries;
     }
 
     /**
@@ -88,6 +143,10 @@ public class KafkaConsumerRunner implements Runnable {
             consumer.subscribe(Arrays.asList(this.name));
             while (!stopped.get()) {
                 ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(this.timeout));
+                if (batch) {
+                    processBatch(records);
+                    continue;
+                }
                 for (ConsumerRecord<String, String> record : records) {
                     if (logger.isTraceEnabled()) {
                         logger.trace(format("Start processing a received record in [{0}] by [{1}] ...", this.name, this.handler));
@@ -106,7 +165,8 @@ public class KafkaConsumerRunner implements Runnable {
                             try {
                                 context.put("error", escapeCodeString(e.getMessage()));
                                 RepositoryPath path = new RepositoryPath(DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR);
-                                javascriptService.handleRequest(path.getSegments()[0], path.constructPathFrom(1), null, context, false);
+                                JavascriptService.get()
+                                                 .handleRequest(path.getSegments()[0], path.constructPathFrom(1), null, context, false);
                             } catch (Exception es) {
                                 if (logger.isErrorEnabled()) {
                                     logger.error(es.getMessage(), es);
@@ -130,10 +190,101 @@ public class KafkaConsumerRunner implements Runnable {
             if (!stopped.get())
                 throw e;
         } finally {
+            if (runtime != null) {
+                runtime.close();
+            }
             consumer.close();
         }
     }
 
+    /**
+     * Process the records of a poll as a batch.
+     *
+     * @param records the records
+     */
+    void processBatch(ConsumerRecords<String, String> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        String[] messages = new String[records.count()];
+        int i = 0;
+        for (ConsumerRecord<String, String> record : records) {
+            messages[i++] = GsonHelper.toJson(record);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace(format("Start processing [{0}] received records in [{1}] by [{2}] ...", messages.length, this.name, this.handler));
+        }
+        try {
+            runtime.invoke("onMessages", (Object) messages);
+        } catch (RuntimeException e) {
+            if (++failures <= maxRetries) {
+                if (logger.isErrorEnabled()) {
+                    logger.error(format("Failed to process [{0}] received records in [{1}] by [{2}], retry [{3}] of [{4}]", messages.length,
+                            this.name, this.handler, failures, maxRetries), e);
+                }
+                rewind(records);
+                return;
+            }
+            if (logger.isErrorEnabled()) {
+                logger.error(format("Failed to process [{0}] received records in [{1}] by [{2}] after [{3}] retries, the records are skipped",
+                        messages.length, this.name, this.handler, maxRetries), e);
+            }
+            handleBatchError(records, messages, e);
+        }
+        failures = 0;
+        consumer.commitSync();
+        if (logger.isTraceEnabled()) {
+            logger.trace(format("Done processing [{0}] received records in [{1}] by [{2}]", messages.length, this.name, this.handler));
+        }
+    }
+
+    /**
+     * Passes a batch, which has failed too many times, to the <code>onError</code> function of the
+     * handler. The batch is skipped also if there is no such function or if it fails too.
+     *
+     * @param records the records
+     * @param messages the messages
+     * @param error the error of the last attempt
+     */
+    private void handleBatchError(ConsumerRecords<String, String> records, String[] messages, RuntimeException error) {
+        try {
+            runtime.invoke("onError", messages, String.valueOf(error.getMessage()));
+        } catch (RuntimeException e) {
+            if (logger.isErrorEnabled()) {
+                for (TopicPartition partition : records.partitions()) {
+                    List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+                    logger.error(format("Skipped the records of [{0}] from offset [{1}] to [{2}], as the error handler of [{3}] failed",
+                            partition, partitionRecords.get(0)
+                                                       .offset(),
+                            partitionRecords.get(partitionRecords.size() - 1)
+                                            .offset(),
+                            this.handler), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewind the consumer to the first records of a failed batch, so that they are polled again after
+     * the timeout.
+     *
+     * @param records the records
+     */
+    private void rewind(ConsumerRecords<String, String> records) {
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+            consumer.seek(partition, partitionRecords.get(0)
+                                                     .offset());
+        }
+        try {
+            Thread.sleep(this.timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            stopped.set(true);
+        }
+    }
+
     /**
      * Stop the consumer.
      */
@@ -11,8 +11,10 @@
 
 package org.eclipse.dirigible.components.api.kafka;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -51,6 +53,21 @@ public class KafkaFacade {
     /** The Constant DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL. */
     private static final String DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL = "DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL";
 
+    /** The Constant DIRIGIBLE_KAFKA_LINGER_MS. */
+    private static final String DIRIGIBLE_KAFKA_LINGER_MS = "DIRIGIBLE_KAFKA_LINGER_MS";
+
+    /** The Constant DIRIGIBLE_KAFKA_BATCH_SIZE. */
+    private static final String DIRIGIBLE_KAFKA_BATCH_SIZE = "DIRIGIBLE_KAFKA_BATCH_SIZE";
+
+    /** The Constant DIRIGIBLE_KAFKA_MAX_POLL_RECORDS. */
+    private static final String DIRIGIBLE_KAFKA_MAX_POLL_RECORDS = "DIRIGIBLE_KAFKA_MAX_POLL_RECORDS";
+
+    /** The Constant CONFIGURATION_BATCH, enabling the batch mode of a consumer. */
+    private static final String CONFIGURATION_BATCH = "dirigible.batch";
+
+    /** The Constant CONFIGURATION_CONCURRENCY, the count of the consumers of a topic in the group. */
+    private static final String CONFIGURATION_CONCURRENCY = "dirigible.concurrency";
+
 
     /** The Constant DEFAULT_BOOTSTRAP_SERVER. */
     private static final String DEFAULT_BOOTSTRAP_SERVER = "localhost:9092";
@@ -75,7 +92,7 @@ public class KafkaFacade {
     private static Map<String, Producer<String, String>> PRODUCERS = Collections.synchronizedMap(new HashMap());
 
     /** The consumers. */
-    private static Map<String, KafkaConsumerRunner> CONSUMERS = Collections.synchronizedMap(new HashMap());
+    private static Map<String, List<KafkaConsumerRunner>> CONSUMERS = Collections.synchronizedMap(new HashMap());
 
     /**
      * Send a key-value pair to a topic.
@@ -125,6 +142,14 @@ public class KafkaFacade {
                 String valueSerializer = Configuration.get(DIRIGIBLE_KAFKA_VALUE_SERIALIZER, DIRIGIBLE_KAFKA_SERIALIZER_STRING);
                 props.put("value.serializer", valueSerializer);
             }
+            if (props.get("linger.ms") == null && Configuration.get(DIRIGIBLE_KAFKA_LINGER_MS) != null) {
+                // otherwise the client default, sending immediately
+                props.put("linger.ms", Configuration.get(DIRIGIBLE_KAFKA_LINGER_MS));
+            }
+            if (props.get("batch.size") == null && Configuration.get(DIRIGIBLE_KAFKA_BATCH_SIZE) != null) {
+                // otherwise the client default
+                props.put("batch.size", Configuration.get(DIRIGIBLE_KAFKA_BATCH_SIZE));
+            }
             producer = new KafkaProducer<>(props);
             PRODUCERS.put(server, producer);
             if (logger.isInfoEnabled()) {
@@ -169,7 +194,10 @@ public class KafkaFacade {
     }
 
     /**
-     * Start listening.
+     * Start listening. Besides the properties of the Kafka consumer, the configuration may contain
+     * <code>dirigible.batch</code> to pass the records of each poll at once to the
+     * <code>onMessages</code> function of the handler and commit their offsets after it succeeds, and
+     * <code>dirigible.concurrency</code> to start more than one consumer of the topic in the group.
      *
      * @param destination the destination
      * @param handler the handler
@@ -183,8 +211,7 @@ public class KafkaFacade {
 
         Map map = GsonHelper.fromJson(configuration, Map.class);
 
-        Consumer<String, String> consumer = null;
-        KafkaConsumerRunner consumerRunner = null;
+        List<KafkaConsumerRunner> consumerRunners = null;
 
         String location = null;
         String bootstrapServer = Configuration.get(DIRIGIBLE_KAFKA_BOOTSTRAP_SERVER, DEFAULT_BOOTSTRAP_SERVER);
@@ -192,9 +219,14 @@ public class KafkaFacade {
                                                                   .toString()
                 : bootstrapServer;
         location = createLocation(destination, server);
-        consumerRunner = CONSUMERS.get(location);
-
-        if (consumerRunner == null) {
+        consumerRunners = CONSUMERS.get(location);
+
+        if (consumerRunners == null) {
+            Object batchValue = map.remove(CONFIGURATION_BATCH);
+            boolean batch = batchValue != null && Boolean.parseBoolean(batchValue.toString());
+            Object concurrencyValue = map.remove(CONFIGURATION_CONCURRENCY);
+            // the numbers in the JSON configuration are parsed as doubles
+            int concurrency = concurrencyValue != null ? Math.max(1, (int) Double.parseDouble(concurrencyValue.toString())) : 1;
             Properties props = new Properties();
             for (Object k : map.keySet()) {
                 props.put(k, map.get(k));
@@ -207,7 +239,10 @@ public class KafkaFacade {
                 // default to handler
                 props.put("group.id", handler != null ? handler : destination);
             }
-            if (props.get("enable.auto.commit") == null) {
+            if (batch) {
+                // the offsets are committed after the batch is processed
+                props.put("enable.auto.commit", "false");
+            } else if (props.get("enable.auto.commit") == null) {
                 // autocommit
                 String enableAutoCommit = Configuration.get(DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED, DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED_DEFAULT);
                 props.put("enable.auto.commit", enableAutoCommit);
@@ -218,6 +253,10 @@ public class KafkaFacade {
                         Configuration.get(DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL, DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL_DEFAULT);
                 props.put("auto.commit.interval.ms", autoCommitInterval);
             }
+            if (props.get("max.poll.records") == null && Configuration.get(DIRIGIBLE_KAFKA_MAX_POLL_RECORDS) != null) {
+                // otherwise the client default
+                props.put("max.poll.records", Configuration.get(DIRIGIBLE_KAFKA_MAX_POLL_RECORDS));
+            }
             if (props.get("key.deserializer") == null) {
                 // default to org.apache.kafka.common.serialization.StringSerializer
                 String keySerializer = Configuration.get(DIRIGIBLE_KAFKA_KEY_SERIALIZER, DIRIGIBLE_KAFKA_SERIALIZER_STRING);
@@ -229,15 +268,19 @@ public class KafkaFacade {
                 props.put("value.deserializer", valueSerializer);
             }
 
-            consumer = new KafkaConsumer<>(props);
-
-            consumerRunner = new KafkaConsumerRunner(consumer, destination, handler, timeout);
-            Thread consumerThread = new Thread(consumerRunner);
-            consumerThread.setDaemon(false);
-            consumerThread.start();
-            CONSUMERS.put(location, consumerRunner);
+            consumerRunners = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                // the consumers of the same group share the partitions of the topic
+                Consumer<String, String> consumer = new KafkaConsumer<>(props);
+                KafkaConsumerRunner consumerRunner = new KafkaConsumerRunner(consumer, destination, handler, timeout, batch);
+                Thread consumerThread = new Thread(consumerRunner, "kafka-consumer-" + destination + "-" + i);
+                consumerThread.setDaemon(false);
+                consumerThread.start();
+                consumerRunners.add(consumerRunner);
+            }
+            CONSUMERS.put(location, consumerRunners);
             if (logger.isInfoEnabled()) {
-                logger.info("Kafka Consumer [{}] created.", location);
+                logger.info("Kafka Consumer [{}] created with [{}] consumers{}.", location, concurrency, batch ? " in batch mode" : "");
             }
         } else {
             if (logger.isWarnEnabled()) {
@@ -259,7 +302,7 @@ public class KafkaFacade {
 
         Map map = GsonHelper.fromJson(configuration, Map.class);
 
-        KafkaConsumerRunner consumerRunner = null;
+        List<KafkaConsumerRunner> consumerRunners = null;
 
         String location = null;
         String bootstrapServer = Configuration.get(DIRIGIBLE_KAFKA_BOOTSTRAP_SERVER, DEFAULT_BOOTSTRAP_SERVER);
@@ -267,10 +310,10 @@ public class KafkaFacade {
                                                                   .toString()
                 : bootstrapServer;
         location = createLocation(destination, server);
-        consumerRunner = CONSUMERS.get(location);
+        consumerRunners = CONSUMERS.get(location);
 
-        if (consumerRunner != null) {
-            consumerRunner.stop();
+        if (consumerRunners != null) {
+            consumerRunners.forEach(KafkaConsumerRunner::stop);
             CONSUMERS.remove(location);
         } else {
             if (logger.isWarnEnabled()) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.kafka;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.eclipse.dirigible.graalium.core.javascript.modules.ModuleType;
+import org.graalvm.polyglot.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A warm runtime of the handler of a Kafka consumer in batch mode. The handler module is loaded once
+ * and reused for the subsequent batches, until a batch fails, a publish happens or the configured
+ * count of invocations is reached. A runtime belongs to the thread of its consumer.
+ */
+class KafkaHandlerRuntime implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(KafkaHandlerRuntime.class);
+
+    /** The Constant DIRIGIBLE_KAFKA_RECYCLE_INVOCATIONS. */
+    private static final String DIRIGIBLE_KAFKA_RECYCLE_INVOCATIONS = "DIRIGIBLE_KAFKA_RECYCLE_INVOCATIONS";
+
+    /** The generation of the handlers, incremented on publish. */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /** The handler path. */
+    private final String handlerPath;
+
+    /** The runner. */
+    private DirigibleJavascriptCodeRunner runner;
+
+    /** The module. */
+    private Module module;
+
+    /** The generation of the loaded module. */
+    private long generation;
+
+    /** The invocations since the module has been loaded. */
+    private int invocations;
+
+    /**
+     * Instantiates a new kafka handler runtime.
+     *
+     * @param handler the handler module, as passed to require
+     */
+    KafkaHandlerRuntime(String handler) {
+        this.handlerPath = handler.endsWith(".js") || handler.endsWith(".mjs") || handler.endsWith(".ts") ? handler : handler + ".js";
+    }
+
+    /**
+     * Marks all the loaded handlers as stale, so that they are reloaded on their next invocation.
+     */
+    static void recycleAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Invoke a function of the handler module.
+     *
+     * @param methodName the method name
+     * @param args the args
+     * @throws IllegalStateException if the handler module does not export the function
+     */
+    void invoke(String methodName, Object... args) {
+        if (runner != null && generation != GENERATION.get()) {
+            close();
+        }
+        if (runner == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Loading Kafka handler [{}] ...", handlerPath);
+            }
+            generation = GENERATION.get();
+            runner = new DirigibleJavascriptCodeRunner();
+            module = runner.run(handlerPath);
+        }
+        if (!hasFunction(methodName)) {
+            throw new IllegalStateException("The Kafka handler [" + handlerPath + "] does not export a function [" + methodName + "]");
+        }
+        try {
+            runner.runMethod(module, methodName, args);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (++invocations >= Configuration.getAsInt(DIRIGIBLE_KAFKA_RECYCLE_INVOCATIONS, 1000)) {
+            close();
+        }
+    }
+
+    /**
+     * Checks whether the loaded module exports the function.
+     *
+     * @param methodName the method name
+     * @return true, if the function is exported
+     */
+    private boolean hasFunction(String methodName) {
+        Value exports = module.moduleType() == ModuleType.ESM ? module.module()
+                : module.module()
+                        .getContext()
+                        .getBindings("js")
+                        .getMember("exports");
+        Value function = exports != null && exports.hasMembers() ? exports.getMember(methodName) : null;
+        return function != null && function.canExecute();
+    }
+
+    /**
+     * Close.
+     */
+    @Override
+    public void close() {
+        if (runner != null) {
+            runner.close();
+            runner = null;
+            module = null;
+            invocations = 0;
+        }
+    }
+
+}
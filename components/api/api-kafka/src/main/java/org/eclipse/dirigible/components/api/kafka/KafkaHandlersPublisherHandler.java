@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.kafka;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recycles the warm runtimes of the Kafka handlers on publish, so that the handler code is reloaded
+ * on the next batch.
+ */
+@Component
+public class KafkaHandlersPublisherHandler implements PublisherHandler {
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        KafkaHandlerRuntime.recycleAll();
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        KafkaHandlerRuntime.recycleAll();
+    }
+
+}
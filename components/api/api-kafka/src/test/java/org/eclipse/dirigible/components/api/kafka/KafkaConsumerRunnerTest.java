@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class KafkaConsumerRunnerTest.
+ */
+public class KafkaConsumerRunnerTest {
+
+    /** The Constant TOPIC. */
+    private static final String TOPIC = "orders";
+
+    /** The Constant PARTITION. */
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    /** The consumer. */
+    private MockConsumer<String, String> consumer;
+
+    /** The handler runtime. */
+    private RecordingRuntime runtime;
+
+    /**
+     * Creates a consumer with three records in a single partition.
+     */
+    @BeforeEach
+    public void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        addRecords();
+        runtime = new RecordingRuntime();
+    }
+
+    /**
+     * The offsets are committed after the handler succeeds.
+     */
+    @Test
+    public void testCommitAfterSuccess() {
+        KafkaConsumerRunner runner = createRunner(3);
+
+        runner.processBatch(poll());
+
+        assertEquals(List.of("onMessages:3"), runtime.invocations);
+        assertEquals(3, getCommittedOffset());
+    }
+
+    /**
+     * A failed batch is not committed and is polled again from its first record.
+     */
+    @Test
+    public void testRetryAfterFailure() {
+        KafkaConsumerRunner runner = createRunner(3);
+        runtime.failures = 1;
+
+        runner.processBatch(poll());
+
+        assertNull(consumer.committed(Set.of(PARTITION))
+                           .get(PARTITION));
+        assertEquals(0, consumer.position(PARTITION));
+
+        addRecords();
+        ConsumerRecords<String, String> records = poll();
+        assertEquals(3, records.count());
+        runner.processBatch(records);
+
+        assertEquals(List.of("onMessages:3", "onMessages:3"), runtime.invocations);
+        assertEquals(3, getCommittedOffset());
+    }
+
+    /**
+     * A batch, which fails more than the max retries, is passed to the error handler and skipped.
+     */
+    @Test
+    public void testErrorHandlerAfterMaxRetries() {
+        KafkaConsumerRunner runner = createRunner(2);
+        runtime.failures = Integer.MAX_VALUE;
+
+        for (int i = 0; i < 3; i++) {
+            runner.processBatch(poll());
+            addRecords();
+        }
+
+        assertEquals(List.of("onMessages:3", "onMessages:3", "onMessages:3", "onError:3"), runtime.invocations);
+        assertEquals(3, getCommittedOffset());
+        assertEquals(0, poll().count());
+    }
+
+    /**
+     * A handler without the batch functions does not stall the partition.
+     */
+    @Test
+    public void testMissingHandlerFunctions() {
+        KafkaConsumerRunner runner = createRunner(0);
+        runtime.missing = true;
+
+        runner.processBatch(poll());
+
+        assertEquals(List.of("onMessages:3", "onError:3"), runtime.invocations);
+        assertEquals(3, getCommittedOffset());
+    }
+
+    /**
+     * Creates the runner in batch mode without a wait after a failure.
+     *
+     * @param maxRetries the max retries
+     * @return the kafka consumer runner
+     */
+    private KafkaConsumerRunner createRunner(int maxRetries) {
+        return new KafkaConsumerRunner(consumer, TOPIC, "handler", 0, runtime, maxRetries);
+    }
+
+    /**
+     * Adds the three records of the partition. The mock consumer drops the records on poll, hence
+     * they are added again to be polled after a rewind, as the broker would deliver them.
+     */
+    private void addRecords() {
+        for (int i = 0; i < 3; i++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, "key" + i, "value" + i));
+        }
+    }
+
+    /**
+     * Polls the consumer.
+     *
+     * @return the consumer records
+     */
+    private ConsumerRecords<String, String> poll() {
+        return consumer.poll(Duration.ZERO);
+    }
+
+    /**
+     * Gets the committed offset of the partition.
+     *
+     * @return the committed offset
+     */
+    private long getCommittedOffset() {
+        OffsetAndMetadata committed = consumer.committed(Set.of(PARTITION))
+                                              .get(PARTITION);
+        return committed.offset();
+    }
+
+    /**
+     * The runtime recording the invocations instead of running a handler module.
+     */
+    private static class RecordingRuntime extends KafkaHandlerRuntime {
+
+        /** The invocations. */
+        private final List<String> invocations = new ArrayList<>();
+
+        /** The count of the failing invocations of onMessages. */
+        private int failures;
+
+        /** Whether the handler module does not export any function. */
+        private boolean missing;
+
+        /**
+         * Instantiates a new recording runtime.
+         */
+        RecordingRuntime() {
+            super("handler");
+        }
+
+        /**
+         * Invoke.
+         *
+         * @param methodName the method name
+         * @param args the args
+         */
+        @Override
+        void invoke(String methodName, Object... args) {
+            invocations.add(methodName + ":" + ((String[]) args[0]).length);
+            if (missing) {
+                throw new IllegalStateException("The Kafka handler [handler.js] does not export a function [" + methodName + "]");
+            }
+            if ("onMessages".equals(methodName) && failures > 0) {
+                failures--;
+                throw new IllegalStateException("Failed");
+            }
+        }
+    }
+
+}
@@ -27,6 +27,53 @@ export class Query {
 		const resultset = DatabaseFacade.query(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
 		return JSON.parse(resultset);
 	}
+
+	/**
+	 * Executes the query and returns a cursor over the result rows, which are fetched from the database in chunks.
+	 * The cursor must be closed, unless it is iterated to the end.
+	 */
+	public static cursor(sql: string, parameters?: (string | number | boolean | Date | QueryParameter)[], datasourceName?: string): QueryCursor {
+		const native = DatabaseFacade.queryCursor(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+		return new QueryCursor(native);
+	}
+
+	/**
+	 * Executes the query and writes the result as JSON array directly to the response of the current request.
+	 */
+	public static stream(sql: string, parameters?: (string | number | boolean | Date | QueryParameter)[], datasourceName?: string): void {
+		DatabaseFacade.queryToResponse(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+	}
+}
+
+export class QueryCursor implements Iterable<any> {
+
+	private readonly native: any;
+
+	constructor(native: any) {
+		this.native = native;
+	}
+
+	public hasNext(): boolean {
+		return this.native.hasNext();
+	}
+
+	public next(): any {
+		return JSON.parse(this.native.next());
+	}
+
+	public close(): void {
+		this.native.close();
+	}
+
+	public *[Symbol.iterator](): Iterator<any> {
+		try {
+			while (this.hasNext()) {
+				yield this.next();
+			}
+		} finally {
+			this.close();
+		}
+	}
 }
 
 // @ts-ignore
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.artefact.topology;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Class ParallelTopologicalDepleter.
+ *
+ * Depletes the independent depletables concurrently on the given executor. A depletable is started
+ * once all of its dependencies in the list have been completed. A failed depletable is started again
+ * only after some other depletable has been completed since its last start, hence the result is the
+ * same as the one of the sequential {@link TopologicalDepleter}. The dependencies are taken from the
+ * depletables, which are also {@link TopologicallySortable}. In the prepare phase the dependents are
+ * completed before their dependencies, the same as in the reversed topological order.
+ *
+ * @param <T> the generic type
+ */
+public class ParallelTopologicalDepleter<T extends TopologicallyDepletable> extends TopologicalDepleter<T> {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ParallelTopologicalDepleter.class);
+
+    /** The executor. */
+    private final ExecutorService executor;
+
+    /**
+     * Instantiates a new parallel topological depleter.
+     *
+     * @param executor the executor
+     */
+    public ParallelTopologicalDepleter(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Deplete.
+     *
+     * @param list the list
+     * @param flow the flow
+     * @return the list
+     */
+    @Override
+    public List<T> deplete(List<T> list, ArtefactPhase flow) {
+        List<Entry<T>> entries = createEntries(list, ArtefactPhase.PREPARE.equals(flow));
+        CompletionService<Entry<T>> completionService = new ExecutorCompletionService<>(executor);
+        long completed = 0;
+        int running = 0;
+        try {
+            while (true) {
+                for (Entry<T> entry : entries) {
+                    if (entry.isReady(completed)) {
+                        start(completionService, entry, completed, flow);
+                        running++;
+                    }
+                }
+                if (running == 0) {
+                    // the remaining ones wait for dependencies, which have not been completed, so try them anyway
+                    for (Entry<T> entry : entries) {
+                        if (!entry.done && entry.startedAt < 0) {
+                            start(completionService, entry, completed, flow);
+                            running++;
+                        }
+                    }
+                    if (running == 0) {
+                        break;
+                    }
+                }
+                Entry<T> entry = completionService.take()
+                                                  .get();
+                running--;
+                entry.running = false;
+                if (entry.success) {
+                    entry.done = true;
+                    completed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.error("Interrupted while depleting in phase: " + flow, e);
+            awaitRunning(completionService, running, flow);
+            Thread.currentThread()
+                  .interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Failed to deplete in phase: " + flow, e);
+            awaitRunning(completionService, running - 1, flow);
+        }
+        List<T> depletables = new ArrayList<>();
+        for (Entry<T> entry : entries) {
+            if (!entry.done) {
+                depletables.add(entry.depletable);
+            }
+        }
+        return depletables;
+    }
+
+    /**
+     * Waits for the depletables, which are still running after a failure, so that none of them is
+     * running once the depletion has returned.
+     *
+     * @param completionService the completion service
+     * @param running the count of the running depletables
+     * @param flow the flow
+     */
+    private void awaitRunning(CompletionService<Entry<T>> completionService, int running, ArtefactPhase flow) {
+        boolean interrupted = false;
+        while (running > 0) {
+            try {
+                Entry<T> entry = completionService.take()
+                                                  .get();
+                entry.running = false;
+                if (entry.success) {
+                    entry.done = true;
+                }
+                running--;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                logger.error("Failed to deplete in phase: " + flow, e);
+                running--;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * Creates the entries.
+     *
+     * @param list the list
+     * @param reverse whether the dependents have to be completed first
+     * @return the list
+     */
+    private List<Entry<T>> createEntries(List<T> list, boolean reverse) {
+        List<Entry<T>> entries = new ArrayList<>(list.size());
+        Map<String, Entry<T>> entriesById = new HashMap<>();
+        for (T depletable : list) {
+            Entry<T> entry = new Entry<>(depletable);
+            entries.add(entry);
+            entriesById.put(depletable.getId(), entry);
+        }
+        for (Entry<T> entry : entries) {
+            if (entry.depletable instanceof TopologicallySortable sortable) {
+                for (TopologicallySortable dependency : sortable.getDependencies()) {
+                    Entry<T> other = entriesById.get(dependency.getId());
+                    if (other != null && other != entry) {
+                        if (reverse) {
+                            other.waitsFor.add(entry);
+                        } else {
+                            entry.waitsFor.add(other);
+                        }
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Start.
+     *
+     * @param completionService the completion service
+     * @param entry the entry
+     * @param completed the count of the completed depletables
+     * @param flow the flow
+     */
+    private void start(CompletionService<Entry<T>> completionService, Entry<T> entry, long completed, ArtefactPhase flow) {
+        entry.running = true;
+        entry.startedAt = completed;
+        completionService.submit(() -> {
+            try {
+                entry.success = entry.depletable.complete(flow);
+            } catch (RuntimeException e) {
+                logger.error("Failed to complete: " + entry.depletable.getId(), e);
+                entry.success = false;
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * The depletion state of a depletable.
+     *
+     * @param <T> the generic type
+     */
+    private static class Entry<T extends TopologicallyDepletable> {
+
+        /** The depletable. */
+        private final T depletable;
+
+        /** The entries to be completed before this one. */
+        private final List<Entry<T>> waitsFor = new ArrayList<>();
+
+        /** The done. */
+        private boolean done;
+
+        /** The running. */
+        private boolean running;
+
+        /** The success of the last run. */
+        private volatile boolean success;
+
+        /** The count of the completed depletables at the last start, or -1 if not started yet. */
+        private long startedAt = -1;
+
+        /**
+         * Instantiates a new entry.
+         *
+         * @param depletable the depletable
+         */
+        Entry(T depletable) {
+            this.depletable = depletable;
+        }
+
+        /**
+         * Checks if is ready to be started.
+         *
+         * @param completed the count of the completed depletables
+         * @return true, if is ready
+         */
+        boolean isReady(long completed) {
+            if (done || running) {
+                return false;
+            }
+            if (startedAt >= 0) {
+                return completed > startedAt;
+            }
+            for (Entry<T> dependency : waitsFor) {
+                if (!dependency.done) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.components.base.publisher;
 
+import java.util.Set;
+
 /**
  * The Interface PublisherHandler.
  */
@@ -52,8 +54,31 @@ public interface PublisherHandler {
      * @param projectName the project name
      * @param entryPath the entry path
      * @param isDirectory whether is a directory
+     * @param changedPaths the registry paths created, updated or deleted by the publish, or null if
+     *        the whole location has been copied
      */
-    record AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory) {
+    record AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory, Set<String> changedPaths) {
+
+        /**
+         * Instantiates a new after publish metadata for a publish, which has copied the whole location.
+         *
+         * @param workspace the workspace location
+         * @param projectName the project name
+         * @param entryPath the entry path
+         * @param isDirectory whether is a directory
+         */
+        public AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory) {
+            this(workspace, projectName, entryPath, isDirectory, null);
+        }
+
+        /**
+         * Checks whether the changed paths are known.
+         *
+         * @return true, if only the changed paths have been published
+         */
+        public boolean isDelta() {
+            return changedPaths != null;
+        }
     }
 
 }
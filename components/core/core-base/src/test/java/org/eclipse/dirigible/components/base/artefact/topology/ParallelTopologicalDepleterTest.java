@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.artefact.topology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicalDepleterTest.DepletableNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ParallelTopologicalDepleterTest.
+ */
+public class ParallelTopologicalDepleterTest {
+
+    /** The executor. */
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    /**
+     * Shutdown.
+     */
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test depleted.
+     */
+    @Test
+    public void testDepleted() {
+        List<DepletableNode> list = new ArrayList<>();
+        list.add(new DepletableNode("G", 5));
+        list.add(new DepletableNode("B", 3));
+        list.add(new DepletableNode("H", 1));
+        list.add(new DepletableNode("A", 0));
+        list.add(new DepletableNode("D", 0));
+        list.add(new DepletableNode("E", 4));
+        list.add(new DepletableNode("F", 3));
+        list.add(new DepletableNode("I", 1));
+        list.add(new DepletableNode("C", 2));
+
+        List<DepletableNode> results = new ParallelTopologicalDepleter<DepletableNode>(executor).deplete(list, ArtefactPhase.CREATE);
+
+        assertEquals(0, results.size());
+    }
+
+    /**
+     * Test not depleted.
+     */
+    @Test
+    public void testNotDepleted() {
+        List<DepletableNode> list = new ArrayList<>();
+        list.add(new DepletableNode("G", 5));
+        list.add(new DepletableNode("B", 3));
+        list.add(new DepletableNode("H", 1));
+        list.add(new DepletableNode("A", 0));
+        list.add(new DepletableNode("D", 8));
+        list.add(new DepletableNode("E", 4));
+        list.add(new DepletableNode("F", 3));
+        list.add(new DepletableNode("I", 1));
+        list.add(new DepletableNode("C", 2));
+
+        List<DepletableNode> results = new ParallelTopologicalDepleter<DepletableNode>(executor).deplete(list, ArtefactPhase.CREATE);
+
+        assertEquals(1, results.size());
+        assertEquals("D", results.get(0)
+                                 .getId());
+    }
+
+    /**
+     * Test the dependencies are completed before their dependents and after them in the prepare phase.
+     */
+    @Test
+    public void testDependencies() {
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        DependentNode nodeA = new DependentNode("A", completed);
+        DependentNode nodeB = new DependentNode("B", completed, nodeA);
+        DependentNode nodeC = new DependentNode("C", completed, nodeA);
+        DependentNode nodeD = new DependentNode("D", completed, nodeB, nodeC);
+        List<DependentNode> list = List.of(nodeD, nodeC, nodeB, nodeA);
+
+        ParallelTopologicalDepleter<DependentNode> depleter = new ParallelTopologicalDepleter<>(executor);
+        assertTrue(depleter.deplete(list, ArtefactPhase.CREATE)
+                           .isEmpty());
+        assertEquals("A", completed.get(0));
+        assertEquals("D", completed.get(3));
+
+        completed.clear();
+        assertTrue(depleter.deplete(list, ArtefactPhase.PREPARE)
+                           .isEmpty());
+        assertEquals("D", completed.get(0));
+        assertEquals("A", completed.get(3));
+    }
+
+    /**
+     * Test the running depletables are completed before returning, when another one has failed with an
+     * error.
+     */
+    @Test
+    public void testAwaitRunningOnError() {
+        AtomicBoolean finished = new AtomicBoolean();
+        TopologicallyDepletable failing = new TopologicallyDepletable() {
+
+            @Override
+            public String getId() {
+                return "A";
+            }
+
+            @Override
+            public boolean complete(ArtefactPhase flow) {
+                throw new AssertionError("Fatal");
+            }
+        };
+        TopologicallyDepletable slow = new TopologicallyDepletable() {
+
+            @Override
+            public String getId() {
+                return "B";
+            }
+
+            @Override
+            public boolean complete(ArtefactPhase flow) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                    return false;
+                }
+                finished.set(true);
+                return true;
+            }
+        };
+
+        List<TopologicallyDepletable> results =
+                new ParallelTopologicalDepleter<>(executor).deplete(List.of(failing, slow), ArtefactPhase.CREATE);
+
+        assertTrue(finished.get());
+        assertEquals(1, results.size());
+        assertEquals("A", results.get(0)
+                                 .getId());
+    }
+
+    /**
+     * The Class DependentNode.
+     */
+    public static class DependentNode implements TopologicallySortable, TopologicallyDepletable {
+
+        /** The id. */
+        private final String id;
+
+        /** The completed ids. */
+        private final List<String> completed;
+
+        /** The dependencies. */
+        private final List<TopologicallySortable> dependencies;
+
+        /**
+         * Instantiates a new dependent node.
+         *
+         * @param id the id
+         * @param completed the completed ids
+         * @param dependencies the dependencies
+         */
+        public DependentNode(String id, List<String> completed, TopologicallySortable... dependencies) {
+            this.id = id;
+            this.completed = completed;
+            this.dependencies = List.of(dependencies);
+        }
+
+        /**
+         * Gets the id.
+         *
+         * @return the id
+         */
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Gets the dependencies.
+         *
+         * @return the dependencies
+         */
+        @Override
+        public List<TopologicallySortable> getDependencies() {
+            return dependencies;
+        }
+
+        /**
+         * Complete.
+         *
+         * @param flow the flow
+         * @return true, if successful
+         */
+        @Override
+        public boolean complete(ArtefactPhase flow) {
+            completed.add(id);
+            return true;
+        }
+
+    }
+
+}
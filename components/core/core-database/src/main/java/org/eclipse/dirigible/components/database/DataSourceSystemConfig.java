@@ -67,6 +67,11 @@ public class DataSourceSystemConfig {
         Properties properties = new Properties();
         properties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
         properties.setProperty("hibernate.hbm2ddl.auto", "update");
+        // only the updates are batched for the entities with IDENTITY ids, since Hibernate has to
+        // execute their inserts one by one to read the generated ids
+        properties.setProperty("hibernate.jdbc.batch_size", Configuration.get("DIRIGIBLE_DATABASE_SYSTEM_BATCH_SIZE", "50"));
+        properties.setProperty("hibernate.order_inserts", "true");
+        properties.setProperty("hibernate.order_updates", "true");
         em.setJpaProperties(properties);
 
         return em;
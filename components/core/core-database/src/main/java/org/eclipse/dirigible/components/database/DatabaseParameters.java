@@ -18,6 +18,9 @@ public interface DatabaseParameters {
     /** The Constant DIRIGIBLE_DATABASE_DEFAULT_QUERY_LIMIT. */
     public static final String DIRIGIBLE_DATABASE_DEFAULT_QUERY_LIMIT = "DIRIGIBLE_DATABASE_DEFAULT_QUERY_LIMIT";
 
+    /** The Constant DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE. */
+    public static final String DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE = "DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE";
+
     /** DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT. */
     public static final String DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT = "DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT"; //$NON-NLS-1$
 
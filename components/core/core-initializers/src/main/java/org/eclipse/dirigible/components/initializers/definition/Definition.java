@@ -83,6 +83,14 @@ public class Definition extends Auditable<String> implements Serializable {
     @Expose
     protected String message;
 
+    /** The size of the file at the last check. */
+    @Column(name = "DEFINITION_SIZE", nullable = true)
+    protected Long size;
+
+    /** The last modified time of the file at the last check. */
+    @Column(name = "DEFINITION_LAST_MODIFIED", nullable = true)
+    protected Long lastModified;
+
     /** The content. */
     @Transient
     private transient byte[] content;
@@ -208,10 +216,22 @@ public class Definition extends Auditable<String> implements Serializable {
      */
     public void updateKey() {
         if (this.type != null && this.location != null && this.name != null) {
-            this.key = this.type + KEY_SEPARATOR + this.location + KEY_SEPARATOR + this.name;
+            this.key = buildKey(this.type, this.location, this.name);
         }
     }
 
+    /**
+     * Builds the key.
+     *
+     * @param type the type
+     * @param location the location
+     * @param name the name
+     * @return the key
+     */
+    public static String buildKey(String type, String location, String name) {
+        return type + KEY_SEPARATOR + location + KEY_SEPARATOR + name;
+    }
+
     /**
      * Gets the checksum.
      *
@@ -284,6 +304,54 @@ public class Definition extends Auditable<String> implements Serializable {
         }
     }
 
+    /**
+     * Gets the size.
+     *
+     * @return the size
+     */
+    public Long getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the size.
+     *
+     * @param size the new size
+     */
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the last modified.
+     *
+     * @return the last modified
+     */
+    public Long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Sets the last modified.
+     *
+     * @param lastModified the new last modified
+     */
+    public void setLastModified(Long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Checks whether the file has the same size and last modified time as at the last check.
+     *
+     * @param size the size
+     * @param lastModified the last modified
+     * @return true, if the same
+     */
+    public boolean hasFileAttributes(long size, long lastModified) {
+        return this.size != null && this.lastModified != null && this.size == size && this.lastModified == lastModified
+                && this.checksum != null && !this.checksum.isEmpty();
+    }
+
     /**
      * Gets the content.
      *
@@ -310,8 +378,8 @@ public class Definition extends Auditable<String> implements Serializable {
     @Override
     public String toString() {
         return "Definition [id=" + id + ", location=" + location + ", name=" + name + ", type=" + type + ", key=" + key + ", checksum="
-                + checksum + ", state=" + state + ", message=" + message + ", createdBy=" + createdBy + ", createdAt=" + createdAt
-                + ", updatedBy=" + updatedBy + ", updatedAt=" + updatedAt + "]";
+                + checksum + ", size=" + size + ", lastModified=" + lastModified + ", state=" + state + ", message=" + message
+                + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy=" + updatedBy + ", updatedAt=" + updatedAt + "]";
     }
 
 }
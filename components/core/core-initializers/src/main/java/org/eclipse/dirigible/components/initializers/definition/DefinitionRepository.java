@@ -25,7 +25,7 @@ public interface DefinitionRepository extends JpaRepository<Definition, Long> {
 
     @Modifying
     @Transactional
-    @Query("update Definition d set d.checksum = :checksum where d.type in :types")
+    @Query("update Definition d set d.checksum = :checksum, d.size = null, d.lastModified = null where d.type in :types")
     void updateChecksums(String checksum, Set<String> types);
 
 }
@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.components.initializers.definition;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -113,6 +115,22 @@ public class DefinitionService {
         return definitionRepository.saveAndFlush(definition);
     }
 
+    /**
+     * Save all the definitions in a new transaction, which is rolled back as a whole on failure. The
+     * updates are sent in JDBC batches, while the inserts of the new definitions are executed one by
+     * one, since their ids are generated by the database (IDENTITY) and Hibernate disables the
+     * batching of such inserts.
+     *
+     * @param definitions the definitions
+     * @return the saved definitions
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public List<Definition> saveAll(Collection<Definition> definitions) {
+        List<Definition> saved = definitionRepository.saveAll(definitions);
+        definitionRepository.flush();
+        return saved;
+    }
+
     /**
      * Delete.
      *
@@ -21,9 +21,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.dirigible.commons.config.Configuration;
@@ -31,6 +38,7 @@ import org.eclipse.dirigible.components.api.platform.ProblemsFacade;
 import org.eclipse.dirigible.components.base.artefact.Artefact;
 import org.eclipse.dirigible.components.base.artefact.ArtefactLifecycle;
 import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.artefact.topology.ParallelTopologicalDepleter;
 import org.eclipse.dirigible.components.base.artefact.topology.TopologicalDepleter;
 import org.eclipse.dirigible.components.base.artefact.topology.TopologicalSorter;
 import org.eclipse.dirigible.components.base.artefact.topology.TopologyFactory;
@@ -62,6 +70,18 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(SynchronizationProcessor.class);
 
+    /** The Constant DIRIGIBLE_SYNCHRONIZER_INCREMENTAL. */
+    private static final String DIRIGIBLE_SYNCHRONIZER_INCREMENTAL = "DIRIGIBLE_SYNCHRONIZER_INCREMENTAL";
+
+    /** The Constant MODIFICATION_PRECISION in milliseconds. */
+    private static final long MODIFICATION_PRECISION = 2000;
+
+    /** The Constant DIRIGIBLE_SYNCHRONIZER_PARALLEL. */
+    private static final String DIRIGIBLE_SYNCHRONIZER_PARALLEL = "DIRIGIBLE_SYNCHRONIZER_PARALLEL";
+
+    /** The Constant DIRIGIBLE_SYNCHRONIZER_PARALLEL_THREADS. */
+    private static final String DIRIGIBLE_SYNCHRONIZER_PARALLEL_THREADS = "DIRIGIBLE_SYNCHRONIZER_PARALLEL_THREADS";
+
     /** The definitions. */
     private final Map<Synchronizer<? extends Artefact, ?>, Map<String, Definition>> definitions =
             Collections.synchronizedMap(new HashMap<>());
@@ -93,6 +113,15 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The processing. */
     private final AtomicBoolean processing = new AtomicBoolean(false);
 
+    /** The known definitions by key, preloaded for a full walk of the registry. */
+    private volatile Map<String, Definition> preloadedDefinitions;
+
+    /** The definitions with changed state, which are saved at once at the end of each stage. */
+    private final Map<String, Definition> changedDefinitions = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /** The executor of the parallel processing, created on first use. */
+    private ExecutorService parallelExecutor;
+
     /**
      * Instantiates a new synchronization processor.
      *
@@ -164,10 +193,27 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             // prepare map
             synchronizers.forEach(s -> definitions.put(s, Collections.synchronizedMap(new HashMap<>())));
 
+            SynchronizationWatcher.Changes changes = synchronizationWatcher.takeChanges();
+            boolean incremental = initialized.get() && !changes.full()
+                    && Boolean.parseBoolean(Configuration.get(DIRIGIBLE_SYNCHRONIZER_INCREMENTAL, Boolean.TRUE.toString()));
+            Set<String> deletedLocations = new HashSet<>();
+
+            if (!incremental) {
+                preloadDefinitions();
+            }
+
             logger.trace("Collecting files...");
 
             // collect definitions for processing
-            collectFiles();
+            if (incremental) {
+                logger.debug("Collecting {} changed locations: {}", changes.locations()
+                                                                           .size(),
+                        changes.locations());
+                collectChangedFiles(changes.locations(), deletedLocations);
+            } else {
+                collectFiles();
+            }
+            flushDefinitions();
 
             logger.debug("Collecting files done. {} known types of definitions collected - {}.", synchronizers.size(),
                     synchronizers.stream()
@@ -176,10 +222,22 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             logger.trace("Loading definitions...");
 
             // mark the deleted definitions, which previousely processed
-            markDeleted();
+            if (incremental) {
+                markDeleted(deletedLocations);
+            } else {
+                markDeleted();
+            }
+            flushDefinitions();
 
             // parse definitions to artefacts
             parseDefinitions();
+            flushDefinitions();
+            preloadedDefinitions = null;
+
+            // retry the failed artefacts, e.g. when their missing dependencies have been published
+            if (incremental) {
+                addFailedArtefacts();
+            }
 
             int countNew = 0;
             int countModified = 0;
@@ -200,7 +258,9 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             if (countNew > 0 || countModified > 0 || !initialized.get()) {
 
                 TopologicalSorter<TopologyWrapper<? extends Artefact>> sorter = new TopologicalSorter<>();
-                TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter = new TopologicalDepleter<>();
+                boolean parallel = isParallel();
+                TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter =
+                        parallel ? new ParallelTopologicalDepleter<>(getParallelExecutor()) : new TopologicalDepleter<>();
 
                 Collection<? extends Artefact> values = artefacts.values();
                 List<TopologyWrapper<? extends Artefact>> wrappers = TopologyFactory.wrap(values, synchronizers);
@@ -336,7 +396,10 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                                 logger.error(warnMessage);
                                 break;
                             }
-                            Thread.sleep(crossRetryInterval);
+                            if (!parallel) {
+                                // the parallel depleter already retries as soon as any dependency is completed
+                                Thread.sleep(crossRetryInterval);
+                            }
                         }
                     } catch (Exception e) {
                         logger.error("Error occurred while cross-processing of undepleated artefacts", e);
@@ -389,15 +452,44 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                         artefacts.size(), countCreated + countUpdated, countCreated, countUpdated, countFailed);
             }
             // clear maps
+            flushDefinitions();
+            preloadedDefinitions = null;
             definitions.clear();
             artefacts.clear();
 
-            synchronizationWatcher.reset();
             initialized.set(true);
             processing.set(false);
         }
     }
 
+    /**
+     * Checks if the artefacts are processed in parallel.
+     *
+     * @return true, if parallel
+     */
+    private static boolean isParallel() {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_SYNCHRONIZER_PARALLEL, Boolean.FALSE.toString()));
+    }
+
+    /**
+     * Gets the executor of the parallel processing.
+     *
+     * @return the executor
+     */
+    private synchronized ExecutorService getParallelExecutor() {
+        if (parallelExecutor == null) {
+            int threads = Configuration.getAsInt(DIRIGIBLE_SYNCHRONIZER_PARALLEL_THREADS, Runtime.getRuntime()
+                                                                                                   .availableProcessors());
+            AtomicInteger counter = new AtomicInteger();
+            parallelExecutor = Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "synchronizer-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return parallelExecutor;
+    }
+
     /**
      * Prepare.
      */
@@ -421,6 +513,71 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         }
     }
 
+    /**
+     * Collect the changed files only. The changed folders are walked, while the not existing locations
+     * are collected as deleted.
+     *
+     * @param locations the changed locations
+     * @param deletedLocations the deleted locations
+     */
+    private void collectChangedFiles(Set<String> locations, Set<String> deletedLocations) {
+        String registryFolder = getRegistryFolder();
+        SynchronizationWalker synchronizationWalker = new SynchronizationWalker(this);
+        for (String location : locations) {
+            Path path = Path.of(registryFolder + location.replace(IRepository.SEPARATOR, File.separator));
+            try {
+                if (Files.isDirectory(path)) {
+                    synchronizationWalker.walk(registryFolder, path);
+                } else if (Files.exists(path)) {
+                    checkFile(path, Files.readAttributes(path, BasicFileAttributes.class), location);
+                } else {
+                    deletedLocations.add(location);
+                }
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+                addError(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Mark deleted the definitions at or under the given locations.
+     *
+     * @param deletedLocations the deleted locations
+     */
+    private void markDeleted(Set<String> deletedLocations) {
+        if (deletedLocations.isEmpty()) {
+            return;
+        }
+        Collection<Definition> existings = getAllDefinitions();
+        for (Definition existing : existings) {
+            if (!existing.getState()
+                         .equals(DefinitionState.DELETED)
+                    && isAtOrUnder(existing.getLocation(), deletedLocations)) {
+                registerDeleteState(existing);
+            }
+        }
+    }
+
+    /**
+     * Checks if the location is one of the given locations or under one of them.
+     *
+     * @param location the location
+     * @param locations the locations
+     * @return true, if is at or under
+     */
+    private static boolean isAtOrUnder(String location, Set<String> locations) {
+        if (location == null) {
+            return false;
+        }
+        for (String next : locations) {
+            if (location.equals(next) || location.startsWith(next + IRepository.SEPARATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Mark deleted.
      */
@@ -433,7 +590,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                 found.put(definition.getLocation(), definition);
             }
         }
-        List<Definition> existings = definitionService.getAll();
+        Collection<Definition> existings = getAllDefinitions();
         for (Definition existing : existings) {
             if (found.get(existing.getLocation()) == null && !existing.getState()
                                                                       .equals(DefinitionState.DELETED)) {
@@ -452,7 +609,8 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             Collection<Definition> immutableDefinitions = Collections.synchronizedCollection(map.values());
             for (Definition definition : immutableDefinitions) {
                 try {
-                    if (definition.getContent() == null) {
+                    if (definition.getContent() == null && !DefinitionState.PARSED.equals(definition.getState())
+                            && !DefinitionState.BROKEN.equals(definition.getState())) {
                         String error = String.format("Content of %s has not been loaded correctly", definition.getLocation());
                         registerBrokenState(definition, error);
                         continue;
@@ -514,6 +672,100 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         }
     }
 
+    /**
+     * Adds the artefacts, which have failed in the previous synchronizations, e.g. because of a missing
+     * dependency. Their definitions are not changed, hence they are not collected by an incremental
+     * synchronization, while a full one retrieves them together with all the other known artefacts.
+     */
+    private void addFailedArtefacts() {
+        for (Synchronizer<? extends Artefact, ?> synchronizer : synchronizers) {
+            List<? extends Artefact> failed = synchronizer.getService()
+                                                          .getAll()
+                                                          .stream()
+                                                          .filter(a -> synchronizer.isAccepted(a.getType())
+                                                                  && ArtefactLifecycle.FAILED.equals(a.getLifecycle())
+                                                                  && !artefacts.containsKey(a.getKey()))
+                                                          .collect(Collectors.toList());
+            if (!failed.isEmpty()) {
+                logger.debug("Retrying {} failed artefacts of type: {}", failed.size(), synchronizer.getArtefactType());
+                addArtefacts(failed);
+            }
+        }
+    }
+
+    /**
+     * Preload all the known definitions.
+     */
+    private void preloadDefinitions() {
+        Map<String, Definition> map = new HashMap<>();
+        for (Definition definition : definitionService.getAll()) {
+            map.put(definition.getKey(), definition);
+        }
+        preloadedDefinitions = map;
+    }
+
+    /**
+     * Gets all the known definitions.
+     *
+     * @return the definitions
+     */
+    private Collection<Definition> getAllDefinitions() {
+        Map<String, Definition> preloaded = preloadedDefinitions;
+        return preloaded != null ? new ArrayList<>(preloaded.values()) : definitionService.getAll();
+    }
+
+    /**
+     * Find a known definition by key.
+     *
+     * @param key the key
+     * @return the definition or null
+     */
+    private Definition findDefinition(String key) {
+        Map<String, Definition> preloaded = preloadedDefinitions;
+        return preloaded != null ? preloaded.get(key) : definitionService.findByKey(key);
+    }
+
+    /**
+     * Stage a definition with changed state to be saved at the end of the current stage.
+     *
+     * @param definition the definition
+     */
+    private void stageDefinition(Definition definition) {
+        changedDefinitions.put(definition.getKey(), definition);
+    }
+
+    /**
+     * Save the staged definitions at once, or one by one if the batch fails. The failed batch is rolled
+     * back before the definitions are saved one by one.
+     */
+    private void flushDefinitions() {
+        List<Definition> staged;
+        synchronized (changedDefinitions) {
+            staged = new ArrayList<>(changedDefinitions.values());
+            changedDefinitions.clear();
+        }
+        if (staged.isEmpty()) {
+            return;
+        }
+        List<Definition> created = staged.stream()
+                                         .filter(d -> d.getId() == null)
+                                         .collect(Collectors.toList());
+        try {
+            definitionService.saveAll(staged);
+        } catch (Exception e) {
+            logger.warn("Failed to save [{}] definitions at once, saving them one by one", staged.size(), e);
+            // the batch has been rolled back, hence the ids assigned to the new definitions are not valid
+            created.forEach(d -> d.setId(null));
+            for (Definition definition : staged) {
+                try {
+                    definitionService.save(definition);
+                } catch (Exception ex) {
+                    logger.error("Failed to save definition: " + definition.getKey(), ex);
+                }
+            }
+        }
+    }
+
     /**
      * Register parsed state.
      *
@@ -524,7 +776,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                        .equals(DefinitionState.PARSED)) {
             definition.setState(DefinitionState.PARSED);
             definition.setMessage("");
-            definitionService.save(definition);
+            stageDefinition(definition);
         }
     }
 
@@ -557,7 +809,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         addError(errorMessage);
         definition.setState(DefinitionState.BROKEN);
         definition.setMessage(errorMessage);
-        definitionService.save(definition);
+        stageDefinition(definition);
     }
 
     /**
@@ -570,7 +822,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         logger.warn(msg);
         definition.setState(DefinitionState.DELETED);
         definition.setMessage(msg);
-        definitionService.save(definition);
+        stageDefinition(definition);
     }
 
     /**
@@ -623,7 +875,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             if (synchronizer.isAccepted(file, attrs)) {
                 // synchronizer knows this artifact, hence check whether to process it or not
                 try {
-                    checkAndCollect(file, location, synchronizer);
+                    checkAndCollect(file, attrs, location, synchronizer);
                 } catch (IOException e) {
                     logger.error(e.getMessage(), e);
                 }
@@ -633,18 +885,34 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     }
 
     /**
-     * Collect for processing, if new or modified.
+     * Collect for processing, if new or modified. The content is neither loaded nor hashed, if the size
+     * and the last modified time of the file are the same as at the last check.
      *
      * @param file the file
+     * @param attrs the attrs
      * @param location the location
      * @param synchronizer the synchronizer
      * @throws IOException Signals that an I/O exception has occurred.
      * @throws FileNotFoundException the file not found exception
      */
-    private void checkAndCollect(Path file, String location, Synchronizer<? extends Artefact, ?> synchronizer)
+    private void checkAndCollect(Path file, BasicFileAttributes attrs, String location, Synchronizer<? extends Artefact, ?> synchronizer)
             throws IOException, FileNotFoundException {
 
         String type = synchronizer.getArtefactType();
+        String name = FilenameUtils.getBaseName(file.getFileName()
+                                                    .toString());
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime()
+                                 .toMillis();
+
+        // check whether this artefact has been processed in the past already
+        Definition maybe = findDefinition(Definition.buildKey(type, location, name));
+        Map<String, Definition> map = checkSynchronizerMap(synchronizer);
+        if (maybe != null && maybe.hasFileAttributes(size, lastModified)) {
+            // not modified file since the last check, the content is loaded only if needed
+            collectNotModified(maybe, file, null, map);
+            return;
+        }
 
         // load the content to calculate the checksum
         byte[] content = Files.readAllBytes(file);
@@ -652,12 +920,8 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             logger.error("Reading file {} returns null content", file.toString());
             return;
         }
-        Definition definition = new Definition(location, FilenameUtils.getBaseName(file.getFileName()
-                                                                                       .toString()),
-                type, content);
-        // check whether this artefact has been processed in the past already
-        Definition maybe = definitionService.findByKey(definition.getKey());
-        Map<String, Definition> map = checkSynchronizerMap(synchronizer);
+        Definition definition = new Definition(location, name, type, content);
+        updateFileAttributes(definition, size, lastModified);
         if (maybe != null) {
             // artefact has been processed in the past
             if (!maybe.getChecksum()
@@ -666,45 +930,84 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                 maybe.setChecksum(definition.getChecksum());
                 maybe.setState(DefinitionState.MODIFIED);
                 maybe.setContent(definition.getContent());
+                updateFileAttributes(maybe, size, lastModified);
                 // update the artefact with the new checksum and status
-                definitionService.save(maybe);
+                stageDefinition(maybe);
                 // added to artefacts for processing
                 map.put(maybe.getKey(), maybe);
             } else {
                 // not modified content, but still known definition
-                switch (maybe.getState()) {
-                    case NEW: // has been started to be processed as new, but not completed
-                    case MODIFIED: // has been started to be processed as modified, but not completed
-                    case PARSED: // has been successfully parsed in the past
-                        if (map.get(maybe.getKey()) == null) {
-                            maybe.setContent(definition.getContent());
-                            map.put(maybe.getKey(), maybe);
-                        }
-                        break;
-                    case BROKEN: // has been started in the past, but failed to parse the file
-                        logger.warn("Definition with key: {} has been failed with reason: {}", maybe.getKey(), maybe.getMessage());
-                        if (map.get(maybe.getKey()) == null) {
-                            maybe.setContent(definition.getContent());
-                            map.put(maybe.getKey(), maybe);
-                        }
-                        break;
-                    case DELETED: // has been deleted in the past
-                        if (map.get(maybe.getKey()) == null) {
-                            maybe.setContent(definition.getContent());
-                            maybe.setState(DefinitionState.NEW);
-                            map.put(maybe.getKey(), maybe);
-                        }
-                        break;
+                if (!Objects.equals(maybe.getSize(), definition.getSize())
+                        || !Objects.equals(maybe.getLastModified(), definition.getLastModified())) {
+                    // only touched, hence remember the new attributes to skip the content next time
+                    updateFileAttributes(maybe, size, lastModified);
+                    stageDefinition(maybe);
                 }
+                collectNotModified(maybe, file, content, map);
             }
         } else {
             // artefact is new, hence stored for processing
             definition.setState(DefinitionState.NEW);
-            definitionService.save(definition);
+            stageDefinition(definition);
             map.put(definition.getKey(), definition);
         }
     }
 
+    /**
+     * Collect a known definition, which content has not been modified since the last processing.
+     *
+     * @param maybe the known definition
+     * @param file the file
+     * @param content the content or null, if not loaded yet
+     * @param map the map
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void collectNotModified(Definition maybe, Path file, byte[] content, Map<String, Definition> map) throws IOException {
+        switch (maybe.getState()) {
+            case NEW: // has been started to be processed as new, but not completed
+            case MODIFIED: // has been started to be processed as modified, but not completed
+                if (map.get(maybe.getKey()) == null) {
+                    maybe.setContent(content != null ? content : Files.readAllBytes(file));
+                    map.put(maybe.getKey(), maybe);
+                }
+                break;
+            case PARSED: // has been successfully parsed in the past
+                if (map.get(maybe.getKey()) == null) {
+                    maybe.setContent(content);
+                    map.put(maybe.getKey(), maybe);
+                }
+                break;
+            case BROKEN: // has been started in the past, but failed to parse the file
+                logger.warn("Definition with key: {} has been failed with reason: {}", maybe.getKey(), maybe.getMessage());
+                if (map.get(maybe.getKey()) == null) {
+                    maybe.setContent(content);
+                    map.put(maybe.getKey(), maybe);
+                }
+                break;
+            case DELETED: // has been deleted in the past
+                if (map.get(maybe.getKey()) == null) {
+                    maybe.setContent(content != null ? content : Files.readAllBytes(file));
+                    maybe.setState(DefinitionState.NEW);
+                    map.put(maybe.getKey(), maybe);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Update the file attributes of the definition. The last modified time of a file modified just now
+     * is not remembered, since a subsequent modification may not change it, depending on the precision
+     * of the file system.
+     *
+     * @param definition the definition
+     * @param size the size
+     * @param lastModified the last modified
+     */
+    private static void updateFileAttributes(Definition definition, long size, long lastModified) {
+        definition.setSize(size);
+        definition.setLastModified(System.currentTimeMillis() - lastModified > MODIFICATION_PRECISION ? lastModified : null);
+    }
+
     /**
      * Check synchronizer map.
      *
@@ -10,17 +10,28 @@
  */
 package org.eclipse.dirigible.components.initializers.synchronizer;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.dirigible.repository.api.IRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
@@ -28,6 +39,12 @@ import org.springframework.stereotype.Component;
 
 /**
  * The Class SynchronizationWatcher.
+ *
+ * Watches the registry folder and all of its sub-folders and records the locations of the changed
+ * files and folders relative to the registry, so that only they are checked on the next
+ * synchronization. A full walk of the registry is required after an overflow of the watch events or
+ * when it is explicitly forced. If a folder cannot be watched, e.g. because of the limit of the
+ * watches or missing permissions, the registry is walked fully on every synchronization.
  */
 @Component
 @Scope("singleton")
@@ -39,6 +56,21 @@ public class SynchronizationWatcher {
     /** The modified. */
     private final AtomicBoolean modified = new AtomicBoolean(false);
 
+    /** The watched folders by watch key. */
+    private final Map<WatchKey, Path> folders = new ConcurrentHashMap<>();
+
+    /** The changed locations since the last synchronization. */
+    private Set<String> changes = new HashSet<>();
+
+    /** Whether a full walk of the registry is required. */
+    private boolean full;
+
+    /** Whether some of the folders are not watched, hence every synchronization walks the registry. */
+    private volatile boolean unwatched;
+
+    /** The root folder. */
+    private Path root;
+
     /**
      * Initialize.
      *
@@ -49,11 +81,23 @@ public class SynchronizationWatcher {
     public void initialize(String folder) throws IOException, InterruptedException {
         logger.debug("Initializing the Registry file watcher...");
 
-        WatchService watchService = FileSystems.getDefault()
-                                               .newWatchService();
-        Path path = Paths.get(folder);
-        path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
-                StandardWatchEventKinds.ENTRY_MODIFY);
+        root = Paths.get(folder);
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault()
+                                      .newWatchService();
+        } catch (IOException e) {
+            logger.warn("Failed to create the Registry file watcher", e);
+            fallBackToFullWalks();
+            return;
+        }
+        if (!register(watchService, root)) {
+            fallBackToFullWalks();
+        }
+        if (folders.isEmpty()) {
+            watchService.close();
+            return;
+        }
 
         Executors.newFixedThreadPool(1)
                  .submit(() -> {
@@ -61,10 +105,16 @@ public class SynchronizationWatcher {
                      try {
                          while ((watchKey = watchService.take()) != null) {
                              List<WatchEvent<?>> events = watchKey.pollEvents();
+                             Path parent = folders.get(watchKey);
+                             for (WatchEvent<?> event : events) {
+                                 handleEvent(watchService, parent, event);
+                             }
                              if (!events.isEmpty()) {
                                  modified.set(true);
                              }
-                             watchKey.reset();
+                             if (!watchKey.reset()) {
+                                 folders.remove(watchKey);
+                             }
                          }
                      } catch (InterruptedException e) {
                          logger.error("Failed to take watch keys", e);
@@ -74,27 +124,173 @@ public class SynchronizationWatcher {
         logger.debug("Done initializing the Registry file watcher.");
     }
 
+    /**
+     * Falls back to full walks of the registry on every synchronization, since the changes of some of
+     * the folders would be missed otherwise.
+     */
+    private void fallBackToFullWalks() {
+        if (!unwatched) {
+            logger.warn("The Registry is not watched completely, hence it will be walked fully on every synchronization");
+        }
+        unwatched = true;
+        force();
+    }
+
+    /**
+     * Handle event.
+     *
+     * @param watchService the watch service
+     * @param parent the parent folder
+     * @param event the event
+     */
+    void handleEvent(WatchService watchService, Path parent, WatchEvent<?> event) {
+        if (StandardWatchEventKinds.OVERFLOW.equals(event.kind()) || parent == null) {
+            force();
+            return;
+        }
+        Path path = parent.resolve((Path) event.context());
+        if (Files.isDirectory(path)) {
+            if (StandardWatchEventKinds.ENTRY_MODIFY.equals(event.kind())) {
+                // the changes of the children are reported by their own events
+                return;
+            }
+            if (!register(watchService, path)) {
+                fallBackToFullWalks();
+                return;
+            }
+        }
+        recordChange(path);
+    }
+
+    /**
+     * Registers the folder and all of its sub-folders. A folder, which cannot be registered, is
+     * skipped, while the folders, which have disappeared in the meantime, are ignored.
+     *
+     * @param watchService the watch service
+     * @param folder the folder
+     * @return true, if all the existing folders are registered
+     */
+    private boolean register(WatchService watchService, Path folder) {
+        AtomicBoolean complete = new AtomicBoolean(true);
+        try {
+            Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    try {
+                        folders.put(watch(watchService, dir), dir);
+                    } catch (NoSuchFileException e) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    } catch (IOException | RuntimeException e) {
+                        logger.warn("Failed to watch folder: " + dir, e);
+                        complete.set(false);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    logger.error("Failed to access file: " + file.toString());
+                    return FileVisitResult.CONTINUE;
+                }
+
+            });
+        } catch (NoSuchFileException e) {
+            // the folder has been deleted in the meantime
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to watch folder: " + folder, e);
+            return false;
+        }
+        return complete.get();
+    }
+
+    /**
+     * Watch a single folder for created, deleted and modified entries.
+     *
+     * @param watchService the watch service
+     * @param folder the folder
+     * @return the watch key
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    WatchKey watch(WatchService watchService, Path folder) throws IOException {
+        return folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Record change.
+     *
+     * @param path the path
+     */
+    private void recordChange(Path path) {
+        if (!path.startsWith(root)) {
+            force();
+            return;
+        }
+        String location = IRepository.SEPARATOR + root.relativize(path)
+                                                      .toString()
+                                                      .replace(File.separator, IRepository.SEPARATOR);
+        force(location);
+    }
+
     /**
      * Checks if is modified.
      *
      * @return true, if is modified
      */
     public boolean isModified() {
-        return modified.get();
+        return unwatched || modified.get();
     }
 
     /**
      * Reset.
      */
-    public void reset() {
+    public synchronized void reset() {
         modified.set(false);
+        changes = new HashSet<>();
+        full = false;
+    }
+
+    /**
+     * Force a full walk of the registry on the next synchronization.
+     */
+    public synchronized void force() {
+        full = true;
+        changes.clear();
+        modified.set(true);
     }
 
     /**
-     * Force.
+     * Force the check of the given file or folder on the next synchronization.
+     *
+     * @param location the location relative to the registry
      */
-    public void force() {
+    public synchronized void force(String location) {
+        if (!full) {
+            changes.add(location.length() > 1 && location.endsWith(IRepository.SEPARATOR) ? location.substring(0, location.length() - 1)
+                    : location);
+        }
         modified.set(true);
     }
 
+    /**
+     * Takes the changes recorded since the last call and resets the watcher.
+     *
+     * @return the changes
+     */
+    synchronized Changes takeChanges() {
+        Changes result = new Changes(full || unwatched, changes);
+        reset();
+        return result;
+    }
+
+    /**
+     * The changes since the last synchronization.
+     *
+     * @param full whether a full walk of the registry is required
+     * @param locations the changed locations relative to the registry, if not a full walk
+     */
+    record Changes(boolean full, Set<String> locations) {
+    }
+
 }
@@ -11,6 +11,8 @@
 package org.eclipse.dirigible.components.initializers.synchronizer;
 
 import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -43,7 +45,7 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
      */
     @Override
     public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
-        synchronizationWatcher.force();
+        force(registryLocation);
     }
 
     /**
@@ -63,7 +65,22 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
      */
     @Override
     public void afterUnpublish(String location) {
-        synchronizationWatcher.force();
+        force(location);
+    }
+
+    /**
+     * Forces the check of the given registry location, or a full walk of the registry if the location
+     * is not under it.
+     *
+     * @param registryLocation the registry location
+     */
+    private void force(String registryLocation) {
+        String prefix = IRepositoryStructure.PATH_REGISTRY_PUBLIC + IRepository.SEPARATOR;
+        if (registryLocation != null && registryLocation.startsWith(prefix) && registryLocation.length() > prefix.length()) {
+            synchronizationWatcher.force(registryLocation.substring(IRepositoryStructure.PATH_REGISTRY_PUBLIC.length()));
+        } else {
+            synchronizationWatcher.force();
+        }
     }
 
 }
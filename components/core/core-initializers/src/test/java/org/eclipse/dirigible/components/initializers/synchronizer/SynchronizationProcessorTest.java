@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.ArtefactService;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.eclipse.dirigible.components.initializers.definition.Definition;
+import org.eclipse.dirigible.components.initializers.definition.DefinitionService;
+import org.eclipse.dirigible.components.initializers.definition.DefinitionState;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class SynchronizationProcessorTest.
+ */
+public class SynchronizationProcessorTest {
+
+    /** The Constant TYPE. */
+    private static final String TYPE = "Test";
+
+    /** The Constant ONE. */
+    private static final String ONE = "/project/one.test";
+
+    /** The Constant TWO. */
+    private static final String TWO = "/other/two.test";
+
+    /** The last modified time of the files, old enough to be remembered and in whole seconds. */
+    private static final long LAST_MODIFIED = (System.currentTimeMillis() / 1000 - 60 * 60) * 1000;
+
+    /** The registry. */
+    @TempDir
+    Path registry;
+
+    /** The saved definitions by key. */
+    private final Map<String, Definition> saved = new ConcurrentHashMap<>();
+
+    /** The ids of the saved definitions. */
+    private final AtomicLong ids = new AtomicLong();
+
+    /** The synchronizer. */
+    private Synchronizer<Artefact, Long> synchronizer;
+
+    /** The definition service. */
+    private DefinitionService definitionService;
+
+    /** The synchronization watcher, which changes are recorded by the tests instead of watching. */
+    private SynchronizationWatcher synchronizationWatcher;
+
+    /** The synchronization processor. */
+    private SynchronizationProcessor synchronizationProcessor;
+
+    /**
+     * Sets up a synchronizer of the <code>.test</code> files and the definitions saved in memory.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        LocalRepository repository = mock(LocalRepository.class);
+        when(repository.getInternalResourcePath(IRepositoryStructure.PATH_REGISTRY_PUBLIC)).thenReturn(registry.toString());
+
+        ArtefactService<Artefact, Long> artefactService = mock(ArtefactService.class);
+        when(artefactService.getAll()).thenReturn(List.of());
+        synchronizer = mock(Synchronizer.class);
+        when(synchronizer.getService()).thenReturn(artefactService);
+        when(synchronizer.getArtefactType()).thenReturn(TYPE);
+        when(synchronizer.isAccepted(any(Path.class), any(BasicFileAttributes.class))).thenAnswer(
+                invocation -> invocation.getArgument(0, Path.class)
+                                        .toString()
+                                        .endsWith(".test"));
+        when(synchronizer.parse(anyString(), any())).thenReturn(List.of());
+
+        definitionService = mock(DefinitionService.class);
+        when(definitionService.getAll()).thenAnswer(invocation -> new ArrayList<>(saved.values()));
+        when(definitionService.findByKey(anyString())).thenAnswer(invocation -> saved.get(invocation.getArgument(0)));
+        when(definitionService.save(any(Definition.class))).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        when(definitionService.saveAll(any())).thenAnswer(invocation -> {
+            List<Definition> result = new ArrayList<>();
+            for (Definition definition : (Collection<Definition>) invocation.getArgument(0)) {
+                result.add(save(definition));
+            }
+            return result;
+        });
+
+        synchronizationWatcher = new SynchronizationWatcher() {
+            @Override
+            public void initialize(String folder) {
+                // the changes are recorded by the tests
+            }
+        };
+        List<Synchronizer<?, ?>> synchronizers = new ArrayList<>();
+        synchronizers.add(synchronizer);
+        synchronizationProcessor = new SynchronizationProcessor(repository, synchronizers, definitionService, synchronizationWatcher);
+        synchronizationProcessor.prepareSynchronizers();
+    }
+
+    /**
+     * Only the changed file is checked by an incremental synchronization, while the deleted one is
+     * marked as deleted.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testChangedLocationIsSynchronizedOnly() throws Exception {
+        write(ONE, "one", LAST_MODIFIED);
+        write(TWO, "two", LAST_MODIFIED);
+        synchronizationProcessor.processSynchronizers();
+        assertState(DefinitionState.PARSED, ONE);
+        assertState(DefinitionState.PARSED, TWO);
+        clearInvocations(synchronizer, definitionService);
+
+        write(ONE, "one modified", LAST_MODIFIED + 1000);
+        synchronizationWatcher.force(ONE);
+        synchronizationProcessor.processSynchronizers();
+
+        verify(definitionService, never()).getAll();
+        verify(definitionService, never()).findByKey(key(TWO));
+        verify(synchronizer, never()).isAccepted(eq(file(TWO)), any(BasicFileAttributes.class));
+        verify(synchronizer).parse(eq(ONE), any());
+        verify(synchronizer, never()).parse(eq(TWO), any());
+        assertState(DefinitionState.PARSED, ONE);
+
+        Files.delete(file(TWO));
+        synchronizationWatcher.force(TWO);
+        synchronizationProcessor.processSynchronizers();
+
+        assertState(DefinitionState.DELETED, TWO);
+        assertState(DefinitionState.PARSED, ONE);
+    }
+
+    /**
+     * A forced synchronization, e.g. after an overflow of the watch events, walks the whole registry
+     * and finds also the changes, which have not been recorded.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testForcedSynchronizationWalksRegistry() throws Exception {
+        write(ONE, "one", LAST_MODIFIED);
+        write(TWO, "two", LAST_MODIFIED);
+        synchronizationProcessor.processSynchronizers();
+        clearInvocations(synchronizer, definitionService);
+
+        write(TWO, "two modified", LAST_MODIFIED + 1000);
+        synchronizationProcessor.forceProcessSynchronizers();
+
+        verify(definitionService, atLeastOnce()).getAll();
+        verify(synchronizer).isAccepted(eq(file(ONE)), any(BasicFileAttributes.class));
+        verify(synchronizer).parse(eq(TWO), any());
+        verify(synchronizer, never()).parse(eq(ONE), any());
+    }
+
+    /**
+     * The content of a file with the same size and last modified time as at the last check is not read
+     * again.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testUnchangedFileIsNotRead() throws Exception {
+        write(ONE, "one", LAST_MODIFIED);
+        synchronizationProcessor.processSynchronizers();
+        Definition definition = saved.get(key(ONE));
+        assertEquals(3, definition.getSize());
+        assertEquals(LAST_MODIFIED, definition.getLastModified());
+        clearInvocations(synchronizer, definitionService);
+
+        synchronizationProcessor.forceProcessSynchronizers();
+
+        assertNull(definition.getContent());
+        verify(definitionService, never()).saveAll(any());
+        verify(synchronizer, never()).parse(anyString(), any());
+        assertState(DefinitionState.PARSED, ONE);
+    }
+
+    /**
+     * A change of the content, which keeps the size of the file, is detected by its new last modified
+     * time.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSameSizeChangeIsDetected() throws Exception {
+        write(ONE, "one", LAST_MODIFIED);
+        synchronizationProcessor.processSynchronizers();
+        Definition definition = saved.get(key(ONE));
+        String checksum = definition.getChecksum();
+        clearInvocations(synchronizer, definitionService);
+
+        write(ONE, "two", LAST_MODIFIED + 1000);
+        synchronizationProcessor.forceProcessSynchronizers();
+
+        verify(synchronizer).parse(eq(ONE), eq("two".getBytes(StandardCharsets.UTF_8)));
+        assertNotEquals(checksum, definition.getChecksum());
+        assertEquals(3, definition.getSize());
+        assertEquals(LAST_MODIFIED + 1000, definition.getLastModified());
+        assertState(DefinitionState.PARSED, ONE);
+    }
+
+    /**
+     * A definition, which cannot be saved, fails the batch, which is rolled back, but the states of the
+     * other definitions are still saved one by one.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailedDefinitionDoesNotFailBatch() throws Exception {
+        List<Long> idsOfNew = new ArrayList<>();
+        doAnswer(invocation -> {
+            // the ids are generated before the failure, but not committed
+            for (Definition definition : (Collection<Definition>) invocation.getArgument(0)) {
+                if (definition.getId() == null) {
+                    definition.setId(ids.incrementAndGet());
+                }
+            }
+            throw new IllegalStateException("Batch failed");
+        }).when(definitionService)
+          .saveAll(any());
+        doAnswer(invocation -> {
+            Definition definition = invocation.getArgument(0);
+            if (definition.getKey()
+                          .equals(key(TWO))) {
+                throw new IllegalStateException("Definition failed");
+            }
+            if (!saved.containsKey(definition.getKey())) {
+                idsOfNew.add(definition.getId());
+            }
+            return save(definition);
+        }).when(definitionService)
+          .save(any(Definition.class));
+        write(ONE, "one", LAST_MODIFIED);
+        write(TWO, "two", LAST_MODIFIED);
+
+        synchronizationProcessor.processSynchronizers();
+
+        verify(definitionService, atLeastOnce()).saveAll(any());
+        assertEquals(Collections.singletonList(null), idsOfNew);
+        assertState(DefinitionState.PARSED, ONE);
+        assertFalse(saved.containsKey(key(TWO)));
+    }
+
+    /**
+     * Saves a definition in memory.
+     *
+     * @param definition the definition
+     * @return the definition
+     */
+    private Definition save(Definition definition) {
+        if (definition.getId() == null) {
+            definition.setId(ids.incrementAndGet());
+        }
+        saved.put(definition.getKey(), definition);
+        return definition;
+    }
+
+    /**
+     * Asserts the state of the saved definition.
+     *
+     * @param state the state
+     * @param location the location
+     */
+    private void assertState(DefinitionState state, String location) {
+        assertEquals(state, saved.get(key(location))
+                                 .getState());
+    }
+
+    /**
+     * Writes a file in the registry.
+     *
+     * @param location the location
+     * @param content the content
+     * @param lastModified the last modified
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void write(String location, String content, long lastModified) throws IOException {
+        Path file = file(location);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+    }
+
+    /**
+     * Gets the file of a location.
+     *
+     * @param location the location
+     * @return the path
+     */
+    private Path file(String location) {
+        return Path.of(registry.toString() + location);
+    }
+
+    /**
+     * Builds the key of the definition of a location.
+     *
+     * @param location the location
+     * @return the key
+     */
+    private static String key(String location) {
+        return Definition.buildKey(TYPE, location, location.substring(location.lastIndexOf('/') + 1, location.lastIndexOf('.')));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class SynchronizationWatcherTest.
+ */
+public class SynchronizationWatcherTest {
+
+    /** The timeout of the watch events in milliseconds. */
+    private static final long TIMEOUT = 30000;
+
+    /** The registry. */
+    @TempDir
+    Path registry;
+
+    /**
+     * A changed file is recorded as the only location to be synchronized.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testChangedFileIsRecorded() throws Exception {
+        Files.createDirectories(registry.resolve("project"));
+        Files.writeString(registry.resolve("project/unchanged.txt"), "unchanged");
+        SynchronizationWatcher watcher = new SynchronizationWatcher();
+        watcher.initialize(registry.toString());
+        assertFalse(watcher.isModified());
+
+        Files.writeString(registry.resolve("project/changed.txt"), "changed");
+        awaitModified(watcher);
+
+        SynchronizationWatcher.Changes changes = watcher.takeChanges();
+        assertFalse(changes.full());
+        assertEquals(Set.of("/project/changed.txt"), changes.locations());
+    }
+
+    /**
+     * An overflow of the watch events requires a full walk, since some of the changes are lost.
+     */
+    @Test
+    public void testOverflowForcesFullWalk() {
+        SynchronizationWatcher watcher = new SynchronizationWatcher();
+        watcher.force("/project/changed.txt");
+
+        watcher.handleEvent(null, registry, new WatchEvent<Object>() {
+
+            @Override
+            public Kind<Object> kind() {
+                return StandardWatchEventKinds.OVERFLOW;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Object context() {
+                return null;
+            }
+
+        });
+
+        assertTrue(watcher.isModified());
+        SynchronizationWatcher.Changes changes = watcher.takeChanges();
+        assertTrue(changes.full());
+        assertTrue(changes.locations()
+                          .isEmpty());
+        assertFalse(watcher.takeChanges()
+                           .full());
+    }
+
+    /**
+     * A folder, which cannot be watched, makes every synchronization a full walk.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testUnwatchableFolderFallsBackToFullWalks() throws Exception {
+        Files.createDirectories(registry.resolve("project/locked"));
+        SynchronizationWatcher watcher = new SynchronizationWatcher() {
+            @Override
+            WatchKey watch(WatchService watchService, Path folder) throws IOException {
+                if (folder.endsWith("locked")) {
+                    throw new AccessDeniedException(folder.toString());
+                }
+                return super.watch(watchService, folder);
+            }
+        };
+        watcher.initialize(registry.toString());
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(watcher.isModified());
+            assertTrue(watcher.takeChanges()
+                              .full());
+        }
+    }
+
+    /**
+     * Waits until the watcher receives the events.
+     *
+     * @param watcher the watcher
+     * @throws InterruptedException the interrupted exception
+     */
+    private static void awaitModified(SynchronizationWatcher watcher) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!watcher.isModified() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(watcher.isModified(), "The change has not been reported by the watcher");
+    }
+
+}
@@ -13,14 +13,19 @@ package org.eclipse.dirigible.components.data.csvim.processor;
 import static org.eclipse.dirigible.components.api.platform.RepositoryFacade.getResource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.csv.CSVFormat;
@@ -36,6 +41,8 @@ import org.eclipse.dirigible.components.data.management.domain.ColumnMetadata;
 import org.eclipse.dirigible.components.data.management.domain.TableMetadata;
 import org.eclipse.dirigible.components.data.sources.config.DefaultDataSourceName;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.database.sql.DataTypeUtils;
+import org.eclipse.dirigible.database.sql.SqlException;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.SelectBuilder;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -68,6 +75,11 @@ public class CsvimProcessor {
      */
     private static final int DIRIGIBLE_CSV_DATA_BATCH_SIZE_DEFAULT = 100;
 
+    /**
+     * The max count of the values in an IN list, as Oracle, HANA and some other databases limit it.
+     */
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
     /**
      * The Constant MODULE.
      */
@@ -172,8 +184,11 @@ public class CsvimProcessor {
 
             List<CSVRecord> recordsToInsert = new ArrayList<>();
             List<CSVRecord> recordsToUpdate = new ArrayList<>();
+            List<CSVRecord> recordsToCheck = new ArrayList<>();
+            List<String> pkValuesToCheck = new ArrayList<>();
 
             String pkNameForCSVRecord = getPkNameForCSVRecord(connection, tableName, targetSchema, csvParser.getHeaderNames());
+            String pkTypeForCSVRecord = getColumnType(tableMetadata, pkNameForCSVRecord);
 
             List<ColumnMetadata> tableColumns = tableMetadata.getColumns();
             boolean skipComparing = isEmptyTable(targetSchema, tableName, connection);
@@ -199,15 +214,14 @@ public class CsvimProcessor {
                     if (pkValueForCSVRecord == null) {
                         recordsToInsert.add(csvRecord);
                     } else {
-                        if (!recordExists(targetSchema, tableName, pkNameForCSVRecord, pkValueForCSVRecord, connection)) {
-                            recordsToInsert.add(csvRecord);
-                        } else {
-                            recordsToUpdate.add(csvRecord);
-                        }
+                        recordsToCheck.add(csvRecord);
+                        pkValuesToCheck.add(pkValueForCSVRecord);
                     }
                 }
                 if (countBatch >= batchSize) {
                     countBatch = 0;
+                    splitExistingRecords(connection, targetSchema, tableName, pkNameForCSVRecord, pkTypeForCSVRecord, recordsToCheck,
+                            pkValuesToCheck, recordsToInsert, recordsToUpdate);
                     insertCsvRecords(connection, targetSchema, tableMetadata, recordsToInsert, csvParser.getHeaderNames(), csvFile);
                     if (Boolean.TRUE.equals(csvFile.getUpsert())) {
                         updateCsvRecords(connection, targetSchema, tableMetadata, recordsToUpdate, csvParser.getHeaderNames(), pkName,
@@ -218,6 +232,8 @@ public class CsvimProcessor {
                 }
             }
 
+            splitExistingRecords(connection, targetSchema, tableName, pkNameForCSVRecord, pkTypeForCSVRecord, recordsToCheck,
+                    pkValuesToCheck, recordsToInsert, recordsToUpdate);
             insertCsvRecords(connection, targetSchema, tableMetadata, recordsToInsert, csvParser.getHeaderNames(), csvFile);
             if (Boolean.TRUE.equals(csvFile.getUpsert())) {
                 updateCsvRecords(connection, targetSchema, tableMetadata, recordsToUpdate, csvParser.getHeaderNames(), pkName, csvFile);
@@ -510,44 +526,136 @@ public class CsvimProcessor {
     }
 
     /**
-     * Record exists.
+     * Splits the records with primary key values to the records which exist in the table and the new
+     * ones. The existence of the whole batch is checked with a single query. The checked records are
+     * removed from the given lists.
      *
+     * @param connection the connection
      * @param schema the schema name
      * @param tableName the table name
-     * @param pkNameForCSVRecord the pk name for CSV record
-     * @param pkValueForCSVRecord the pk value for CSV record
+     * @param pkName the pk name
+     * @param pkType the pk type
+     * @param recordsToCheck the records to check
+     * @param pkValuesToCheck the pk values of the records to check
+     * @param recordsToInsert the records to insert
+     * @param recordsToUpdate the records to update
+     * @throws SQLException the SQL exception
+     */
+    private void splitExistingRecords(Connection connection, String schema, String tableName, String pkName, String pkType,
+            List<CSVRecord> recordsToCheck, List<String> pkValuesToCheck, List<CSVRecord> recordsToInsert,
+            List<CSVRecord> recordsToUpdate) throws SQLException {
+        if (recordsToCheck.isEmpty()) {
+            return;
+        }
+        Set<String> existingKeys = findExistingKeys(schema, tableName, pkName, pkType, pkValuesToCheck, connection);
+        for (int i = 0; i < recordsToCheck.size(); i++) {
+            if (existingKeys.contains(normalizeKey(pkValuesToCheck.get(i), pkType))) {
+                recordsToUpdate.add(recordsToCheck.get(i));
+            } else {
+                recordsToInsert.add(recordsToCheck.get(i));
+            }
+        }
+        recordsToCheck.clear();
+        pkValuesToCheck.clear();
+    }
+
+    /**
+     * Finds which of the given primary key values exist in the table. The values are looked up in
+     * chunks of at most {@link #MAX_IN_LIST_SIZE}, so that a large batch size does not exceed the IN
+     * list limit of the database.
+     *
+     * @param schema the schema name
+     * @param tableName the table name
+     * @param pkName the pk name
+     * @param pkType the pk type
+     * @param pkValues the pk values
      * @param connection the connection
-     * @return true, if successful
+     * @return the normalized existing pk values
      * @throws SQLException the SQL exception
      */
-    private boolean recordExists(String schema, String tableName, String pkNameForCSVRecord, String pkValueForCSVRecord,
+    private Set<String> findExistingKeys(String schema, String tableName, String pkName, String pkType, List<String> pkValues,
             Connection connection) throws SQLException {
-        boolean exists = false;
-        SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
-        String sql = selectBuilder.distinct()
-                                  .column("1 " + pkNameForCSVRecord)
-                                  .from(tableName)
-                                  .schema(schema)
-                                  .where(pkNameForCSVRecord + " = ?")
-                                  .build();
-        try (PreparedStatement pstmt = connection.prepareCall(sql)) {
-            ResultSet rs;
-            try {
-                pstmt.setString(1, pkValueForCSVRecord);
-                rs = pstmt.executeQuery();
-            } catch (Throwable e) {
-                pstmt.setInt(1, Integer.parseInt(pkValueForCSVRecord));
-                rs = pstmt.executeQuery();
-            }
-            if (rs.next()) {
-                try {
-                    exists = "1".equals(rs.getString(1));
-                } catch (Throwable e) {
-                    exists = 1 == rs.getInt(1);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < pkValues.size(); from += MAX_IN_LIST_SIZE) {
+            List<String> chunk = pkValues.subList(from, Math.min(from + MAX_IN_LIST_SIZE, pkValues.size()));
+            SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = selectBuilder.column(pkName)
+                                      .from(tableName)
+                                      .schema(schema)
+                                      .where(pkName + " IN (" + placeholders + ")")
+                                      .build();
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (pkType != null) {
+                        csvProcessor.setValue(pstmt, i + 1, pkType, chunk.get(i));
+                    } else {
+                        pstmt.setString(i + 1, chunk.get(i));
+                    }
                 }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(normalizeKey(rs.getString(1), pkType));
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Normalizes a primary key value, so that the values from the CSV file and the database are
+     * comparable.
+     *
+     * @param value the value
+     * @param pkType the pk type
+     * @return the normalized value
+     */
+    private static String normalizeKey(String value, String pkType) {
+        if (value == null) {
+            return null;
+        }
+        String key = value.trim();
+        if (pkType != null) {
+            switch (DataTypeUtils.getSqlTypeByDataType(pkType)) {
+                case Types.INTEGER, Types.TINYINT, Types.SMALLINT, Types.BIGINT, Types.DECIMAL, Types.NUMERIC, Types.REAL, Types.DOUBLE:
+                    try {
+                        return new BigDecimal(key).stripTrailingZeros()
+                                                  .toPlainString();
+                    } catch (NumberFormatException e) {
+                        return key;
+                    }
+                default:
+                    return key;
             }
         }
-        return exists;
+        return key;
+    }
+
+    /**
+     * Gets the column type.
+     *
+     * @param tableModel the table model
+     * @param columnName the column name
+     * @return the column type or null, if not found or not supported
+     */
+    private static String getColumnType(TableMetadata tableModel, String columnName) {
+        if (columnName == null) {
+            return null;
+        }
+        String columnType = tableModel.getColumns()
+                                      .stream()
+                                      .filter(c -> columnName.equals(c.getName()))
+                                      .map(ColumnMetadata::getType)
+                                      .findFirst()
+                                      .orElse(null);
+        try {
+            return columnType != null && DataTypeUtils.getSqlTypeByDataType(columnType) != null ? columnType : null;
+        } catch (SqlException e) {
+            logger.debug("Unsupported type [{}] of the primary key column [{}], the keys will be compared as strings", columnType,
+                    columnName);
+            return null;
+        }
     }
 
     /**
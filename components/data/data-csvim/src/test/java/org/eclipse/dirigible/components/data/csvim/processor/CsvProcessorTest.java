@@ -200,6 +200,43 @@ public class CsvProcessorTest {
         }
     }
 
+    /**
+     * Reimport upsert.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void reimportUpsert() throws SQLException {
+        try (Connection connection = dataSourceManager.getDefaultDataSource()
+                                                      .getConnection()) {
+            connection.createStatement()
+                      .execute("CREATE TABLE CSV_A (A1 INT PRIMARY KEY, A2 VARCHAR(20), A3 VARCHAR(20))");
+            try {
+                csvimProcessor.setStrictMode(true);
+                CsvFile csvFile = new CsvFile(null, "CSV_A", null, "import", true, true, ",", "\"", null, false, null);
+                byte[] content = "A1,A2,A3\n1,a2_1,a3_1\n2,a2_2,a3_2".getBytes();
+                csvimProcessor.process(csvFile, new ByteArrayInputStream(content), defaultDataSourceName);
+                content = "A1,A2,A3\n2,a2_2u,a3_2u\n3,a2_3,a3_3\n1,a2_1u,a3_1u".getBytes();
+                csvimProcessor.process(csvFile, new ByteArrayInputStream(content), defaultDataSourceName);
+
+                ResultSet rs = connection.createStatement()
+                                         .executeQuery("SELECT A1, A2 FROM CSV_A ORDER BY A1");
+                String[] expected = {"a2_1u", "a2_2u", "a2_3"};
+                int c = 0;
+                while (rs.next()) {
+                    assertEquals(expected[c++], rs.getString("A2"));
+                }
+                assertEquals(3, c, "The CSV file CSV_A.csv has not been reimported");
+            } catch (Exception e) {
+                fail(e.getMessage(), e);
+            } finally {
+                connection.createStatement()
+                          .execute("DROP TABLE CSV_A");
+            }
+
+        }
+    }
+
     /**
      * The Class TestConfiguration.
      */
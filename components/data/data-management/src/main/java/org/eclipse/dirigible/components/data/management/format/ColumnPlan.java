@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.management.format;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * The columns of a result set, read once from its metadata.
+ *
+ * The metadata of a JDBC result set does not change while it is iterated, hence the plan is
+ * computed on the first row and reused for all the others. The schemaless (NoSQL) result sets
+ * expose new metadata for every row instead, hence their plan is rebuilt whenever the metadata
+ * instance changes and their values are read by name, as the column indices may differ per row.
+ * Whether a result set is schemaless is decided by the product name of its database, since the
+ * JDBC drivers are free to return the same or a new metadata instance on each call.
+ */
+final class ColumnPlan {
+
+    /** The products, whose result sets have dynamic metadata. */
+    private static final Set<String> DYNAMIC_PRODUCTS = Set.of("MongoDB");
+
+    /** The metadata, kept only for the result sets with dynamic metadata. */
+    private final ResultSetMetaData metadata;
+
+    /** The names. */
+    private final String[] names;
+
+    /** The labels. */
+    private final String[] labels;
+
+    /** The SQL types. */
+    private final int[] types;
+
+    /** The signed flags. */
+    private final boolean[] signed;
+
+    /**
+     * Instantiates a new column plan.
+     *
+     * @param metadata the metadata
+     * @param dynamic whether the metadata may change with each row
+     * @throws SQLException the SQL exception
+     */
+    private ColumnPlan(ResultSetMetaData metadata, boolean dynamic) throws SQLException {
+        int count = metadata.getColumnCount();
+        this.metadata = dynamic ? metadata : null;
+        this.names = new String[count];
+        this.labels = new String[count];
+        this.types = new int[count];
+        this.signed = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = metadata.getColumnName(i + 1);
+            labels[i] = metadata.getColumnLabel(i + 1);
+            types[i] = metadata.getColumnType(i + 1);
+            signed[i] = dynamic || isSigned(metadata, i + 1);
+        }
+    }
+
+    /**
+     * Creates the plan for the current row of the result set.
+     *
+     * @param resultSet the result set
+     * @return the column plan
+     * @throws SQLException the SQL exception
+     */
+    static ColumnPlan of(ResultSet resultSet) throws SQLException {
+        return new ColumnPlan(resultSet.getMetaData(), isDynamic(resultSet));
+    }
+
+    /**
+     * Checks whether the result set comes from a database with schemaless documents. The result sets
+     * without a statement are treated as static.
+     *
+     * @param resultSet the result set
+     * @return true, if the metadata may change with each row
+     */
+    static boolean isDynamic(ResultSet resultSet) {
+        try {
+            Statement statement = resultSet.getStatement();
+            if (statement == null || statement.getConnection() == null) {
+                return false;
+            }
+            return DYNAMIC_PRODUCTS.contains(statement.getConnection()
+                                                      .getMetaData()
+                                                      .getDatabaseProductName());
+        } catch (SQLException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the plan for the current row of the result set, which is this one, unless the metadata
+     * of a dynamic result set has changed.
+     *
+     * @param resultSet the result set
+     * @return the column plan
+     * @throws SQLException the SQL exception
+     */
+    ColumnPlan refresh(ResultSet resultSet) throws SQLException {
+        if (metadata == null) {
+            return this;
+        }
+        ResultSetMetaData current = resultSet.getMetaData();
+        return current == metadata ? this : new ColumnPlan(current, true);
+    }
+
+    /**
+     * Checks whether the metadata may change with each row.
+     *
+     * @return true, if dynamic
+     */
+    boolean isDynamic() {
+        return metadata != null;
+    }
+
+    /**
+     * Gets the column count.
+     *
+     * @return the column count
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @param index the zero based index
+     * @return the name
+     */
+    String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the label.
+     *
+     * @param index the zero based index
+     * @return the label
+     */
+    String getLabel(int index) {
+        return labels[index];
+    }
+
+    /**
+     * Gets the SQL type.
+     *
+     * @param index the zero based index
+     * @return the type
+     */
+    int getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Checks if the numeric column is signed.
+     *
+     * @param index the zero based index
+     * @return true, if signed
+     */
+    boolean isSigned(int index) {
+        return signed[index];
+    }
+
+    /**
+     * Checks if the column is signed, assuming it is, if the driver does not tell.
+     *
+     * @param metadata the metadata
+     * @param column the column
+     * @return true, if signed
+     */
+    private static boolean isSigned(ResultSetMetaData metadata, int column) {
+        try {
+            return metadata.isSigned(column);
+        } catch (SQLException | RuntimeException e) {
+            return true;
+        }
+    }
+
+}
@@ -15,11 +15,8 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.sql.Clob;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Base64;
-import java.util.List;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.io.IOUtils;
@@ -96,77 +93,27 @@ public class ResultSetCsvWriter extends AbstractResultSetWriter<String> {
 
         OutputStreamWriter sw = new OutputStreamWriter(output);
 
-        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        if (!resultSet.next()) {
+            return;
+        }
 
-        int count = 0;
-        List<String> names = new ArrayList<>();
-        if (resultSet.next()) {
-            if (resultSetMetaData == null) {
-                resultSetMetaData = resultSet.getMetaData(); // dynamic result set metadata
-            }
-            for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                String name = resultSetMetaData.getColumnName(i);
-                names.add(name);
-            }
+        // the columns of the first row define the header, also for the dynamic result sets
+        ColumnPlan plan = ColumnPlan.of(resultSet);
+        String[] names = new String[plan.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = plan.getName(i);
         }
 
         CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
-                                               .setHeader(names.stream()
-                                                               .toArray(String[]::new))
+                                               .setHeader(names)
                                                .build();
         try {
             try (final CSVPrinter printer = new CSVPrinter(sw, csvFormat)) {
-                count = 0;
+                int count = 0;
+                Object[] values = new Object[names.length];
                 do {
-                    List<Object> values = new ArrayList<>();
-                    for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                        Object value = null;
-                        String name = resultSetMetaData.getColumnName(i);
-                        int dbt = resultSetMetaData.getColumnType(i);
-                        if (dbt == Types.BLOB || dbt == Types.BINARY || dbt == Types.LONGVARBINARY) {
-                            InputStream is = resultSet.getBinaryStream(name);
-                            if (is == null && stringify) {
-                                value = "[NULL]";
-                            } else if (is != null) {
-                                byte[] ba = IOUtils.toByteArray(is);
-                                if (stringify) {
-                                    value = "[BLOB]";
-                                } else {
-                                    value = Base64.getEncoder()
-                                                  .encodeToString(ba);
-                                }
-                            }
-                        } else if (dbt == Types.CLOB || dbt == Types.LONGVARCHAR) {
-                            Clob clob = resultSet.getClob(name);
-                            if (clob == null && stringify) {
-                                value = "[NULL]";
-                            } else if (clob != null) {
-                                byte[] ba = IOUtils.toByteArray(clob.getAsciiStream());
-                                if (stringify) {
-                                    value = "[CLOB]";
-                                } else {
-                                    value = Base64.getEncoder()
-                                                  .encodeToString(ba);
-                                }
-                            }
-                        } else if (dbt == Types.OTHER) {
-                            Object dataObject = resultSet.getObject(name);
-                            if (dataObject instanceof PGobject) {
-                                value = ((PGobject) dataObject).getValue();
-                            }
-                        } else {
-                            value = resultSet.getObject(name);
-                            if (value == null && stringify) {
-                                value = "[NULL]";
-                            }
-                            if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
-                                    && !java.util.Date.class.isAssignableFrom(value.getClass())) {
-                                if (stringify) {
-                                    value = "[BINARY]";
-                                }
-                            }
-                        }
-                        values.add(value);
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = getValue(resultSet, plan, i);
                     }
                     try {
                         printer.printRecord(values);
@@ -185,4 +132,64 @@ public class ResultSetCsvWriter extends AbstractResultSetWriter<String> {
         }
     }
 
+    /**
+     * Gets the value of a column. The values of the dynamic result sets are read by name, since the
+     * column indices may differ per row.
+     *
+     * @param resultSet the result set
+     * @param plan the column plan
+     * @param column the zero based column index
+     * @return the value
+     * @throws Exception the exception
+     */
+    private Object getValue(ResultSet resultSet, ColumnPlan plan, int column) throws Exception {
+        boolean byName = plan.isDynamic();
+        String name = plan.getName(column);
+        int index = column + 1;
+        Object value = null;
+        int dbt = plan.getType(column);
+        if (dbt == Types.BLOB || dbt == Types.BINARY || dbt == Types.LONGVARBINARY) {
+            InputStream is = byName ? resultSet.getBinaryStream(name) : resultSet.getBinaryStream(index);
+            if (is == null && stringify) {
+                value = "[NULL]";
+            } else if (is != null) {
+                byte[] ba = IOUtils.toByteArray(is);
+                if (stringify) {
+                    value = "[BLOB]";
+                } else {
+                    value = Base64.getEncoder()
+                                  .encodeToString(ba);
+                }
+            }
+        } else if (dbt == Types.CLOB || dbt == Types.LONGVARCHAR) {
+            Clob clob = byName ? resultSet.getClob(name) : resultSet.getClob(index);
+            if (clob == null && stringify) {
+                value = "[NULL]";
+            } else if (clob != null) {
+                byte[] ba = IOUtils.toByteArray(clob.getAsciiStream());
+                if (stringify) {
+                    value = "[CLOB]";
+                } else {
+                    value = Base64.getEncoder()
+                                  .encodeToString(ba);
+                }
+            }
+        } else if (dbt == Types.OTHER) {
+            Object dataObject = byName ? resultSet.getObject(name) : resultSet.getObject(index);
+            if (dataObject instanceof PGobject) {
+                value = ((PGobject) dataObject).getValue();
+            }
+        } else {
+            value = byName ? resultSet.getObject(name) : resultSet.getObject(index);
+            if (value == null && stringify) {
+                value = "[NULL]";
+            }
+            if (value != null && stringify && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
+                    && !(value instanceof java.util.Date)) {
+                value = "[BINARY]";
+            }
+        }
+        return value;
+    }
+
 }
@@ -14,21 +14,21 @@ import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-
-import jakarta.annotation.PostConstruct;
+import java.sql.Types;
+import java.util.ArrayList;
 
 import org.apache.commons.lang3.ClassUtils;
-import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
 
 /**
  * The ResultSet JSON Writer.
+ *
+ * The columns are resolved once per result set to a plan of value writers, which read the values
+ * by index with the typed getters, so that no metadata lookups and type checks are done per cell.
+ * The values of the schemaless result sets are read by name, as their column indices may differ
+ * per row.
  */
 public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
 
@@ -77,6 +77,12 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
     /** The object mapper. */
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    /** The column plan of the current result set. */
+    private ColumnPlan plan;
+
+    /** The value writers per column of the current result set. */
+    private ValueWriter[] valueWriters;
+
     /**
      * Write.
      *
@@ -92,73 +98,247 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
 
         jsonGenerator.writeStartArray();
 
+        plan = null;
         int count = 0;
         while (resultSet.next()) {
-            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            writeRow(resultSet, jsonGenerator);
 
-            jsonGenerator.writeStartObject();
+            if (this.isLimited() && (++count > getLimit())) {
+                break;
+            }
+        }
 
-            for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                String name = resultSetMetaData.getColumnName(i);
-                Object value = resultSet.getObject(name);
-                if (value == null && stringify) {
-                    value = "[NULL]";
-                }
-                if (value != null && ("org.bson.Document".equals(value.getClass()
-                                                                      .getCanonicalName())
-                        || "org.bson.types.ObjectId".equals(value.getClass()
-                                                                 .getCanonicalName())
-                        || "java.util.ArrayList".equals(value.getClass()
-                                                             .getCanonicalName()))) {
-                    if (stringify) {
-                        value = value.toString();
+        jsonGenerator.writeEndArray();
+        jsonGenerator.flush();
+    }
+
+    /**
+     * Writes the current row of the result set as a JSON object. The column plan is computed on the
+     * first row and reused for the next rows of the same result set.
+     *
+     * @param resultSet the result set positioned on the row
+     * @param jsonGenerator the json generator
+     * @throws Exception the exception
+     */
+    public void writeRow(ResultSet resultSet, JsonGenerator jsonGenerator) throws Exception {
+        ColumnPlan current = plan == null ? ColumnPlan.of(resultSet) : plan.refresh(resultSet);
+        if (current != plan) {
+            plan = current;
+            valueWriters = createValueWriters(current);
+        }
+
+        jsonGenerator.writeStartObject();
+
+        for (int i = 0; i < valueWriters.length; i++) {
+            jsonGenerator.writeFieldName(plan.getName(i));
+            valueWriters[i].write(resultSet, i + 1, jsonGenerator);
+        }
+
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Creates the value writers for the columns of the plan.
+     *
+     * @param plan the plan
+     * @return the value writers
+     */
+    private ValueWriter[] createValueWriters(ColumnPlan plan) {
+        ValueWriter[] writers = new ValueWriter[plan.size()];
+        for (int i = 0; i < writers.length; i++) {
+            if (plan.isDynamic()) {
+                String name = plan.getName(i);
+                writers[i] = (rs, index, gen) -> writeValue(rs.getObject(name), gen);
+            } else {
+                writers[i] = createValueWriter(plan.getType(i), plan.isSigned(i));
+            }
+        }
+        return writers;
+    }
+
+    /**
+     * Creates the value writer for a column type. The types, which may be returned as different
+     * objects by the different drivers, are written by the generic writer.
+     *
+     * @param type the SQL type
+     * @param signed whether the numeric type is signed
+     * @return the value writer
+     */
+    private ValueWriter createValueWriter(int type, boolean signed) {
+        switch (type) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return (rs, i, gen) -> {
+                    String value = rs.getString(i);
+                    if (value == null) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeString(value);
                     }
+                };
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return (rs, i, gen) -> {
+                    long value = rs.getLong(i);
+                    if (rs.wasNull()) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeNumber(value);
+                    }
+                };
+            case Types.BIGINT:
+                if (!signed) {
+                    // unsigned values may not fit in a long
+                    return this::writeObject;
                 }
-                if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
-                        && !java.util.Date.class.isAssignableFrom(value.getClass())) {
-                    if (stringify) {
-                        value = "[BINARY]";
+                return (rs, i, gen) -> {
+                    long value = rs.getLong(i);
+                    if (rs.wasNull()) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeNumber(value);
                     }
+                };
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                if (stringify) {
+                    // the big numbers are not written as values in the stringified mode
+                    return this::writeObject;
                 }
+                return (rs, i, gen) -> {
+                    BigDecimal value = rs.getBigDecimal(i);
+                    if (value == null) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeNumber(value);
+                    }
+                };
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return (rs, i, gen) -> {
+                    double value = rs.getDouble(i);
+                    if (rs.wasNull()) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeNumber(value);
+                    }
+                };
+            case Types.REAL:
+                return (rs, i, gen) -> {
+                    float value = rs.getFloat(i);
+                    if (rs.wasNull()) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeNumber(value);
+                    }
+                };
+            case Types.BOOLEAN:
+                return (rs, i, gen) -> {
+                    boolean value = rs.getBoolean(i);
+                    if (rs.wasNull()) {
+                        writeNull(gen);
+                    } else {
+                        gen.writeBoolean(value);
+                    }
+                };
+            default:
+                return this::writeObject;
+        }
+    }
 
-                jsonGenerator.writeFieldName(name);
-
-                if (value instanceof String) {
-                    jsonGenerator.writeString((String) value);
-                } else if (value instanceof Character) {
-                    jsonGenerator.writeString(new String(new char[] {(char) value}));
-                } else if (value instanceof Float) {
-                    jsonGenerator.writeNumber((Float) value);
-                } else if (value instanceof Double) {
-                    jsonGenerator.writeNumber((Double) value);
-                } else if (value instanceof BigDecimal) {
-                    jsonGenerator.writeNumber((BigDecimal) value);
-                } else if (value instanceof Long) {
-                    jsonGenerator.writeNumber((Long) value);
-                } else if (value instanceof BigInteger) {
-                    jsonGenerator.writeNumber((BigInteger) value);
-                } else if (value instanceof Integer) {
-                    jsonGenerator.writeNumber((Integer) value);
-                } else if (value instanceof Byte) {
-                    jsonGenerator.writeNumber((Byte) value);
-                } else if (value instanceof Short) {
-                    jsonGenerator.writeNumber((Short) value);
-                } else if (value instanceof Boolean) {
-                    jsonGenerator.writeBoolean((Boolean) value);
-                } else {
-                    jsonGenerator.writeString(value == null ? null : value.toString());
-                }
-            }
+    /**
+     * Writes a null value.
+     *
+     * @param jsonGenerator the json generator
+     * @throws Exception the exception
+     */
+    private void writeNull(JsonGenerator jsonGenerator) throws Exception {
+        if (stringify) {
+            jsonGenerator.writeString("[NULL]");
+        } else {
+            jsonGenerator.writeNull();
+        }
+    }
 
-            jsonGenerator.writeEndObject();
+    /**
+     * Writes the value of a column of any type.
+     *
+     * @param resultSet the result set
+     * @param index the index
+     * @param jsonGenerator the json generator
+     * @throws Exception the exception
+     */
+    private void writeObject(ResultSet resultSet, int index, JsonGenerator jsonGenerator) throws Exception {
+        writeValue(resultSet.getObject(index), jsonGenerator);
+    }
 
-            if (this.isLimited() && (++count > getLimit())) {
-                break;
-            }
+    /**
+     * Writes a value of any type.
+     *
+     * @param value the value
+     * @param jsonGenerator the json generator
+     * @throws Exception the exception
+     */
+    private void writeValue(Object value, JsonGenerator jsonGenerator) throws Exception {
+        if (value == null) {
+            writeNull(jsonGenerator);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (stringify && (valueClass == ArrayList.class || "org.bson.Document".equals(valueClass.getName())
+                || "org.bson.types.ObjectId".equals(valueClass.getName()))) {
+            value = value.toString();
+        } else if (stringify && !ClassUtils.isPrimitiveOrWrapper(valueClass) && valueClass != String.class
+                && !(value instanceof java.util.Date)) {
+            value = "[BINARY]";
         }
 
-        jsonGenerator.writeEndArray();
-        jsonGenerator.flush();
+        if (value instanceof String) {
+            jsonGenerator.writeString((String) value);
+        } else if (value instanceof Character) {
+            jsonGenerator.writeString(new String(new char[] {(char) value}));
+        } else if (value instanceof Float) {
+            jsonGenerator.writeNumber((Float) value);
+        } else if (value instanceof Double) {
+            jsonGenerator.writeNumber((Double) value);
+        } else if (value instanceof BigDecimal) {
+            jsonGenerator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Long) {
+            jsonGenerator.writeNumber((Long) value);
+        } else if (value instanceof BigInteger) {
+            jsonGenerator.writeNumber((BigInteger) value);
+        } else if (value instanceof Integer) {
+            jsonGenerator.writeNumber((Integer) value);
+        } else if (value instanceof Byte) {
+            jsonGenerator.writeNumber((Byte) value);
+        } else if (value instanceof Short) {
+            jsonGenerator.writeNumber((Short) value);
+        } else if (value instanceof Boolean) {
+            jsonGenerator.writeBoolean((Boolean) value);
+        } else {
+            jsonGenerator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes the value of a column.
+     */
+    @FunctionalInterface
+    private interface ValueWriter {
+
+        /**
+         * Write.
+         *
+         * @param resultSet the result set
+         * @param index the one based index
+         * @param jsonGenerator the json generator
+         * @throws Exception the exception
+         */
+        void write(ResultSet resultSet, int index, JsonGenerator jsonGenerator) throws Exception;
     }
 
 }
@@ -82,43 +82,16 @@ public class ResultSetMonospacedWriter extends AbstractResultSetWriter<String> {
             }
 
             int count = 0;
+            ColumnPlan plan = null;
             while (resultSet.next()) {
 
-                resultSetMetaData = resultSet.getMetaData();// needs an update on each iteration for nosql dbs as it can
-                                                            // change with each document
-
-                List<String> headersForRow = this.getHeader(resultSetMetaData);
-
-                for (String headerForRow : headersForRow) {
-
-                    ColumnDescriptor columnDescriptor = new ColumnDescriptor();
-
-                    columnDescriptor.setName(headerForRow);
-
-                    int columnIndex = this.getColumnIndexByName(columnDescriptor.getName(), resultSetMetaData);
-
-                    columnDescriptor.setLabel(resultSetMetaData.getColumnLabel(columnIndex));
-                    if (columnDescriptor.getLabel() == null) {
-                        columnDescriptor.setLabel(columnDescriptor.getName());
-                    }
-
-                    columnDescriptor.setSqlType(resultSetMetaData.getColumnType(columnIndex));
-
-                    int displaySize = resultSetMetaData.getColumnDisplaySize(columnIndex);
-                    if (displaySize > 256) {
-                        displaySize = 256;
-                    }
-                    columnDescriptor.setDisplaySize(displaySize);
-                    if (columnDescriptor.getDisplaySize() < columnDescriptor.getName()
-                                                                            .length()) {
-                        columnDescriptor.setDisplaySize(columnDescriptor.getName()
-                                                                        .length());// make sure headers never get
-                                                                                   // truncated
-                    }
-
-                    if (!columnHeaderDescriptors.contains(columnDescriptor)) {
-                        columnHeaderDescriptors.add(columnDescriptor);
-                    }
+                // the metadata of the nosql dbs can change with each document, while the jdbc ones stay the same,
+                // hence the descriptors are collected only once for them
+                ColumnPlan current = plan == null ? ColumnPlan.of(resultSet) : plan.refresh(resultSet);
+                if (current != plan) {
+                    plan = current;
+                    resultSetMetaData = resultSet.getMetaData();
+                    addColumnDescriptors(columnHeaderDescriptors, resultSetMetaData);
                 }
 
                 sw.append(this.rowFormat.write(columnHeaderDescriptors, resultSetMetaData, resultSet));
@@ -137,6 +110,50 @@ public class ResultSetMonospacedWriter extends AbstractResultSetWriter<String> {
         }
     }
 
+    /**
+     * Adds the descriptors of the columns, which are not yet present.
+     *
+     * @param columnHeaderDescriptors the column header descriptors
+     * @param resultSetMetaData the result set meta data
+     * @throws SQLException the SQL exception
+     */
+    private void addColumnDescriptors(List<ColumnDescriptor> columnHeaderDescriptors, ResultSetMetaData resultSetMetaData)
+            throws SQLException {
+        List<String> headersForRow = this.getHeader(resultSetMetaData);
+
+        for (String headerForRow : headersForRow) {
+
+            ColumnDescriptor columnDescriptor = new ColumnDescriptor();
+
+            columnDescriptor.setName(headerForRow);
+
+            int columnIndex = this.getColumnIndexByName(columnDescriptor.getName(), resultSetMetaData);
+
+            columnDescriptor.setLabel(resultSetMetaData.getColumnLabel(columnIndex));
+            if (columnDescriptor.getLabel() == null) {
+                columnDescriptor.setLabel(columnDescriptor.getName());
+            }
+
+            columnDescriptor.setSqlType(resultSetMetaData.getColumnType(columnIndex));
+
+            int displaySize = resultSetMetaData.getColumnDisplaySize(columnIndex);
+            if (displaySize > 256) {
+                displaySize = 256;
+            }
+            columnDescriptor.setDisplaySize(displaySize);
+            if (columnDescriptor.getDisplaySize() < columnDescriptor.getName()
+                                                                    .length()) {
+                columnDescriptor.setDisplaySize(columnDescriptor.getName()
+                                                                .length());// make sure headers never get
+                                                                           // truncated
+            }
+
+            if (!columnHeaderDescriptors.contains(columnDescriptor)) {
+                columnHeaderDescriptors.add(columnDescriptor);
+            }
+        }
+    }
+
     /**
      * Gets the colum index by name.
      *
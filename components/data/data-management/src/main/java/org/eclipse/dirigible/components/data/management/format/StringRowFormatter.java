@@ -51,9 +51,7 @@ public class StringRowFormatter implements RowFormatter {
             String value = null;
 
             // For the schemaless NoSQL DBs it's perfectly legal for records to miss some key-value tuples.
-            if (columnDescriptor.getSqlType() == Integer.MIN_VALUE) {
-                value = "";
-            } else {
+            if (columnDescriptor.getSqlType() != Integer.MIN_VALUE) {
                 if (this.isBinaryType(columnDescriptor.getSqlType())) {
                     value = VALUE_BINARY;
                 } else {
@@ -72,14 +70,14 @@ public class StringRowFormatter implements RowFormatter {
                         if (value.length() > 3) {
                             value = value.substring(0, value.length() - 3) + "...";
                         }
-                    } else if (delta < 0) {
-                        value = String.format("%-" + columnDescriptor.getDisplaySize() + "s", value);
                     }
-
+                    buff.append(value);
+                    for (; delta < 0; delta++) {
+                        buff.append(' ');
+                    }
                 }
             }
 
-            buff.append(value);
             buff.append(ResultSetMonospacedWriter.DELIMITER);
 
         }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.management.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * The Class ResultSetJsonWriterTest.
+ */
+@SpringBootTest
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+public class ResultSetJsonWriterTest {
+
+    /** The datasources manager. */
+    @Autowired
+    private DataSourcesManager datasourcesManager;
+
+    /**
+     * Write mixed types test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeMixedTypesTest() throws Exception {
+        String expected = "[{\"ID\":1,\"NAME\":\"a\",\"AMOUNT\":1.50,\"RATE\":0.25,\"ACTIVE\":true,\"BIG\":9007199254740993},"
+                + "{\"ID\":2,\"NAME\":null,\"AMOUNT\":null,\"RATE\":null,\"ACTIVE\":null,\"BIG\":null}]";
+        assertEquals(expected, write(false));
+    }
+
+    /**
+     * Write mixed types stringified test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeMixedTypesStringifiedTest() throws Exception {
+        String expected = "[{\"ID\":1,\"NAME\":\"a\",\"AMOUNT\":\"[BINARY]\",\"RATE\":0.25,\"ACTIVE\":true,\"BIG\":9007199254740993},"
+                + "{\"ID\":2,\"NAME\":\"[NULL]\",\"AMOUNT\":\"[NULL]\",\"RATE\":\"[NULL]\",\"ACTIVE\":\"[NULL]\",\"BIG\":\"[NULL]\"}]";
+        assertEquals(expected, write(true));
+    }
+
+    /**
+     * The values of the documents with different keys are read by name.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeDynamicResultSetTest() throws Exception {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("_id", "a");
+        first.put("count", 1);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("_id", "b");
+        second.put("name", "x");
+        second.put("active", true);
+        ResultSet resultSet = mockDocuments("MongoDB", List.of(first, second));
+
+        ResultSetJsonWriter writer = new ResultSetJsonWriter();
+        writer.setStringified(false);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write(resultSet, output);
+
+        assertEquals("[{\"_id\":\"a\",\"count\":1},{\"_id\":\"b\",\"name\":\"x\",\"active\":true}]",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The result sets of the relational databases are static, regardless of the metadata instances
+     * returned by the driver.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void relationalResultSetIsStaticTest() throws Exception {
+        try (Connection connection = datasourcesManager.getDefaultDataSource()
+                                                       .getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1 AS ONE")) {
+            assertFalse(ColumnPlan.isDynamic(resultSet));
+        }
+    }
+
+    /**
+     * Mocks a result set over documents, which exposes new metadata per document and fails to read the
+     * values by index.
+     *
+     * @param productName the database product name
+     * @param documents the documents
+     * @return the result set
+     * @throws SQLException the SQL exception
+     */
+    private static ResultSet mockDocuments(String productName, List<Map<String, Object>> documents) throws SQLException {
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn(productName);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        Statement statement = mock(Statement.class);
+        when(statement.getConnection()).thenReturn(connection);
+
+        List<ResultSetMetaData> metadata = new ArrayList<>();
+        for (Map<String, Object> document : documents) {
+            metadata.add(mockMetadata(document));
+        }
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        when(resultSet.getObject(anyInt())).thenThrow(new SQLException("Not readable by index"));
+        int[] row = {-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++row[0] < documents.size());
+        when(resultSet.getMetaData()).thenAnswer(invocation -> metadata.get(row[0]));
+        when(resultSet.getObject(anyString())).thenAnswer(invocation -> documents.get(row[0])
+                                                                                 .get(invocation.getArgument(0, String.class)));
+        return resultSet;
+    }
+
+    /**
+     * Mocks the metadata of a document.
+     *
+     * @param document the document
+     * @return the result set meta data
+     * @throws SQLException the SQL exception
+     */
+    private static ResultSetMetaData mockMetadata(Map<String, Object> document) throws SQLException {
+        String[] names = document.keySet()
+                                 .toArray(new String[0]);
+        ResultSetMetaData metadata = mock(ResultSetMetaData.class);
+        when(metadata.getColumnCount()).thenReturn(names.length);
+        for (int i = 0; i < names.length; i++) {
+            when(metadata.getColumnName(i + 1)).thenReturn(names[i]);
+            when(metadata.getColumnLabel(i + 1)).thenReturn(names[i]);
+            when(metadata.getColumnType(i + 1)).thenReturn(Types.OTHER);
+        }
+        return metadata;
+    }
+
+    /**
+     * Writes the test table with the json writer.
+     *
+     * @param stringify the stringify
+     * @return the json
+     * @throws Exception the exception
+     */
+    private String write(boolean stringify) throws Exception {
+        try (Connection connection = datasourcesManager.getDefaultDataSource()
+                                                       .getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE JSON_WRITER_A (ID INT PRIMARY KEY, NAME VARCHAR(20), AMOUNT DECIMAL(10,2), "
+                    + "RATE DOUBLE PRECISION, ACTIVE BOOLEAN, BIG BIGINT)");
+            try {
+                statement.execute("INSERT INTO JSON_WRITER_A VALUES (1, 'a', 1.50, 0.25, TRUE, 9007199254740993)");
+                statement.execute("INSERT INTO JSON_WRITER_A (ID) VALUES (2)");
+                ResultSetJsonWriter writer = new ResultSetJsonWriter();
+                writer.setStringified(stringify);
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                try (ResultSet resultSet = statement.executeQuery("SELECT * FROM JSON_WRITER_A ORDER BY ID")) {
+                    writer.write(resultSet, output);
+                }
+                return output.toString(StandardCharsets.UTF_8);
+            } finally {
+                statement.execute("DROP TABLE JSON_WRITER_A");
+            }
+        }
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+
+}
@@ -151,6 +151,19 @@ public interface DataTransferCallbackHandler {
      */
     void tableSkipped(String table, String reason);
 
+    /**
+     * Chunk transfer finished. Reported only by the parallel transfer, hence it does nothing by
+     * default.
+     *
+     * @param table the table
+     * @param chunk the chunk index
+     * @param chunks the chunks count of the table
+     * @param transferedRecords the transfered records of the chunk
+     */
+    default void chunkTransferFinished(String table, int chunk, int chunks, int transferedRecords) {
+        // not reported by default
+    }
+
     /**
      * Stop transfer.
      */
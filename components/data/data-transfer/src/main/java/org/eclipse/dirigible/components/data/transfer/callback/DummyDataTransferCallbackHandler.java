@@ -151,6 +151,17 @@ public class DummyDataTransferCallbackHandler implements DataTransferCallbackHan
     @Override
     public void recordTransferFinished(String tableName, int i) {}
 
+    /**
+     * Chunk transfer finished.
+     *
+     * @param table the table
+     * @param chunk the chunk index
+     * @param chunks the chunks count of the table
+     * @param transferedRecords the transfered records of the chunk
+     */
+    @Override
+    public void chunkTransferFinished(String table, int chunk, int chunks, int transferedRecords) {}
+
     /**
      * Table select SQL.
      *
@@ -44,7 +44,7 @@ public class WriterDataTransferCallbackHandler implements DataTransferCallbackHa
     private String identifier;
 
     /** The stopped. */
-    private boolean stopped = false;
+    private volatile boolean stopped = false;
 
     /**
      * Instantiates a new writer data transfer callback handler.
@@ -63,7 +63,7 @@ public class WriterDataTransferCallbackHandler implements DataTransferCallbackHa
      * @param s the s
      * @param severity the severity
      */
-    private void write(String s, String severity) {
+    private synchronized void write(String s, String severity) {
         try {
             String message = String.format("[%s][%s] %s", identifier, severity, s);
             this.writer.write(message);
@@ -254,6 +254,20 @@ public class WriterDataTransferCallbackHandler implements DataTransferCallbackHa
         //
     }
 
+    /**
+     * Chunk transfer finished.
+     *
+     * @param table the table
+     * @param chunk the chunk index
+     * @param chunks the chunks count of the table
+     * @param transferedRecords the transfered records of the chunk
+     */
+    @Override
+    public void chunkTransferFinished(String table, int chunk, int chunks, int transferedRecords) {
+        write("Data transfer has been finished for chunk " + (chunk + 1) + " of " + chunks + " of table: " + table
+                + " with records count: " + transferedRecords, SEVERITY_INFO);
+    }
+
     /**
      * Table select SQL.
      *
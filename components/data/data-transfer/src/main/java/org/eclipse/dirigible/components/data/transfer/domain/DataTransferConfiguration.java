@@ -21,6 +21,12 @@ public class DataTransferConfiguration {
     /** The target schema. */
     private String targetSchema;
 
+    /** The number of the chunks transferred in parallel, 0 for the configured default. */
+    private int parallelism;
+
+    /** The records count per chunk, 0 for the configured default. */
+    private int chunkSize;
+
     /**
      * Gets the source schema.
      *
@@ -57,4 +63,40 @@ public class DataTransferConfiguration {
         this.targetSchema = targetSchema;
     }
 
+    /**
+     * Gets the parallelism.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the parallelism.
+     *
+     * @param parallelism the parallelism to set
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the chunk size.
+     *
+     * @return the chunkSize
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the chunk size.
+     *
+     * @param chunkSize the chunkSize to set
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
 }
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+
+/**
+ * The checkpoints of a chunked data transfer. They are stored in the system database, so that the
+ * target schema is not polluted with a table of the platform. A checkpoint is stored after the data
+ * of its chunk has been committed, hence an interrupted transfer may leave a committed chunk
+ * without a checkpoint - the resumed transfer removes the records of the pending chunks from the
+ * tables, which have been started already, before it transfers them again. A checkpoint keeps the
+ * key range of its chunk, so that a resumed transfer skips only the chunks with exactly the same
+ * range, even if the table is split differently, e.g. because of a changed chunk size.
+ */
+class DataTransferCheckpoints {
+
+    /** The Constant CHECKPOINTS_TABLE. */
+    static final String CHECKPOINTS_TABLE = "DIRIGIBLE_DATA_TRANSFER_CHECKPOINTS";
+
+    /** The chunk index marking a completely transferred table. */
+    static final int TABLE_FINISHED = -1;
+
+    /** The chunk index marking a started table. */
+    static final int TABLE_STARTED = -2;
+
+    /** The Constant COLUMN_TRANSFER_ID. */
+    private static final String COLUMN_TRANSFER_ID = "TRANSFER_ID";
+
+    /** The Constant COLUMN_TABLE_NAME. */
+    private static final String COLUMN_TABLE_NAME = "TABLE_NAME";
+
+    /** The Constant COLUMN_CHUNK_INDEX. */
+    private static final String COLUMN_CHUNK_INDEX = "CHUNK_INDEX";
+
+    /** The Constant COLUMN_KEY_FROM. */
+    private static final String COLUMN_KEY_FROM = "KEY_FROM";
+
+    /** The Constant COLUMN_KEY_TO. */
+    private static final String COLUMN_KEY_TO = "KEY_TO";
+
+    /** The Constant COLUMN_RECORDS. */
+    private static final String COLUMN_RECORDS = "RECORDS";
+
+    /** The dialect of the system database. */
+    private final ISqlDialect dialect;
+
+    /** The transfer id. */
+    private final String transferId;
+
+    /**
+     * Instantiates new data transfer checkpoints.
+     *
+     * @param dialect the dialect of the system database
+     * @param transferId the transfer id
+     */
+    DataTransferCheckpoints(ISqlDialect dialect, String transferId) {
+        this.dialect = dialect;
+        this.transferId = transferId;
+    }
+
+    /**
+     * Creates the checkpoints table, if it does not exist.
+     *
+     * @param connection the system connection
+     * @throws SQLException the SQL exception
+     */
+    void prepare(Connection connection) throws SQLException {
+        if (SqlFactory.getNative(dialect)
+                      .existsTable(connection, CHECKPOINTS_TABLE)) {
+            return;
+        }
+        String sql = SqlFactory.getNative(dialect)
+                               .create()
+                               .table(CHECKPOINTS_TABLE)
+                               .columnVarchar(COLUMN_TRANSFER_ID, 1024)
+                               .columnVarchar(COLUMN_TABLE_NAME, 255)
+                               .columnInteger(COLUMN_CHUNK_INDEX)
+                               .columnBigint(COLUMN_KEY_FROM)
+                               .columnBigint(COLUMN_KEY_TO)
+                               .columnInteger(COLUMN_RECORDS)
+                               .build();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Gets the checkpoints of a table, including the ones marking the started and the finished table.
+     *
+     * @param connection the system connection
+     * @param table the table
+     * @return the checkpoints
+     * @throws SQLException the SQL exception
+     */
+    List<Checkpoint> getFinishedChunks(Connection connection, String table) throws SQLException {
+        String sql = SqlFactory.getNative(dialect)
+                               .select()
+                               .column(COLUMN_CHUNK_INDEX)
+                               .column(COLUMN_KEY_FROM)
+                               .column(COLUMN_KEY_TO)
+                               .column(COLUMN_RECORDS)
+                               .from(CHECKPOINTS_TABLE)
+                               .where(COLUMN_TRANSFER_ID + " = ?")
+                               .where(COLUMN_TABLE_NAME + " = ?")
+                               .build();
+        List<Checkpoint> chunks = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, transferId);
+            statement.setString(2, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    int index = resultSet.getInt(1);
+                    Long from = resultSet.getObject(2) != null ? resultSet.getLong(2) : null;
+                    Long to = resultSet.getObject(3) != null ? resultSet.getLong(3) : null;
+                    chunks.add(new Checkpoint(index, from, to, resultSet.getInt(4)));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Records a transferred chunk, after its data has been committed.
+     *
+     * @param connection the system connection
+     * @param table the table
+     * @param chunk the chunk index
+     * @param from the lowest key value of the chunk or null, if the chunk is the whole table
+     * @param to the highest key value of the chunk or null, if the chunk is the whole table
+     * @param records the records count
+     * @throws SQLException the SQL exception
+     */
+    void chunkFinished(Connection connection, String table, int chunk, Long from, Long to, int records) throws SQLException {
+        String sql = SqlFactory.getNative(dialect)
+                               .insert()
+                               .into(CHECKPOINTS_TABLE)
+                               .column(COLUMN_TRANSFER_ID)
+                               .column(COLUMN_TABLE_NAME)
+                               .column(COLUMN_CHUNK_INDEX)
+                               .column(COLUMN_KEY_FROM)
+                               .column(COLUMN_KEY_TO)
+                               .column(COLUMN_RECORDS)
+                               .build();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, transferId);
+            statement.setString(2, table);
+            statement.setInt(3, chunk);
+            setKey(statement, 4, from);
+            setKey(statement, 5, to);
+            statement.setInt(6, records);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Records a started table, so that a resumed transfer knows that the table may contain records of
+     * chunks without checkpoints.
+     *
+     * @param connection the system connection
+     * @param table the table
+     * @throws SQLException the SQL exception
+     */
+    void tableStarted(Connection connection, String table) throws SQLException {
+        chunkFinished(connection, table, TABLE_STARTED, null, null, 0);
+    }
+
+    /**
+     * Records a completely transferred table.
+     *
+     * @param connection the system connection
+     * @param table the table
+     * @param records the records count
+     * @throws SQLException the SQL exception
+     */
+    void tableFinished(Connection connection, String table, int records) throws SQLException {
+        chunkFinished(connection, table, TABLE_FINISHED, null, null, records);
+    }
+
+    /**
+     * Sets a key value parameter, which may be null.
+     *
+     * @param statement the statement
+     * @param index the parameter index
+     * @param value the value
+     * @throws SQLException the SQL exception
+     */
+    private static void setKey(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value != null) {
+            statement.setLong(index, value);
+        } else {
+            statement.setNull(index, Types.BIGINT);
+        }
+    }
+
+    /**
+     * Removes the checkpoints of the transfer after its successful completion.
+     *
+     * @param connection the system connection
+     * @throws SQLException the SQL exception
+     */
+    void clear(Connection connection) throws SQLException {
+        String sql = SqlFactory.getNative(dialect)
+                               .delete()
+                               .from(CHECKPOINTS_TABLE)
+                               .where(COLUMN_TRANSFER_ID + " = ?")
+                               .build();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, transferId);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Creates the id of a transfer, which identifies the source and the target data sources and
+     * schemas.
+     *
+     * @param sourceName the source data source name
+     * @param sourceSchema the source schema
+     * @param targetName the target data source name
+     * @param targetSchema the target schema
+     * @return the transfer id
+     */
+    static String createTransferId(String sourceName, String sourceSchema, String targetName, String targetSchema) {
+        return sourceName + "/" + sourceSchema + ":" + targetName + "/" + targetSchema;
+    }
+
+    /**
+     * The checkpoint of a finished chunk or a marker of a started or finished table.
+     */
+    static class Checkpoint {
+
+        /** The chunk index. */
+        private final int index;
+
+        /** The lowest key value. */
+        private final Long from;
+
+        /** The highest key value. */
+        private final Long to;
+
+        /** The records count. */
+        private final int records;
+
+        /**
+         * Instantiates a new checkpoint.
+         *
+         * @param index the chunk index
+         * @param from the lowest key value
+         * @param to the highest key value
+         * @param records the records count
+         */
+        Checkpoint(int index, Long from, Long to, int records) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.records = records;
+        }
+
+        /**
+         * Gets the chunk index.
+         *
+         * @return the chunk index
+         */
+        int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the records count.
+         *
+         * @return the records count
+         */
+        int getRecords() {
+            return records;
+        }
+
+        /**
+         * Checks if the checkpoint is of a chunk with exactly the given key range.
+         *
+         * @param from the lowest key value or null, if the chunk is the whole table
+         * @param to the highest key value or null, if the chunk is the whole table
+         * @return true, if the checkpoint is of the same chunk
+         */
+        boolean isChunk(Long from, Long to) {
+            return index >= 0 && Objects.equals(this.from, from) && Objects.equals(this.to, to);
+        }
+
+        /**
+         * Checks if the checkpoint is a marker of a started or finished table.
+         *
+         * @param marker the marker index
+         * @return true, if the checkpoint is the marker
+         */
+        boolean isMarker(int marker) {
+            return index == marker;
+        }
+    }
+
+}
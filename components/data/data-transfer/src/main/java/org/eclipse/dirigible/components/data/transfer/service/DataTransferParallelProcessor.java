@@ -0,0 +1,677 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.components.data.transfer.callback.DataTransferCallbackHandler;
+import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableRelationModel;
+import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
+import org.eclipse.dirigible.database.sql.DataTypeUtils;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.builders.records.DeleteBuilder;
+import org.eclipse.dirigible.database.sql.builders.records.InsertBuilder;
+import org.eclipse.dirigible.database.sql.builders.records.SelectBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The parallel data transfer. The tables are grouped by their foreign key dependencies, so that the
+ * tables of a group depend only on the tables of the previous groups. The tables of a group are
+ * transferred in parallel, each one split in chunks by ranges of its numeric primary key. Every
+ * chunk is transferred over its own pooled connections and checkpointed with its key range in the
+ * system database after its commit, so that an interrupted transfer is resumed from the chunks
+ * without checkpoints.
+ * The records of such chunks are removed from the target before they are transferred again, as the
+ * transfer may have been interrupted between the commit of a chunk and its checkpoint.
+ */
+class DataTransferParallelProcessor {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DataTransferParallelProcessor.class);
+
+    /** The source. */
+    private final DataSource source;
+
+    /** The source dialect. */
+    private final ISqlDialect sourceDialect;
+
+    /** The target. */
+    private final DataSource target;
+
+    /** The target dialect. */
+    private final ISqlDialect targetDialect;
+
+    /** The system data source, keeping the checkpoints. */
+    private final DataSource system;
+
+    /** The configuration. */
+    private final DataTransferConfiguration configuration;
+
+    /** The parallelism. */
+    private final int parallelism;
+
+    /** The chunk size. */
+    private final int chunkSize;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The handler. */
+    private final DataTransferCallbackHandler handler;
+
+    /** The checkpoints. */
+    private final DataTransferCheckpoints checkpoints;
+
+    /**
+     * Instantiates a new data transfer parallel processor.
+     *
+     * @param source the source
+     * @param sourceDialect the source dialect
+     * @param target the target
+     * @param targetDialect the target dialect
+     * @param system the system data source, keeping the checkpoints
+     * @param systemDialect the system dialect
+     * @param transferId the transfer id, identifying the source and the target
+     * @param configuration the configuration
+     * @param parallelism the number of the chunks transferred in parallel
+     * @param chunkSize the records count per chunk
+     * @param batchSize the batch size
+     * @param handler the handler
+     */
+    DataTransferParallelProcessor(DataSource source, ISqlDialect sourceDialect, DataSource target, ISqlDialect targetDialect,
+            DataSource system, ISqlDialect systemDialect, String transferId, DataTransferConfiguration configuration, int parallelism,
+            int chunkSize, int batchSize, DataTransferCallbackHandler handler) {
+        this.source = source;
+        this.sourceDialect = sourceDialect;
+        this.target = target;
+        this.targetDialect = targetDialect;
+        this.system = system;
+        this.configuration = configuration;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.handler = handler;
+        this.checkpoints = new DataTransferCheckpoints(systemDialect, transferId);
+    }
+
+    /**
+     * Transfer the tables.
+     *
+     * @param tables the topologically sorted tables
+     * @throws SQLException the SQL exception
+     */
+    void transfer(List<PersistenceTableModel> tables) throws SQLException {
+
+        handler.dataTransferStarted();
+
+        try (Connection connection = system.getConnection()) {
+            checkpoints.prepare(connection);
+        }
+
+        boolean completed = true;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (List<PersistenceTableModel> group : groupByDependencies(tables)) {
+                List<TableTransfer> transfers = new ArrayList<>();
+                for (PersistenceTableModel tableModel : group) {
+                    if (handler.isStopped()) {
+                        return;
+                    }
+                    try {
+                        TableTransfer transfer = prepareTable(tableModel);
+                        if (transfer != null) {
+                            transfers.add(transfer);
+                        }
+                    } catch (Exception e) {
+                        completed = false;
+                        String error = "Error occured while preparing the data transfer for table: " + tableModel.getTableName();
+                        if (logger.isErrorEnabled()) {
+                            logger.error(error, e);
+                        }
+                        handler.tableTransferFailed(tableModel.getTableName(), error + " -> " + e.getMessage());
+                    }
+                }
+
+                Map<Future<?>, TableTransfer> futures = new HashMap<>();
+                for (TableTransfer transfer : transfers) {
+                    for (Chunk chunk : transfer.pending) {
+                        futures.put(executor.submit(() -> {
+                            transferChunk(transfer, chunk);
+                            return null;
+                        }), transfer);
+                    }
+                }
+                for (Map.Entry<Future<?>, TableTransfer> entry : futures.entrySet()) {
+                    try {
+                        entry.getKey()
+                             .get();
+                    } catch (ExecutionException e) {
+                        String table = entry.getValue().tableModel.getTableName();
+                        if (logger.isErrorEnabled()) {
+                            logger.error("Error occured while transferring a chunk of the data for table: " + table, e.getCause());
+                        }
+                        String message = e.getCause()
+                                          .getMessage();
+                        entry.getValue().error.compareAndSet(null, message != null ? message
+                                : e.getCause()
+                                   .toString());
+                    }
+                }
+
+                for (TableTransfer transfer : transfers) {
+                    completed &= finishTable(transfer);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            handler.stopTransfer();
+            return;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (completed && !handler.isStopped()) {
+            try (Connection connection = system.getConnection()) {
+                checkpoints.clear(connection);
+            }
+        }
+
+        handler.dataTransferFinished();
+    }
+
+    /**
+     * Groups the topologically sorted tables, so that the tables of a group depend only on the tables
+     * of the previous groups.
+     *
+     * @param tables the topologically sorted tables
+     * @return the groups
+     */
+    static List<List<PersistenceTableModel>> groupByDependencies(List<PersistenceTableModel> tables) {
+        Map<String, Integer> levels = new HashMap<>();
+        Map<Integer, List<PersistenceTableModel>> groups = new TreeMap<>();
+        for (PersistenceTableModel tableModel : tables) {
+            int level = 0;
+            for (PersistenceTableRelationModel relation : tableModel.getRelations()) {
+                Integer dependency = levels.get(relation.getToTableName());
+                if (dependency != null && !relation.getToTableName()
+                                                   .equals(tableModel.getTableName())) {
+                    level = Math.max(level, dependency + 1);
+                }
+            }
+            levels.put(tableModel.getTableName(), level);
+            groups.computeIfAbsent(level, k -> new ArrayList<>())
+                  .add(tableModel);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * Prepares the transfer of a table - creates it in the target database if needed and splits it in
+     * chunks, leaving out the chunks transferred already. A table, which has not been started by a
+     * previous run, is skipped if it contains records.
+     *
+     * @param tableModel the table model
+     * @return the table transfer or null, if the table is skipped
+     * @throws SQLException the SQL exception
+     */
+    private TableTransfer prepareTable(PersistenceTableModel tableModel) throws SQLException {
+        String table = tableModel.getTableName();
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Data transfer of table %s has been started...", table));
+        }
+        handler.tableTransferStarted(table);
+
+        List<DataTransferCheckpoints.Checkpoint> finished;
+        try (Connection systemConnection = system.getConnection()) {
+            finished = checkpoints.getFinishedChunks(systemConnection, table);
+        }
+        if (finished.stream()
+                    .anyMatch(checkpoint -> checkpoint.isMarker(DataTransferCheckpoints.TABLE_FINISHED))) {
+            handler.tableSkipped(table, "table has already been transferred");
+            return null;
+        }
+        boolean resumed = finished.stream()
+                                  .anyMatch(checkpoint -> checkpoint.isMarker(DataTransferCheckpoints.TABLE_STARTED));
+        try (Connection targetConnection = openTargetConnection()) {
+            if (!SqlFactory.getNative(targetDialect)
+                           .existsTable(targetConnection, table)) {
+                PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(null);
+                createTableProcessor.create(targetConnection, tableModel);
+            } else if (!resumed && countRecords(targetConnection, targetDialect, table) > 0) {
+                handler.tableSkipped(table, "table exists and it is not empty");
+                return null;
+            }
+        }
+        if (!resumed) {
+            try (Connection systemConnection = system.getConnection()) {
+                checkpoints.tableStarted(systemConnection, table);
+            }
+        }
+
+        List<Chunk> chunks;
+        try (Connection sourceConnection = openSourceConnection()) {
+            chunks = splitTable(sourceConnection, tableModel);
+        }
+
+        TableTransfer transfer = new TableTransfer(tableModel, chunks.size(), resumed);
+        for (Chunk chunk : chunks) {
+            // only a chunk with the same range is transferred already, the table may be split differently
+            DataTransferCheckpoints.Checkpoint checkpoint = finished.stream()
+                                                                    .filter(c -> c.isChunk(chunk.from, chunk.to))
+                                                                    .findFirst()
+                                                                    .orElse(null);
+            if (checkpoint != null) {
+                transfer.records.addAndGet(checkpoint.getRecords());
+            } else {
+                transfer.pending.add(chunk);
+            }
+        }
+        return transfer;
+    }
+
+    /**
+     * Splits a table in chunks by ranges of its primary key. The tables without a single numeric
+     * primary key are transferred as a single chunk.
+     *
+     * @param sourceConnection the source connection
+     * @param tableModel the table model
+     * @return the chunks
+     * @throws SQLException the SQL exception
+     */
+    private List<Chunk> splitTable(Connection sourceConnection, PersistenceTableModel tableModel) throws SQLException {
+        List<Chunk> chunks = new ArrayList<>();
+        String key = getNumericPrimaryKey(tableModel);
+        if (key == null) {
+            chunks.add(new Chunk(0, null, null, null));
+            return chunks;
+        }
+        String sql = SqlFactory.getNative(sourceDialect)
+                               .select()
+                               .column("MIN(" + key + ")")
+                               .column("MAX(" + key + ")")
+                               .column("COUNT(*)")
+                               .from(tableModel.getTableName())
+                               .build();
+        long min;
+        long max;
+        long count;
+        try (PreparedStatement statement = sourceConnection.prepareStatement(sql); ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            min = resultSet.getLong(1);
+            max = resultSet.getLong(2);
+            count = resultSet.getLong(3);
+        }
+        long range = max - min;
+        if (count <= chunkSize || range < 0) {
+            // small table or a key range overflowing a long
+            chunks.add(new Chunk(0, null, null, null));
+            return chunks;
+        }
+        long parts = (count + chunkSize - 1) / chunkSize;
+        long width = range / parts + 1;
+        for (int i = 0; i < parts; i++) {
+            long from = min + (i * width);
+            if (from > max) {
+                break;
+            }
+            long to = (i == parts - 1) || (max - from < width) ? max : from + width - 1;
+            chunks.add(new Chunk(i, key, from, to));
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the single numeric primary key column of a table.
+     *
+     * @param tableModel the table model
+     * @return the primary key column or null
+     */
+    private String getNumericPrimaryKey(PersistenceTableModel tableModel) {
+        PersistenceTableColumnModel key = null;
+        for (PersistenceTableColumnModel column : tableModel.getColumns()) {
+            if (column.isPrimaryKey()) {
+                if (key != null) {
+                    return null;
+                }
+                key = column;
+            }
+        }
+        if (key == null) {
+            return null;
+        }
+        String type = key.getType();
+        if (DataTypeUtils.isInteger(type) || DataTypeUtils.isBigint(type) || DataTypeUtils.isSmallint(type)
+                || DataTypeUtils.isTinyint(type)) {
+            return key.getName();
+        }
+        return null;
+    }
+
+    /**
+     * Transfers a chunk and stores its checkpoint after the commit. The records of the chunk left by
+     * an interrupted transfer are removed in the same transaction.
+     *
+     * @param transfer the table transfer
+     * @param chunk the chunk
+     * @throws SQLException the SQL exception
+     */
+    private void transferChunk(TableTransfer transfer, Chunk chunk) throws SQLException {
+        if (handler.isStopped() || transfer.error.get() != null) {
+            return;
+        }
+        String table = transfer.tableModel.getTableName();
+        try (Connection sourceConnection = openSourceConnection(); Connection targetConnection = openTargetConnection()) {
+            boolean sourceAutoCommit = sourceConnection.getAutoCommit();
+            boolean targetAutoCommit = targetConnection.getAutoCommit();
+            // some of the drivers stream the result set in chunks of the fetch size only in a transaction
+            sourceConnection.setAutoCommit(false);
+            targetConnection.setAutoCommit(false);
+            try {
+                if (transfer.resumed) {
+                    clearChunk(targetConnection, table, chunk);
+                }
+                int records = copyChunk(sourceConnection, targetConnection, table, chunk);
+                if (records < 0) {
+                    targetConnection.rollback();
+                    return;
+                }
+                targetConnection.commit();
+                try (Connection systemConnection = system.getConnection()) {
+                    checkpoints.chunkFinished(systemConnection, table, chunk.index, chunk.from, chunk.to, records);
+                }
+                transfer.records.addAndGet(records);
+                handler.chunkTransferFinished(table, chunk.index, transfer.chunks, records);
+            } catch (SQLException e) {
+                targetConnection.rollback();
+                throw e;
+            } finally {
+                sourceConnection.rollback();
+                sourceConnection.setAutoCommit(sourceAutoCommit);
+                targetConnection.setAutoCommit(targetAutoCommit);
+            }
+        }
+    }
+
+    /**
+     * Removes the records of a chunk from the target table.
+     *
+     * @param targetConnection the target connection
+     * @param table the table
+     * @param chunk the chunk
+     * @throws SQLException the SQL exception
+     */
+    private void clearChunk(Connection targetConnection, String table, Chunk chunk) throws SQLException {
+        DeleteBuilder deleteBuilder = SqlFactory.getNative(targetDialect)
+                                                .delete()
+                                                .from(table);
+        if (chunk.key != null) {
+            deleteBuilder.where(chunk.key + " >= ?")
+                         .where(chunk.key + " <= ?");
+        }
+        try (PreparedStatement statement = targetConnection.prepareStatement(deleteBuilder.build())) {
+            if (chunk.key != null) {
+                statement.setLong(1, chunk.from);
+                statement.setLong(2, chunk.to);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Copies the records of a chunk in batches.
+     *
+     * @param sourceConnection the source connection
+     * @param targetConnection the target connection
+     * @param table the table
+     * @param chunk the chunk
+     * @return the records count or -1, if the transfer has been stopped
+     * @throws SQLException the SQL exception
+     */
+    private int copyChunk(Connection sourceConnection, Connection targetConnection, String table, Chunk chunk) throws SQLException {
+        SelectBuilder selectBuilder = SqlFactory.getNative(sourceDialect)
+                                                .select()
+                                                .column("*")
+                                                .from(table);
+        if (chunk.key != null) {
+            selectBuilder.where(chunk.key + " >= ?")
+                         .where(chunk.key + " <= ?");
+        }
+        String selectSQL = selectBuilder.build();
+        handler.tableSelectSQL(selectSQL);
+
+        int records = 0;
+        try (PreparedStatement pstmtSource =
+                sourceConnection.prepareStatement(selectSQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            pstmtSource.setFetchSize(batchSize);
+            if (chunk.key != null) {
+                pstmtSource.setLong(1, chunk.from);
+                pstmtSource.setLong(2, chunk.to);
+            }
+            try (ResultSet rs = pstmtSource.executeQuery()) {
+                ResultSetMetaData resultSetMetaData = rs.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                int[] types = new int[columnCount + 1];
+
+                InsertBuilder insertBuilder = SqlFactory.getNative(targetDialect)
+                                                        .insert()
+                                                        .into(table);
+                for (int i = 1; i <= columnCount; i++) {
+                    insertBuilder.column(resultSetMetaData.getColumnName(i));
+                    types[i] = resultSetMetaData.getColumnType(i);
+                }
+                String insertSQL = insertBuilder.build();
+                handler.tableInsertSQL(insertSQL);
+
+                try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(insertSQL)) {
+                    while (rs.next()) {
+                        if (handler.isStopped()) {
+                            return -1;
+                        }
+                        for (int i = 1; i <= columnCount; i++) {
+                            DataTransferService.transferValue(rs, pstmtTarget, i, types[i]);
+                        }
+                        pstmtTarget.addBatch();
+                        if (++records % batchSize == 0) {
+                            pstmtTarget.executeBatch();
+                        }
+                    }
+                    if (records % batchSize != 0) {
+                        pstmtTarget.executeBatch();
+                    }
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Finishes the transfer of a table.
+     *
+     * @param transfer the table transfer
+     * @return true, if the table has been transferred completely
+     */
+    private boolean finishTable(TableTransfer transfer) {
+        String table = transfer.tableModel.getTableName();
+        String error = transfer.error.get();
+        if (error != null) {
+            handler.tableTransferFailed(table, "Error occured while transferring the data for table: " + table + " -> " + error);
+            return false;
+        }
+        if (handler.isStopped()) {
+            return false;
+        }
+        try (Connection connection = system.getConnection()) {
+            checkpoints.tableFinished(connection, table, transfer.records.get());
+        } catch (SQLException e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Error occured while storing the checkpoint for table: " + table, e);
+            }
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Data of table %s has been transferred successfully.", table));
+        }
+        handler.tableTransferFinished(table, transfer.records.get());
+        return true;
+    }
+
+    /**
+     * Count records.
+     *
+     * @param connection the connection
+     * @param dialect the dialect
+     * @param table the table
+     * @return the records count
+     * @throws SQLException the SQL exception
+     */
+    private static int countRecords(Connection connection, ISqlDialect dialect, String table) throws SQLException {
+        String countSQL = SqlFactory.getNative(dialect)
+                                    .select()
+                                    .column("count(*)")
+                                    .from(table)
+                                    .build();
+        try (PreparedStatement statement = connection.prepareStatement(countSQL); ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Opens a source connection.
+     *
+     * @return the connection
+     * @throws SQLException the SQL exception
+     */
+    private Connection openSourceConnection() throws SQLException {
+        return openConnection(source, configuration.getSourceSchema());
+    }
+
+    /**
+     * Opens a target connection.
+     *
+     * @return the connection
+     * @throws SQLException the SQL exception
+     */
+    private Connection openTargetConnection() throws SQLException {
+        return openConnection(target, configuration.getTargetSchema());
+    }
+
+    /**
+     * Opens a connection to a schema.
+     *
+     * @param dataSource the data source
+     * @param schema the schema
+     * @return the connection
+     * @throws SQLException the SQL exception
+     */
+    private static Connection openConnection(DataSource dataSource, String schema) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            connection.setSchema(schema);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * The transfer of a table.
+     */
+    private static class TableTransfer {
+
+        /** The table model. */
+        private final PersistenceTableModel tableModel;
+
+        /** The chunks count. */
+        private final int chunks;
+
+        /** The chunks, which are not transferred yet. */
+        private final List<Chunk> pending = new ArrayList<>();
+
+        /** The transferred records. */
+        private final AtomicInteger records = new AtomicInteger();
+
+        /** Whether the table has been started by a previous run. */
+        private final boolean resumed;
+
+        /** The first error. */
+        private final AtomicReference<String> error = new AtomicReference<>();
+
+        /**
+         * Instantiates a new table transfer.
+         *
+         * @param tableModel the table model
+         * @param chunks the chunks count
+         * @param resumed whether the table has been started by a previous run
+         */
+        TableTransfer(PersistenceTableModel tableModel, int chunks, boolean resumed) {
+            this.tableModel = tableModel;
+            this.chunks = chunks;
+            this.resumed = resumed;
+        }
+    }
+
+    /**
+     * A chunk of a table, the whole table, if no key is set.
+     */
+    private static class Chunk {
+
+        /** The index. */
+        private final int index;
+
+        /** The key column. */
+        private final String key;
+
+        /** The lowest key value. */
+        private final Long from;
+
+        /** The highest key value. */
+        private final Long to;
+
+        /**
+         * Instantiates a new chunk.
+         *
+         * @param index the index
+         * @param key the key column
+         * @param from the lowest key value
+         * @param to the highest key value
+         */
+        Chunk(int index, String key, Long from, Long to) {
+            this.index = index;
+            this.key = key;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import org.eclipse.dirigible.components.data.transfer.domain.DataTransfer;
 import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.InsertBuilder;
 import org.slf4j.Logger;
@@ -56,6 +57,18 @@ public class DataTransferService {
     /** The batch size. */
     private static int BATCH_SIZE = 1000;
 
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM = "DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM";
+
+    /** The Constant DEFAULT_PARALLELISM. */
+    private static final int DEFAULT_PARALLELISM = 1;
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE";
+
+    /** The Constant DEFAULT_CHUNK_SIZE. */
+    private static final int DEFAULT_CHUNK_SIZE = 100000;
+
 
     private final DataSourcesManager dataSourcesManager;
 
@@ -79,7 +92,7 @@ public class DataTransferService {
     public final void transfer(DataTransfer definition, DataTransferCallbackHandler handler) throws Exception {
         DataSource source = getDataSourcesManager().getDataSource(definition.getSource());
         DataSource target = getDataSourcesManager().getDataSource(definition.getTarget());
-        transfer(source, target, definition.getConfiguration(), handler);
+        transfer(definition.getSource(), source, definition.getTarget(), target, definition.getConfiguration(), handler);
     }
 
     /**
@@ -93,6 +106,23 @@ public class DataTransferService {
      */
     public final void transfer(DataSource source, DataSource target, DataTransferConfiguration configuration,
             DataTransferCallbackHandler handler) throws Exception {
+        transfer(null, source, null, target, configuration, handler);
+    }
+
+    /**
+     * Transfer. The names identify the checkpoints of a resumable parallel transfer. The JDBC URLs of
+     * the data sources are used instead of the missing names.
+     *
+     * @param sourceName the source name or null
+     * @param source the source
+     * @param targetName the target name or null
+     * @param target the target
+     * @param configuration the configuration
+     * @param handler the handler
+     * @throws Exception
+     */
+    private void transfer(String sourceName, DataSource source, String targetName, DataSource target,
+            DataTransferConfiguration configuration, DataTransferCallbackHandler handler) throws Exception {
 
         if (handler == null) {
             handler = new DummyDataTransferCallbackHandler();
@@ -112,9 +142,31 @@ public class DataTransferService {
                     return;
                 }
                 tables = sortTables(tables, handler);
-                sourceConnection.setSchema(configuration.getSourceSchema());
-                targetConnection.setSchema(configuration.getTargetSchema());
-                transferDataTables(tables, sourceConnection, targetConnection, handler);
+                ISqlDialect sourceDialect = SqlFactory.deriveDialect(source, sourceConnection);
+                ISqlDialect targetDialect = SqlFactory.deriveDialect(target, targetConnection);
+                int parallelism = configuration.getParallelism() > 0 ? configuration.getParallelism()
+                        : Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM, DEFAULT_PARALLELISM);
+                if (parallelism > 1) {
+                    int chunkSize = configuration.getChunkSize() > 0 ? configuration.getChunkSize()
+                            : Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
+                    DataSource system = getDataSourcesManager().getSystemDataSource();
+                    String sourceId = sourceName != null ? sourceName
+                            : sourceConnection.getMetaData()
+                                              .getURL();
+                    String targetId = targetName != null ? targetName
+                            : targetConnection.getMetaData()
+                                              .getURL();
+                    String transferId = DataTransferCheckpoints.createTransferId(sourceId, configuration.getSourceSchema(), targetId,
+                            configuration.getTargetSchema());
+                    DataTransferParallelProcessor processor = new DataTransferParallelProcessor(source, sourceDialect, target,
+                            targetDialect, system, SqlFactory.deriveDialect(system), transferId, configuration, parallelism, chunkSize,
+                            BATCH_SIZE, handler);
+                    processor.transfer(tables);
+                } else {
+                    sourceConnection.setSchema(configuration.getSourceSchema());
+                    targetConnection.setSchema(configuration.getTargetSchema());
+                    transferDataTables(tables, sourceConnection, sourceDialect, targetConnection, targetDialect, handler);
+                }
 
                 handler.transferFinished(tables.size());
 
@@ -178,11 +230,13 @@ public class DataTransferService {
      *
      * @param tables the tables
      * @param sourceConnection the source connection
+     * @param sourceDialect the source dialect
      * @param targetConnection the target connection
+     * @param targetDialect the target dialect
      * @param handler the handler
      */
-    private void transferDataTables(List<PersistenceTableModel> tables, Connection sourceConnection, Connection targetConnection,
-            DataTransferCallbackHandler handler) {
+    private void transferDataTables(List<PersistenceTableModel> tables, Connection sourceConnection, ISqlDialect sourceDialect,
+            Connection targetConnection, ISqlDialect targetDialect, DataTransferCallbackHandler handler) {
 
         handler.dataTransferStarted();
 
@@ -196,12 +250,12 @@ public class DataTransferService {
             handler.tableTransferStarted(tableModel.getTableName());
             try {
 
-                if (!SqlFactory.getNative(sourceConnection)
+                if (!SqlFactory.getNative(sourceDialect)
                                .existsTable(targetConnection, tableModel.getTableName())) {
                     PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(null);
                     createTableProcessor.create(targetConnection, tableModel);
                 } else {
-                    String countSQL = SqlFactory.getNative(sourceConnection)
+                    String countSQL = SqlFactory.getNative(sourceDialect)
                                                 .select()
                                                 .column("count(*)")
                                                 .from(tableModel.getTableName())
@@ -218,7 +272,7 @@ public class DataTransferService {
                     }
                 }
 
-                String selectSQL = SqlFactory.getNative(sourceConnection)
+                String selectSQL = SqlFactory.getNative(sourceDialect)
                                              .select()
                                              .column("*")
                                              .from(tableModel.getTableName())
@@ -232,7 +286,7 @@ public class DataTransferService {
                     try (ResultSet rs = pstmtSource.executeQuery()) {
                         ResultSetMetaData resultSetMetaData = rs.getMetaData();
 
-                        InsertBuilder insertBuilder = SqlFactory.getNative(targetConnection)
+                        InsertBuilder insertBuilder = SqlFactory.getNative(targetDialect)
                                                                 .insert()
                                                                 .into(tableModel.getTableName());
                         for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
@@ -249,100 +303,7 @@ public class DataTransferService {
                                     return;
                                 }
                                 for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                                    int type = resultSetMetaData.getColumnType(i);
-                                    switch (type) {
-                                        case java.sql.Types.ARRAY:
-                                            pstmtTarget.setArray(i, rs.getArray(i));
-                                            break;
-                                        case java.sql.Types.BIGINT:
-                                            pstmtTarget.setLong(i, rs.getLong(i));
-                                            break;
-                                        case java.sql.Types.BINARY:
-                                            pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
-                                            break;
-                                        case java.sql.Types.BIT:
-                                            pstmtTarget.setBoolean(i, rs.getBoolean(i));
-                                            break;
-                                        case java.sql.Types.BLOB:
-                                            pstmtTarget.setBlob(i, rs.getBlob(i));
-                                            break;
-                                        case java.sql.Types.BOOLEAN:
-                                            pstmtTarget.setBoolean(i, rs.getBoolean(i));
-                                            break;
-                                        case java.sql.Types.CHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.CLOB:
-                                            pstmtTarget.setClob(i, rs.getClob(i));
-                                            break;
-                                        case java.sql.Types.DATE:
-                                            pstmtTarget.setDate(i, rs.getDate(i));
-                                            break;
-                                        case java.sql.Types.DECIMAL:
-                                            pstmtTarget.setBigDecimal(i, rs.getBigDecimal(i));
-                                            break;
-                                        case java.sql.Types.DOUBLE:
-                                            pstmtTarget.setDouble(i, rs.getDouble(i));
-                                            break;
-                                        case java.sql.Types.FLOAT:
-                                            pstmtTarget.setFloat(i, rs.getFloat(i));
-                                            break;
-                                        case java.sql.Types.INTEGER:
-                                            pstmtTarget.setInt(i, rs.getInt(i));
-                                            break;
-                                        case java.sql.Types.LONGNVARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.LONGVARBINARY:
-                                            pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
-                                            break;
-                                        case java.sql.Types.LONGVARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.NCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.NCLOB:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.NUMERIC:
-                                            pstmtTarget.setDouble(i, rs.getDouble(i));
-                                            break;
-                                        case java.sql.Types.NVARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.REAL:
-                                            pstmtTarget.setFloat(i, rs.getFloat(i));
-                                            break;
-                                        case java.sql.Types.SMALLINT:
-                                            pstmtTarget.setShort(i, rs.getShort(i));
-                                            break;
-                                        case java.sql.Types.TIME:
-                                            pstmtTarget.setTime(i, rs.getTime(i));
-                                            break;
-                                        case java.sql.Types.TIME_WITH_TIMEZONE:
-                                            pstmtTarget.setTime(i, rs.getTime(i));
-                                            break;
-                                        case java.sql.Types.TIMESTAMP:
-                                            pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
-                                            break;
-                                        case java.sql.Types.TIMESTAMP_WITH_TIMEZONE:
-                                            pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
-                                            break;
-                                        case java.sql.Types.TINYINT:
-                                            pstmtTarget.setByte(i, rs.getByte(i));
-                                            break;
-                                        case java.sql.Types.VARBINARY:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.VARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        default:
-                                            pstmtTarget.setObject(i, rs.getObject(i));
-                                            break;
-                                    }
-
+                                    transferValue(rs, pstmtTarget, i, resultSetMetaData.getColumnType(i));
                                 }
                                 handler.recordTransferFinished(tableModel.getTableName(), ++transferedRecords);
                                 pstmtTarget.addBatch();
@@ -376,5 +337,108 @@ public class DataTransferService {
         handler.dataTransferFinished();
     }
 
+    /**
+     * Transfers the value of a column of the current source record to the target statement.
+     *
+     * @param rs the source result set
+     * @param pstmtTarget the target statement
+     * @param i the column index
+     * @param type the column type
+     * @throws SQLException the SQL exception
+     */
+    static void transferValue(ResultSet rs, PreparedStatement pstmtTarget, int i, int type) throws SQLException {
+        switch (type) {
+            case java.sql.Types.ARRAY:
+                pstmtTarget.setArray(i, rs.getArray(i));
+                break;
+            case java.sql.Types.BIGINT:
+                pstmtTarget.setLong(i, rs.getLong(i));
+                break;
+            case java.sql.Types.BINARY:
+                pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
+                break;
+            case java.sql.Types.BIT:
+                pstmtTarget.setBoolean(i, rs.getBoolean(i));
+                break;
+            case java.sql.Types.BLOB:
+                pstmtTarget.setBlob(i, rs.getBlob(i));
+                break;
+            case java.sql.Types.BOOLEAN:
+                pstmtTarget.setBoolean(i, rs.getBoolean(i));
+                break;
+            case java.sql.Types.CHAR:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.CLOB:
+                pstmtTarget.setClob(i, rs.getClob(i));
+                break;
+            case java.sql.Types.DATE:
+                pstmtTarget.setDate(i, rs.getDate(i));
+                break;
+            case java.sql.Types.DECIMAL:
+                pstmtTarget.setBigDecimal(i, rs.getBigDecimal(i));
+                break;
+            case java.sql.Types.DOUBLE:
+                pstmtTarget.setDouble(i, rs.getDouble(i));
+                break;
+            case java.sql.Types.FLOAT:
+                pstmtTarget.setFloat(i, rs.getFloat(i));
+                break;
+            case java.sql.Types.INTEGER:
+                pstmtTarget.setInt(i, rs.getInt(i));
+                break;
+            case java.sql.Types.LONGNVARCHAR:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.LONGVARBINARY:
+                pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
+                break;
+            case java.sql.Types.LONGVARCHAR:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.NCHAR:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.NCLOB:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.NUMERIC:
+                pstmtTarget.setDouble(i, rs.getDouble(i));
+                break;
+            case java.sql.Types.NVARCHAR:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.REAL:
+                pstmtTarget.setFloat(i, rs.getFloat(i));
+                break;
+            case java.sql.Types.SMALLINT:
+                pstmtTarget.setShort(i, rs.getShort(i));
+                break;
+            case java.sql.Types.TIME:
+                pstmtTarget.setTime(i, rs.getTime(i));
+                break;
+            case java.sql.Types.TIME_WITH_TIMEZONE:
+                pstmtTarget.setTime(i, rs.getTime(i));
+                break;
+            case java.sql.Types.TIMESTAMP:
+                pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
+                break;
+            case java.sql.Types.TIMESTAMP_WITH_TIMEZONE:
+                pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
+                break;
+            case java.sql.Types.TINYINT:
+                pstmtTarget.setByte(i, rs.getByte(i));
+                break;
+            case java.sql.Types.VARBINARY:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            case java.sql.Types.VARCHAR:
+                pstmtTarget.setString(i, rs.getString(i));
+                break;
+            default:
+                pstmtTarget.setObject(i, rs.getObject(i));
+                break;
+        }
+    }
 
 }
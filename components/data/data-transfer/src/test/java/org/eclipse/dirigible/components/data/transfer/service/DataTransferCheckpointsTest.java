@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class DataTransferCheckpointsTest.
+ */
+public class DataTransferCheckpointsTest {
+
+    /** The system data source. */
+    private JdbcDataSource system;
+
+    /** The dialect. */
+    private ISqlDialect dialect;
+
+    /**
+     * Creates the system database.
+     */
+    @BeforeEach
+    public void setUp() {
+        system = new JdbcDataSource();
+        system.setURL("jdbc:h2:mem:checkpoints-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        system.setUser("sa");
+        dialect = SqlFactory.deriveDialect(system);
+    }
+
+    /**
+     * The transfer id identifies both the data sources and the schemas.
+     */
+    @Test
+    public void testTransferId() {
+        String id = DataTransferCheckpoints.createTransferId("SourceDB", "PUBLIC", "TargetDB", "PUBLIC");
+        assertTrue(id.contains("SourceDB"));
+        assertTrue(id.contains("TargetDB"));
+        assertNotEquals(id, DataTransferCheckpoints.createTransferId("OtherDB", "PUBLIC", "TargetDB", "PUBLIC"));
+        assertNotEquals(id, DataTransferCheckpoints.createTransferId("SourceDB", "PUBLIC", "OtherDB", "PUBLIC"));
+    }
+
+    /**
+     * The checkpoints are kept per transfer and cleared only for the finished one.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testCheckpoints() throws SQLException {
+        DataTransferCheckpoints first = new DataTransferCheckpoints(dialect, DataTransferCheckpoints.createTransferId("A", "S", "B", "S"));
+        DataTransferCheckpoints second = new DataTransferCheckpoints(dialect, DataTransferCheckpoints.createTransferId("C", "S", "B", "S"));
+        try (Connection connection = system.getConnection()) {
+            first.prepare(connection);
+            second.prepare(connection);
+
+            first.tableStarted(connection, "ORDERS");
+            first.chunkFinished(connection, "ORDERS", 0, 1L, 10L, 10);
+            first.chunkFinished(connection, "ORDERS", 1, 11L, 15L, 5);
+            second.tableStarted(connection, "ORDERS");
+            second.tableFinished(connection, "ORDERS", 15);
+
+            assertEquals(Map.of(DataTransferCheckpoints.TABLE_STARTED, 0, 0, 10, 1, 5),
+                    toRecordsByIndex(first.getFinishedChunks(connection, "ORDERS")));
+            assertTrue(first.getFinishedChunks(connection, "ITEMS")
+                            .isEmpty());
+            assertEquals(Map.of(DataTransferCheckpoints.TABLE_STARTED, 0, DataTransferCheckpoints.TABLE_FINISHED, 15),
+                    toRecordsByIndex(second.getFinishedChunks(connection, "ORDERS")));
+
+            first.clear(connection);
+
+            assertTrue(first.getFinishedChunks(connection, "ORDERS")
+                            .isEmpty());
+            assertEquals(2, second.getFinishedChunks(connection, "ORDERS")
+                                  .size());
+        }
+    }
+
+    /**
+     * A checkpoint matches only a chunk with the same key range, while the markers of the table match
+     * no chunk.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testChunkRanges() throws SQLException {
+        DataTransferCheckpoints checkpoints = new DataTransferCheckpoints(dialect, DataTransferCheckpoints.createTransferId("A", "S", "B", "S"));
+        try (Connection connection = system.getConnection()) {
+            checkpoints.prepare(connection);
+            checkpoints.tableStarted(connection, "ORDERS");
+            checkpoints.chunkFinished(connection, "ORDERS", 0, 1L, 10L, 10);
+            checkpoints.tableStarted(connection, "ITEMS");
+            checkpoints.chunkFinished(connection, "ITEMS", 0, null, null, 3);
+
+            List<DataTransferCheckpoints.Checkpoint> orders = checkpoints.getFinishedChunks(connection, "ORDERS");
+            assertTrue(orders.stream()
+                             .anyMatch(checkpoint -> checkpoint.isChunk(1L, 10L)));
+            assertFalse(orders.stream()
+                              .anyMatch(checkpoint -> checkpoint.isChunk(1L, 5L)));
+            assertFalse(orders.stream()
+                              .anyMatch(checkpoint -> checkpoint.isChunk(null, null)));
+
+            List<DataTransferCheckpoints.Checkpoint> items = checkpoints.getFinishedChunks(connection, "ITEMS");
+            assertEquals(1, items.stream()
+                                 .filter(checkpoint -> checkpoint.isChunk(null, null))
+                                 .count());
+        }
+    }
+
+    /**
+     * Collects the records count per chunk index.
+     *
+     * @param checkpoints the checkpoints
+     * @return the records count per chunk index
+     */
+    private static Map<Integer, Integer> toRecordsByIndex(List<DataTransferCheckpoints.Checkpoint> checkpoints) {
+        return checkpoints.stream()
+                          .collect(Collectors.toMap(DataTransferCheckpoints.Checkpoint::getIndex,
+                                  DataTransferCheckpoints.Checkpoint::getRecords));
+    }
+
+}
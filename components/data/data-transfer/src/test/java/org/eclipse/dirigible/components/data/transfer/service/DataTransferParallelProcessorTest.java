@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.components.data.transfer.callback.DummyDataTransferCallbackHandler;
+import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class DataTransferParallelProcessorTest.
+ */
+public class DataTransferParallelProcessorTest {
+
+    /** The Constant SCHEMA. */
+    private static final String SCHEMA = "PUBLIC";
+
+    /** The Constant TRANSFER_ID. */
+    private static final String TRANSFER_ID = DataTransferCheckpoints.createTransferId("SourceDB", SCHEMA, "TargetDB", SCHEMA);
+
+    /** The source. */
+    private DataSource source;
+
+    /** The target. */
+    private DataSource target;
+
+    /** The system. */
+    private DataSource system;
+
+    /** The handler. */
+    private RecordingHandler handler;
+
+    /**
+     * Creates the databases with a source table of 100 records, which is split in 10 chunks.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        source = createDataSource("source");
+        target = createDataSource("target");
+        system = createDataSource("system");
+        handler = new RecordingHandler();
+        execute(source, "CREATE TABLE ORDERS (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        for (int i = 1; i <= 100; i++) {
+            execute(source, "INSERT INTO ORDERS VALUES (" + i + ", 'order" + i + "')");
+        }
+    }
+
+    /**
+     * All the chunks are transferred, while the checkpoints are kept in the system database and
+     * removed at the end.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testTransfer() throws SQLException {
+        createProcessor().transfer(reverseTables());
+
+        assertEquals(100, count(target, "SELECT COUNT(*) FROM ORDERS"));
+        assertEquals(10, handler.chunks.size());
+        assertEquals(Collections.singletonList("ORDERS"), handler.finished);
+        assertTrue(handler.failed.isEmpty());
+        assertEquals(0, countCheckpoints());
+        try (Connection connection = target.getConnection()) {
+            assertFalse(SqlFactory.getNative(dialect(target))
+                                  .existsTable(connection, DataTransferCheckpoints.CHECKPOINTS_TABLE));
+        }
+    }
+
+    /**
+     * An interrupted transfer is resumed from the chunks without checkpoints, including a chunk
+     * committed before the interruption, but not checkpointed.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testResume() throws SQLException {
+        DataTransferCheckpoints checkpoints = new DataTransferCheckpoints(dialect(system), TRANSFER_ID);
+        try (Connection connection = system.getConnection()) {
+            checkpoints.prepare(connection);
+            checkpoints.tableStarted(connection, "ORDERS");
+            checkpoints.chunkFinished(connection, "ORDERS", 0, 1L, 10L, 10);
+        }
+        execute(target, "CREATE TABLE ORDERS (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        for (int i = 1; i <= 20; i++) {
+            execute(target, "INSERT INTO ORDERS VALUES (" + i + ", 'order" + i + "')");
+        }
+
+        createProcessor().transfer(reverseTables());
+
+        assertTrue(handler.failed.isEmpty(), handler.failed::toString);
+        assertEquals(100, count(target, "SELECT COUNT(*) FROM ORDERS"));
+        assertEquals(9, handler.chunks.size());
+        assertFalse(handler.chunks.contains(0));
+        assertEquals(Collections.singletonList(100), handler.records);
+        assertEquals(0, countCheckpoints());
+    }
+
+    /**
+     * A resumed transfer with a different split of the table does not skip the chunks with the same
+     * index, but a different key range.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testResumeWithChangedChunks() throws SQLException {
+        DataTransferCheckpoints checkpoints = new DataTransferCheckpoints(dialect(system), TRANSFER_ID);
+        try (Connection connection = system.getConnection()) {
+            checkpoints.prepare(connection);
+            checkpoints.tableStarted(connection, "ORDERS");
+            // finished by a previous run with a chunk size of 5
+            checkpoints.chunkFinished(connection, "ORDERS", 0, 1L, 5L, 5);
+        }
+        execute(target, "CREATE TABLE ORDERS (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        for (int i = 1; i <= 5; i++) {
+            execute(target, "INSERT INTO ORDERS VALUES (" + i + ", 'order" + i + "')");
+        }
+
+        createProcessor().transfer(reverseTables());
+
+        assertTrue(handler.failed.isEmpty(), handler.failed::toString);
+        assertEquals(100, count(target, "SELECT COUNT(*) FROM ORDERS"));
+        assertEquals(10, handler.chunks.size());
+        assertTrue(handler.chunks.contains(0));
+        assertEquals(Collections.singletonList(100), handler.records);
+        assertEquals(0, countCheckpoints());
+    }
+
+    /**
+     * A non empty table, which has not been started by a previous run, is skipped.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testSkipNotEmptyTable() throws SQLException {
+        execute(target, "CREATE TABLE ORDERS (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        execute(target, "INSERT INTO ORDERS VALUES (1000, 'existing')");
+
+        createProcessor().transfer(reverseTables());
+
+        assertEquals(Collections.singletonList("ORDERS"), handler.skipped);
+        assertEquals(1, count(target, "SELECT COUNT(*) FROM ORDERS"));
+        assertTrue(handler.chunks.isEmpty());
+    }
+
+    /**
+     * The tables are grouped by their dependencies.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testGroupByDependencies() throws SQLException {
+        execute(source, "CREATE TABLE CUSTOMERS (ID INT PRIMARY KEY)");
+        execute(source, "CREATE TABLE ITEMS (ID INT PRIMARY KEY, ORDER_ID INT, FOREIGN KEY (ORDER_ID) REFERENCES ORDERS(ID))");
+        PersistenceTableModel customers = DataTransferReverseTableProcessor.reverseTable(source, SCHEMA, "CUSTOMERS");
+        PersistenceTableModel orders = DataTransferReverseTableProcessor.reverseTable(source, SCHEMA, "ORDERS");
+        PersistenceTableModel items = DataTransferReverseTableProcessor.reverseTable(source, SCHEMA, "ITEMS");
+
+        List<List<PersistenceTableModel>> groups = DataTransferParallelProcessor.groupByDependencies(List.of(customers, orders, items));
+
+        assertEquals(2, groups.size());
+        assertEquals(List.of(customers, orders), groups.get(0));
+        assertEquals(List.of(items), groups.get(1));
+    }
+
+    /**
+     * Creates the processor.
+     *
+     * @return the data transfer parallel processor
+     */
+    private DataTransferParallelProcessor createProcessor() {
+        DataTransferConfiguration configuration = new DataTransferConfiguration();
+        configuration.setSourceSchema(SCHEMA);
+        configuration.setTargetSchema(SCHEMA);
+        return new DataTransferParallelProcessor(source, dialect(source), target, dialect(target), system, dialect(system), TRANSFER_ID,
+                configuration, 4, 10, 7, handler);
+    }
+
+    /**
+     * Reverses the source tables.
+     *
+     * @return the tables
+     * @throws SQLException the SQL exception
+     */
+    private List<PersistenceTableModel> reverseTables() throws SQLException {
+        return List.of(DataTransferReverseTableProcessor.reverseTable(source, SCHEMA, "ORDERS"));
+    }
+
+    /**
+     * Counts the checkpoints of the transfer.
+     *
+     * @return the count
+     * @throws SQLException the SQL exception
+     */
+    private int countCheckpoints() throws SQLException {
+        return count(system, "SELECT COUNT(*) FROM " + DataTransferCheckpoints.CHECKPOINTS_TABLE + " WHERE TRANSFER_ID = '" + TRANSFER_ID + "'");
+    }
+
+    /**
+     * Creates an in-memory data source.
+     *
+     * @param name the name
+     * @return the data source
+     */
+    private static DataSource createDataSource(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    /**
+     * Gets the dialect.
+     *
+     * @param dataSource the data source
+     * @return the dialect
+     */
+    private static ISqlDialect dialect(DataSource dataSource) {
+        return SqlFactory.deriveDialect(dataSource);
+    }
+
+    /**
+     * Executes a statement.
+     *
+     * @param dataSource the data source
+     * @param sql the sql
+     * @throws SQLException the SQL exception
+     */
+    private static void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Counts by a query.
+     *
+     * @param dataSource the data source
+     * @param sql the sql
+     * @return the count
+     * @throws SQLException the SQL exception
+     */
+    private static int count(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * The handler recording the events.
+     */
+    private static class RecordingHandler extends DummyDataTransferCallbackHandler {
+
+        /** The transferred chunks. */
+        private final List<Integer> chunks = Collections.synchronizedList(new ArrayList<>());
+
+        /** The finished tables. */
+        private final List<String> finished = new ArrayList<>();
+
+        /** The records of the finished tables. */
+        private final List<Integer> records = new ArrayList<>();
+
+        /** The skipped tables. */
+        private final List<String> skipped = new ArrayList<>();
+
+        /** The failed tables. */
+        private final List<String> failed = new ArrayList<>();
+
+        /**
+         * Chunk transfer finished.
+         *
+         * @param table the table
+         * @param chunk the chunk index
+         * @param chunks the chunks count of the table
+         * @param transferedRecords the transfered records of the chunk
+         */
+        @Override
+        public void chunkTransferFinished(String table, int chunk, int chunks, int transferedRecords) {
+            this.chunks.add(chunk);
+        }
+
+        /**
+         * Table transfer finished.
+         *
+         * @param table the table
+         * @param transferedRecords the transfered records
+         */
+        @Override
+        public void tableTransferFinished(String table, int transferedRecords) {
+            finished.add(table);
+            records.add(transferedRecords);
+        }
+
+        /**
+         * Table skipped.
+         *
+         * @param table the table
+         * @param reason the reason
+         */
+        @Override
+        public void tableSkipped(String table, String reason) {
+            skipped.add(table);
+        }
+
+        /**
+         * Table transfer failed.
+         *
+         * @param table the table
+         * @param error the error
+         */
+        @Override
+        public void tableTransferFailed(String table, String error) {
+            failed.add(table + ": " + error);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.javascript.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
+import org.eclipse.dirigible.graalium.core.javascript.GraalJSSourceCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The Class JavascriptCachesEndpoint.
+ */
+@RestController
+@RequestMapping(BaseEndpoint.PREFIX_ENDPOINT_CORE + "javascript/caches")
+public class JavascriptCachesEndpoint {
+
+    /**
+     * Gets the statistics of the shared source cache.
+     *
+     * @return the statistics
+     */
+    @GetMapping("/sources")
+    public ResponseEntity<Map<String, Object>> getSourceCacheStatistics() {
+        GraalJSSourceCache cache = GraalJSSourceCache.get();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("size", cache.getSize());
+        statistics.put("hits", cache.getHits());
+        statistics.put("misses", cache.getMisses());
+        return ResponseEntity.ok(statistics);
+    }
+
+}
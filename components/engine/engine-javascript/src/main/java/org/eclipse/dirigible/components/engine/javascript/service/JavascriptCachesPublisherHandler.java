@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.javascript.service;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
+import org.eclipse.dirigible.graalium.core.javascript.GraalJSSourceCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Discards the pooled JavaScript contexts and the cached sources on publish, as the modules already
+ * loaded in them may be stale. All the projects are invalidated, since modules can be imported
+ * across projects.
+ */
+@Component
+public class JavascriptCachesPublisherHandler implements PublisherHandler {
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        DirigibleJavascriptCodeRunnerPool.get()
+                                         .invalidateAll();
+        GraalJSSourceCache.get()
+                          .clear();
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        DirigibleJavascriptCodeRunnerPool.get()
+                                         .invalidateAll();
+        GraalJSSourceCache.get()
+                          .clear();
+    }
+
+}
@@ -16,6 +16,8 @@ import java.nio.file.Path;
 import java.util.Map;
 import org.eclipse.dirigible.components.base.http.access.UserRequestVerifier;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool.PooledCodeRunner;
 import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -88,17 +90,22 @@ public class JavascriptHandler {
             }
 
             Path absoluteSourcePath = sourceProvider.getAbsoluteSourcePath(projectName, projectFilePath);
-            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(parameters, debug)) {
-                Source source = runner.prepareSource(absoluteSourcePath);
-                runner.getGraalJSInterceptor()
-                      .onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
-                                                                                     .getGraalContext());
-                Value value = runner.run(source);
-                runner.getGraalJSInterceptor()
-                      .onAfterRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
-                                                                                    .getGraalContext(),
-                              value);
-                return transformValue(value);
+            if (debug || !DirigibleJavascriptCodeRunnerPool.isEnabled()) {
+                try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(parameters, debug)) {
+                    return run(runner, runner.prepareSource(absoluteSourcePath), sourceFilePath, absoluteSourcePath);
+                }
+            }
+
+            DirigibleJavascriptCodeRunnerPool pool = DirigibleJavascriptCodeRunnerPool.get();
+            PooledCodeRunner pooled = pool.borrow(projectName, parameters, sourceProvider);
+            boolean healthy = false;
+            try {
+                DirigibleJavascriptCodeRunner runner = pooled.getRunner();
+                Object result = run(runner, runner.prepareIsolatedSource(absoluteSourcePath), sourceFilePath, absoluteSourcePath);
+                healthy = true;
+                return result;
+            } finally {
+                pool.release(pooled, healthy);
             }
         } catch (Throwable ex) {
             if (ex.getMessage() == null) {
@@ -118,6 +125,27 @@ public class JavascriptHandler {
         }
     }
 
+    /**
+     * Run the source with the given runner.
+     *
+     * @param runner the runner
+     * @param source the source
+     * @param sourceFilePath the source file path
+     * @param absoluteSourcePath the absolute source path
+     * @return the object
+     */
+    private Object run(DirigibleJavascriptCodeRunner runner, Source source, String sourceFilePath, Path absoluteSourcePath) {
+        runner.getGraalJSInterceptor()
+              .onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
+                                                                             .getGraalContext());
+        Value value = runner.run(source);
+        runner.getGraalJSInterceptor()
+              .onAfterRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
+                                                                            .getGraalContext(),
+                      value);
+        return transformValue(value);
+    }
+
     /**
      * Handle callback.
      *
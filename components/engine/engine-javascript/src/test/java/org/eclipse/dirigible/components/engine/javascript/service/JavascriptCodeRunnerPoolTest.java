@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.javascript.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool.PooledCodeRunner;
+import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
+import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * The Class JavascriptCodeRunnerPoolTest.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components.*"})
+public class JavascriptCodeRunnerPoolTest {
+
+    /** The Constant PROJECT. */
+    private static final String PROJECT = "pool-test";
+
+    /** The Constant FILE. */
+    private static final String FILE = "counter.js";
+
+    /** The repository. */
+    @Autowired
+    private IRepository repository;
+
+    /** The pool. */
+    private final DirigibleJavascriptCodeRunnerPool pool = DirigibleJavascriptCodeRunnerPool.get();
+
+    /** The source provider. */
+    private final JavascriptSourceProvider sourceProvider = new DirigibleSourceProvider();
+
+    /**
+     * Creates the script, which counts its evaluations and keeps the parameter of the last one.
+     */
+    @BeforeEach
+    public void setup() {
+        repository.createResource("/registry/public/" + PROJECT + "/" + FILE,
+                "globalThis.evaluations = (globalThis.evaluations || 0) + 1; globalThis.value = __context.get('value');".getBytes());
+        pool.invalidate(PROJECT);
+    }
+
+    /**
+     * Removes the script and the pooled runners.
+     */
+    @AfterEach
+    public void cleanup() {
+        pool.invalidate(PROJECT);
+        repository.removeResource("/registry/public/" + PROJECT + "/" + FILE);
+    }
+
+    /**
+     * A runner released as healthy is borrowed again, while a runner released after an error is not.
+     */
+    @Test
+    public void testBorrowAndRelease() {
+        PooledCodeRunner first = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        pool.release(first, true);
+
+        PooledCodeRunner second = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        assertSame(first, second);
+        pool.release(second, false);
+
+        PooledCodeRunner third = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        assertNotSame(second, third);
+        pool.release(third, true);
+    }
+
+    /**
+     * The pooled runners are discarded on publish, since their loaded modules may be stale.
+     */
+    @Test
+    public void testRecycledAfterPublish() {
+        PooledCodeRunner first = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        pool.release(first, true);
+
+        new JavascriptCachesPublisherHandler().afterPublish(null, null, null);
+
+        PooledCodeRunner second = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        assertNotSame(first, second);
+        pool.release(second, true);
+    }
+
+    /**
+     * A runner released while borrowed by another thread is not shared.
+     */
+    @Test
+    public void testBorrowedRunnerIsNotShared() {
+        PooledCodeRunner first = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        PooledCodeRunner second = pool.borrow(PROJECT, Map.of(), sourceProvider);
+        assertNotSame(first, second);
+        pool.release(first, true);
+        pool.release(second, true);
+    }
+
+    /**
+     * The entry module is evaluated again on every borrow of the same runner, with the parameters of
+     * the borrow, and the parameters are cleared on release.
+     */
+    @Test
+    public void testPooledEvaluationsAreIsolated() {
+        Path path = sourceProvider.getAbsoluteSourcePath(PROJECT, FILE);
+
+        PooledCodeRunner first = pool.borrow(PROJECT, Map.of("value", "first"), sourceProvider);
+        DirigibleJavascriptCodeRunner runner = first.getRunner();
+        runner.run(runner.prepareIsolatedSource(path));
+        assertEquals(1, getGlobal(runner, "evaluations").asInt());
+        assertEquals("first", getGlobal(runner, "value").asString());
+        pool.release(first, true);
+
+        assertTrue(getContextParameters(runner).isEmpty());
+
+        PooledCodeRunner second = pool.borrow(PROJECT, Map.of("value", "second"), sourceProvider);
+        assertSame(first, second);
+        runner.run(runner.prepareIsolatedSource(path));
+        assertEquals(2, getGlobal(runner, "evaluations").asInt());
+        assertEquals("second", getGlobal(runner, "value").asString());
+        assertFalse(getContextParameters(runner).isEmpty());
+        pool.release(second, true);
+    }
+
+    /**
+     * Gets a global value of the runner.
+     *
+     * @param runner the runner
+     * @param name the name
+     * @return the value
+     */
+    private static Value getGlobal(DirigibleJavascriptCodeRunner runner, String name) {
+        return runner.getCodeRunner()
+                     .getGraalContext()
+                     .getBindings("js")
+                     .getMember(name);
+    }
+
+    /**
+     * Gets the parameters exposed as <code>__context</code>.
+     *
+     * @param runner the runner
+     * @return the parameters
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> getContextParameters(DirigibleJavascriptCodeRunner runner) {
+        return getGlobal(runner, "__context").asHostObject();
+    }
+
+}
@@ -48,6 +48,17 @@ public class ActiveMQConnectionArtifactsFactory {
         return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
     }
 
+    /**
+     * Creates a new transacted session, which is committed or rolled back explicitly.
+     *
+     * @param connection the connection
+     * @return the session
+     * @throws JMSException the JMS exception
+     */
+    public Session createTransactedSession(Connection connection) throws JMSException {
+        return connection.createSession(true, Session.SESSION_TRANSACTED);
+    }
+
     /**
      * Creates a new ActiveMQConnectionArtifacts object.
      *
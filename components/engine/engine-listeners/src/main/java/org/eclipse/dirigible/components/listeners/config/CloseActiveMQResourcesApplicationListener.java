@@ -13,6 +13,7 @@ package org.eclipse.dirigible.components.listeners.config;
 import org.apache.activemq.broker.BrokerService;
 import org.eclipse.dirigible.components.base.ApplicationListenersOrder.ApplicationStoppedEventListeners;
 import org.eclipse.dirigible.components.listeners.service.ListenersManager;
+import org.eclipse.dirigible.components.listeners.service.MessagingSessionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -55,6 +56,9 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
     /** The listeners manager. */
     private final ListenersManager listenersManager;
 
+    /** The session pool. */
+    private final MessagingSessionPool sessionPool;
+
     /**
      * Instantiates a new close active MQ resources application listener.
      *
@@ -62,14 +66,16 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
      * @param connection the connection
      * @param session the session
      * @param listenersManager the listeners manager
+     * @param sessionPool the session pool
      */
     @Autowired
     CloseActiveMQResourcesApplicationListener(BrokerService broker, @Qualifier("ActiveMQConnection") Connection connection,
-            @Qualifier("ActiveMQSession") Session session, ListenersManager listenersManager) {
+            @Qualifier("ActiveMQSession") Session session, ListenersManager listenersManager, MessagingSessionPool sessionPool) {
         this.broker = broker;
         this.connection = connection;
         this.session = session;
         this.listenersManager = listenersManager;
+        this.sessionPool = sessionPool;
     }
 
     /**
@@ -102,6 +108,7 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
     private void closeResources(ApplicationEvent event) {
         LOGGER.info("Closing ActiveMQ resources due to event {}", event);
         stopListeners();
+        closeSessionPool();
         closeSession();
         closeConnection();
         stopBroker();
@@ -118,6 +125,17 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
         }
     }
 
+    /**
+     * Close session pool.
+     */
+    private void closeSessionPool() {
+        try {
+            sessionPool.close();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to close session pool", ex);
+        }
+    }
+
     private void closeSession() {
         try {
             session.close();
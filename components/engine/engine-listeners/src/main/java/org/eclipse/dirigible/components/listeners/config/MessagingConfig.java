@@ -43,13 +43,17 @@ class MessagingConfig {
     private static final String LOCATION_TEMP_STORE = "./target/temp/kahadb";
 
     /**
-     * Creates the active MQ connection factory.
+     * Creates the active MQ connection factory. The sends of persistent messages wait for the broker
+     * to store them, unless the asynchronous send is enabled.
      *
      * @return the active MQ connection factory
      */
     @Bean
     ActiveMQConnectionFactory createActiveMQConnectionFactory() {
-        return new ActiveMQConnectionFactory(CONNECTOR_URL_ATTACH);
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(CONNECTOR_URL_ATTACH);
+        connectionFactory.setUseAsyncSend(
+                Boolean.parseBoolean(org.eclipse.dirigible.commons.config.Configuration.get("DIRIGIBLE_MESSAGING_ASYNC_SEND", "false")));
+        return connectionFactory;
     }
 
     /**
@@ -43,6 +43,21 @@ public class Listener extends Artefact {
     @Expose
     private ListenerKind kind;
 
+    /** The number of concurrent consumers. */
+    @Column(name = "LISTENER_CONSUMERS", nullable = true)
+    @Expose
+    private Integer consumers;
+
+    /** The maximum number of messages passed at once to the onMessages handler function. */
+    @Column(name = "LISTENER_BATCH_SIZE", nullable = true)
+    @Expose
+    private Integer batchSize;
+
+    /** Whether the handler is loaded once and reused for the consecutive messages. */
+    @Column(name = "LISTENER_WARM", nullable = true)
+    @Expose
+    private Boolean warm;
+
     /**
      * Instantiates a new listener.
      *
@@ -117,6 +132,60 @@ public class Listener extends Artefact {
         this.kind = kind;
     }
 
+    /**
+     * Gets the consumers.
+     *
+     * @return the consumers
+     */
+    public Integer getConsumers() {
+        return consumers;
+    }
+
+    /**
+     * Sets the consumers.
+     *
+     * @param consumers the new consumers
+     */
+    public void setConsumers(Integer consumers) {
+        this.consumers = consumers;
+    }
+
+    /**
+     * Gets the batch size.
+     *
+     * @return the batch size
+     */
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batch size.
+     *
+     * @param batchSize the new batch size
+     */
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the warm.
+     *
+     * @return the warm
+     */
+    public Boolean getWarm() {
+        return warm;
+    }
+
+    /**
+     * Sets the warm.
+     *
+     * @param warm the new warm
+     */
+    public void setWarm(Boolean warm) {
+        this.warm = warm;
+    }
+
     /**
      * To string.
      *
@@ -124,7 +193,8 @@ public class Listener extends Artefact {
      */
     @Override
     public String toString() {
-        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", location='" + location + '\''
+        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", consumers=" + consumers
+                + ", batchSize=" + batchSize + ", warm=" + warm + ", location='" + location + '\''
                 + ", name='" + name + '\'' + ", type='" + type + '\'' + ", description='" + description + '\'' + ", key='" + key + '\''
                 + ", dependencies='" + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy="
                 + updatedBy + ", updatedAt=" + updatedAt + '}';
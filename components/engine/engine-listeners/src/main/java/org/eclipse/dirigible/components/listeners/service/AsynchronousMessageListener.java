@@ -27,7 +27,7 @@ import org.slf4j.LoggerFactory;
  * method. When the asynchronousMessage event occurs, that object's appropriate method is invoked.
  *
  */
-public class AsynchronousMessageListener implements MessageListener {
+public class AsynchronousMessageListener implements MessageListener, AutoCloseable {
 
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousMessageListener.class);
@@ -35,6 +35,9 @@ public class AsynchronousMessageListener implements MessageListener {
     /** The listener. */
     private final Listener listener;
 
+    /** The warm runtime, if the listener reuses its handler. */
+    private final ListenerHandlerRuntime runtime;
+
     /**
      * Instantiates a new asynchronous message listener.
      *
@@ -42,6 +45,7 @@ public class AsynchronousMessageListener implements MessageListener {
      */
     public AsynchronousMessageListener(Listener listener) {
         this.listener = listener;
+        this.runtime = Boolean.TRUE.equals(listener.getWarm()) ? new ListenerHandlerRuntime(listener.getHandler()) : null;
     }
 
     /**
@@ -67,6 +71,10 @@ public class AsynchronousMessageListener implements MessageListener {
      */
     private void executeOnMessageHandler(TextMessage textMsg) {
         String extractedMsg = extractMessage(textMsg);
+        if (runtime != null) {
+            runtime.invoke("onMessage", extractedMsg);
+            return;
+        }
         try (DirigibleJavascriptCodeRunner runner = createJSCodeRunner()) {
             String handlerPath = listener.getHandler();
             Module module = runner.run(handlerPath);
@@ -80,7 +88,7 @@ public class AsynchronousMessageListener implements MessageListener {
      * @param textMsg the text msg
      * @return the string
      */
-    private String extractMessage(TextMessage textMsg) {
+    static String extractMessage(TextMessage textMsg) {
         try {
             return textMsg.getText();
         } catch (JMSException ex) {
@@ -97,4 +105,14 @@ public class AsynchronousMessageListener implements MessageListener {
         return new DirigibleJavascriptCodeRunner();
     }
 
+    /**
+     * Close.
+     */
+    @Override
+    public void close() {
+        if (runtime != null) {
+            runtime.close();
+        }
+    }
+
 }
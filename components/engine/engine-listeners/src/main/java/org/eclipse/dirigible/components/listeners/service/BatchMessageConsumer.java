@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.dirigible.components.listeners.domain.Listener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+/**
+ * Consumes the messages of a listener in batches. The received messages are passed at once as an
+ * array to the <code>onMessages</code> function of the handler, which is loaded once in a warm
+ * runtime. The transacted session is committed only if the handler succeeds, otherwise it is
+ * rolled back and the messages are redelivered according to the redelivery policy.
+ */
+class BatchMessageConsumer implements Runnable {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchMessageConsumer.class);
+
+    /** The Constant RECEIVE_TIMEOUT. */
+    private static final long RECEIVE_TIMEOUT = 1000;
+
+    /** The listener. */
+    private final Listener listener;
+
+    /** The transacted session. */
+    private final Session session;
+
+    /** The message consumer. */
+    private final MessageConsumer consumer;
+
+    /** The runtime. */
+    private final ListenerHandlerRuntime runtime;
+
+    /** The running. */
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new batch message consumer.
+     *
+     * @param listener the listener
+     * @param session the transacted session
+     * @param consumer the consumer
+     */
+    BatchMessageConsumer(Listener listener, Session session, MessageConsumer consumer) {
+        this.listener = listener;
+        this.session = session;
+        this.consumer = consumer;
+        this.runtime = new ListenerHandlerRuntime(listener.getHandler());
+    }
+
+    /**
+     * Run.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                try {
+                    processBatch();
+                } catch (JMSException ex) {
+                    if (running) {
+                        LOGGER.error("Failed to receive messages in [{}]", listener.getName(), ex);
+                    }
+                } catch (RuntimeException ex) {
+                    LOGGER.error("Failed to process a batch of messages in [{}] by [{}]", listener.getName(), listener.getHandler(), ex);
+                }
+            }
+        } finally {
+            runtime.close();
+        }
+    }
+
+    /**
+     * Process batch.
+     *
+     * @throws JMSException the JMS exception
+     */
+    void processBatch() throws JMSException {
+        Message message = consumer.receive(RECEIVE_TIMEOUT);
+        if (message == null) {
+            return;
+        }
+        List<String> messages = new ArrayList<>();
+        try {
+            messages.add(extractMessage(message));
+            while (messages.size() < listener.getBatchSize() && (message = consumer.receiveNoWait()) != null) {
+                messages.add(extractMessage(message));
+            }
+            LOGGER.trace("Start processing [{}] received messages in [{}] by [{}] ...", messages.size(), listener.getName(),
+                    listener.getHandler());
+            runtime.invoke("onMessages", (Object) messages.toArray(new String[0]));
+        } catch (RuntimeException ex) {
+            session.rollback();
+            throw ex;
+        }
+        session.commit();
+        LOGGER.trace("Done processing [{}] received messages in [{}] by [{}]", messages.size(), listener.getName(), listener.getHandler());
+    }
+
+    /**
+     * Extract message.
+     *
+     * @param message the message
+     * @return the string
+     */
+    private String extractMessage(Message message) {
+        if (!(message instanceof TextMessage textMsg)) {
+            String msg = String.format("Invalid message [%s] has been received in destination [%s]", message, listener.getName());
+            throw new IllegalStateException(msg);
+        }
+        return AsynchronousMessageListener.extractMessage(textMsg);
+    }
+
+    /**
+     * Stops consuming after the current batch.
+     */
+    void stop() {
+        running = false;
+    }
+
+}
@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.jms.Connection;
@@ -27,11 +29,11 @@ public class ConnectionArtifacts {
     /** The connection. */
     private final Connection connection;
 
-    /** The session. */
-    private final Session session;
+    /** The sessions. */
+    private final List<Session> sessions = new ArrayList<>();
 
-    /** The message consumer. */
-    private final MessageConsumer messageConsumer;
+    /** The message consumers. */
+    private final List<MessageConsumer> messageConsumers = new ArrayList<>();
 
     /**
      * Instantiates a new connection artifacts.
@@ -42,16 +44,26 @@ public class ConnectionArtifacts {
      */
     public ConnectionArtifacts(Connection connection, Session session, MessageConsumer messageConsumer) {
         this.connection = connection;
-        this.session = session;
-        this.messageConsumer = messageConsumer;
+        add(session, messageConsumer);
+    }
+
+    /**
+     * Adds a session and its message consumer, e.g. for a listener with concurrent consumers.
+     *
+     * @param session the session
+     * @param messageConsumer the message consumer
+     */
+    public void add(Session session, MessageConsumer messageConsumer) {
+        sessions.add(session);
+        messageConsumers.add(messageConsumer);
     }
 
     /**
      * Close all.
      */
     public void closeAll() {
-        close(messageConsumer);
-        close(session);
+        messageConsumers.forEach(this::close);
+        sessions.forEach(this::close);
         close(connection);
     }
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A warm runtime of a listener handler. The handler module is loaded once and its functions are
+ * invoked repeatedly in the same context. The runtime is recycled after a configurable number of
+ * invocations, after a failed invocation and after a publish, so that the handler code is reloaded.
+ * A runtime must not be used by more than one thread at a time.
+ */
+class ListenerHandlerRuntime implements AutoCloseable {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListenerHandlerRuntime.class);
+
+    /** The Constant DIRIGIBLE_LISTENER_RECYCLE_INVOCATIONS. */
+    private static final String DIRIGIBLE_LISTENER_RECYCLE_INVOCATIONS = "DIRIGIBLE_LISTENER_RECYCLE_INVOCATIONS";
+
+    /** The generation of the handlers, incremented on publish. */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /** The handler path. */
+    private final String handlerPath;
+
+    /** The runner. */
+    private DirigibleJavascriptCodeRunner runner;
+
+    /** The module. */
+    private Module module;
+
+    /** The generation of the loaded module. */
+    private long generation;
+
+    /** The invocations since the module has been loaded. */
+    private int invocations;
+
+    /**
+     * Instantiates a new listener handler runtime.
+     *
+     * @param handlerPath the handler path
+     */
+    ListenerHandlerRuntime(String handlerPath) {
+        this.handlerPath = handlerPath;
+    }
+
+    /**
+     * Marks all the loaded handlers as stale, so that they are reloaded on their next invocation.
+     */
+    static void recycleAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Invoke a function of the handler module.
+     *
+     * @param methodName the method name
+     * @param args the args
+     */
+    void invoke(String methodName, Object... args) {
+        if (runner != null && generation != GENERATION.get()) {
+            close();
+        }
+        if (runner == null) {
+            LOGGER.debug("Loading listener handler [{}] ...", handlerPath);
+            generation = GENERATION.get();
+            runner = createJSCodeRunner();
+            module = runner.run(handlerPath);
+        }
+        try {
+            runner.runMethod(module, methodName, args);
+        } catch (RuntimeException ex) {
+            close();
+            throw ex;
+        }
+        if (++invocations >= Configuration.getAsInt(DIRIGIBLE_LISTENER_RECYCLE_INVOCATIONS, 1000)) {
+            close();
+        }
+    }
+
+    /**
+     * Close.
+     */
+    @Override
+    public void close() {
+        if (runner != null) {
+            runner.close();
+            runner = null;
+            module = null;
+            invocations = 0;
+        }
+    }
+
+    /**
+     * Creates the JS code runner.
+     *
+     * @return the dirigible javascript code runner
+     */
+    DirigibleJavascriptCodeRunner createJSCodeRunner() {
+        return new DirigibleJavascriptCodeRunner();
+    }
+
+}
@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.activemq.ActiveMQConnection;
 import org.apache.activemq.RedeliveryPolicy;
 import org.apache.activemq.broker.region.policy.RedeliveryPolicyMap;
@@ -46,6 +48,12 @@ public class ListenerManager {
     /** The connection artifacts. */
     private ConnectionArtifacts connectionArtifacts;
 
+    /** The asynchronous message listeners. */
+    private final List<AsynchronousMessageListener> messageListeners = new ArrayList<>();
+
+    /** The batch message consumers. */
+    private final List<BatchMessageConsumer> batchConsumers = new ArrayList<>();
+
     /**
      * Instantiates a new background listener manager.
      *
@@ -73,22 +81,56 @@ public class ListenerManager {
             ListenerExceptionHandler exceptionListener = new ListenerExceptionHandler(handlerPath);
 
             Connection connection = connectionArtifactsFactory.createConnection(exceptionListener);
-            Session session = connectionArtifactsFactory.createSession(connection);
-
-            Destination destination = createDestination(session);
-            configureRedeliveryPolicy(connection, destination);
-
-            MessageConsumer consumer = session.createConsumer(destination);
-
-            AsynchronousMessageListener messageListener = new AsynchronousMessageListener(listener);
-            consumer.setMessageListener(messageListener);
-
-            connectionArtifacts = new ConnectionArtifacts(connection, session, consumer);
+            boolean batch = isBatch();
+            int consumersCount = getConsumersCount();
+            ConnectionArtifacts artifacts = null;
+            for (int i = 0; i < consumersCount; i++) {
+                Session session = batch ? connectionArtifactsFactory.createTransactedSession(connection)
+                        : connectionArtifactsFactory.createSession(connection);
+
+                Destination destination = createDestination(session);
+                if (i == 0) {
+                    configureRedeliveryPolicy(connection, destination);
+                }
+
+                MessageConsumer consumer = session.createConsumer(destination);
+
+                if (batch) {
+                    batchConsumers.add(new BatchMessageConsumer(listener, session, consumer));
+                } else {
+                    AsynchronousMessageListener messageListener = createMessageListener();
+                    consumer.setMessageListener(messageListener);
+                    messageListeners.add(messageListener);
+                }
+
+                if (artifacts == null) {
+                    artifacts = new ConnectionArtifacts(connection, session, consumer);
+                } else {
+                    artifacts.add(session, consumer);
+                }
+            }
+
+            for (int i = 0; i < batchConsumers.size(); i++) {
+                Thread thread = new Thread(batchConsumers.get(i), "listener-" + listener.getName() + "-" + i);
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            connectionArtifacts = artifacts;
         } catch (JMSException ex) {
             throw new IllegalStateException("Failed to start listener for " + listener, ex);
         }
     }
 
+    /**
+     * Creates the message listener of a consumer.
+     *
+     * @return the asynchronous message listener
+     */
+    AsynchronousMessageListener createMessageListener() {
+        return new AsynchronousMessageListener(listener);
+    }
+
     /**
      * Create destination.
      *
@@ -125,6 +167,36 @@ public class ListenerManager {
         return redeliveryPolicy;
     }
 
+    /**
+     * Gets the number of concurrent consumers. Only the messages of a queue are shared between its
+     * consumers, while every consumer of a topic receives every message, hence a topic has a single
+     * consumer.
+     *
+     * @return the consumers count
+     */
+    private int getConsumersCount() {
+        Integer consumers = listener.getConsumers();
+        if (consumers == null || consumers <= 1) {
+            return 1;
+        }
+        if (getKind() != ListenerKind.QUEUE) {
+            LOGGER.warn("Listener [{}] is not a queue, [{}] consumers are ignored and a single consumer is used", listener.getName(),
+                    consumers);
+            return 1;
+        }
+        return consumers;
+    }
+
+    /**
+     * Checks if the messages are consumed in batches.
+     *
+     * @return true, if is batch
+     */
+    private boolean isBatch() {
+        Integer batchSize = listener.getBatchSize();
+        return batchSize != null && batchSize > 1;
+    }
+
     private ListenerKind getKind() {
         ListenerKind kind = listener.getKind();
         if (null == kind) {
@@ -142,8 +214,12 @@ public class ListenerManager {
             return;
         }
         LOGGER.info("Stopping message listener for {} ...", listener);
+        batchConsumers.forEach(BatchMessageConsumer::stop);
         connectionArtifacts.closeAll();
         connectionArtifacts = null;
+        messageListeners.forEach(AsynchronousMessageListener::close);
+        messageListeners.clear();
+        batchConsumers.clear();
         LOGGER.info("Stopped message listener for {}", listener);
     }
 }
@@ -13,7 +13,6 @@ package org.eclipse.dirigible.components.listeners.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
@@ -30,17 +29,17 @@ public class MessageConsumer {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageConsumer.class);
 
-    /** The session. */
-    private final Session session;
+    /** The session pool. */
+    private final MessagingSessionPool sessionPool;
 
     /**
      * Instantiates a new message consumer.
      *
-     * @param session the session
+     * @param sessionPool the session pool
      */
     @Autowired
-    public MessageConsumer(@Qualifier("ActiveMQSession") Session session) {
-        this.session = session;
+    public MessageConsumer(MessagingSessionPool sessionPool) {
+        this.sessionPool = sessionPool;
     }
 
     /**
@@ -53,7 +52,7 @@ public class MessageConsumer {
      * @throws TimeoutException the timeout exception
      */
     public String receiveMessageFromQueue(String queue, long timeout) throws JMSException, TimeoutException {
-        return receiveMessage(timeout, session.createQueue(queue));
+        return receiveMessage(timeout, session -> session.createQueue(queue));
     }
 
     /**
@@ -66,31 +65,52 @@ public class MessageConsumer {
      * @throws TimeoutException the timeout exception
      */
     public String receiveMessageFromTopic(String topic, long timeout) throws JMSException, TimeoutException {
-        return receiveMessage(timeout, session.createTopic(topic));
+        return receiveMessage(timeout, session -> session.createTopic(topic));
     }
 
     /**
-     * Receive message.
+     * Receive message. The consumer is closed after each receive, so that it does not prefetch the
+     * messages, which are meant for the other consumers of the destination. The receive waits up to
+     * the timeout, or without limit for a timeout of 0, hence it uses a session of its own instead of
+     * one of the pooled sessions used for sending.
      *
      * @param timeout the timeout
-     * @param destination the destination
+     * @param destinationFactory the destination factory
      * @return the string
      * @throws JMSException the JMS exception
      * @throws TimeoutException the timeout exception
      */
-    private String receiveMessage(long timeout, Destination destination) throws JMSException, TimeoutException {
-        try (jakarta.jms.MessageConsumer consumer = session.createConsumer(destination)) {
-
-            Message message = consumer.receive(timeout);
-            LOGGER.debug("Received message [{}] by synchronous consumer.", message);
-            if (null == message) {
-                throw new TimeoutException("Timeout to get a message");
-            }
-            if (message instanceof TextMessage textMessage) {
-                return textMessage.getText();
+    private String receiveMessage(long timeout, DestinationFactory destinationFactory) throws JMSException, TimeoutException {
+        Message message = sessionPool.executeInNewSession(pooledSession -> {
+            Session session = pooledSession.getSession();
+            try (jakarta.jms.MessageConsumer consumer = session.createConsumer(destinationFactory.create(session))) {
+                return consumer.receive(timeout);
             }
-            throw new IllegalStateException("Received an unsupported message " + message);
+        });
+        LOGGER.debug("Received message [{}] by synchronous consumer.", message);
+        if (null == message) {
+            throw new TimeoutException("Timeout to get a message");
         }
+        if (message instanceof TextMessage textMessage) {
+            return textMessage.getText();
+        }
+        throw new IllegalStateException("Received an unsupported message " + message);
+    }
+
+    /**
+     * The factory of the destination in a session.
+     */
+    @FunctionalInterface
+    private interface DestinationFactory {
+
+        /**
+         * Creates the destination.
+         *
+         * @param session the session
+         * @return the destination
+         * @throws JMSException the JMS exception
+         */
+        Destination create(Session session) throws JMSException;
     }
 
 }
@@ -13,12 +13,9 @@ package org.eclipse.dirigible.components.listeners.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import jakarta.jms.DeliveryMode;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
-import jakarta.jms.Session;
 import jakarta.jms.TextMessage;
 
 /**
@@ -30,17 +27,17 @@ public class MessageProducer {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageProducer.class);
 
-    /** The session. */
-    private final Session session;
+    /** The session pool. */
+    private final MessagingSessionPool sessionPool;
 
     /**
      * Instantiates a new message producer.
      *
-     * @param session the session
+     * @param sessionPool the session pool
      */
     @Autowired
-    public MessageProducer(@Qualifier("ActiveMQSession") Session session) {
-        this.session = session;
+    public MessageProducer(MessagingSessionPool sessionPool) {
+        this.sessionPool = sessionPool;
     }
 
     /**
@@ -51,8 +48,11 @@ public class MessageProducer {
      * @throws JMSException the JMS exception
      */
     public void sendMessageToTopic(String topic, String message) throws JMSException {
-        Destination destination = session.createTopic(topic);
-        sendMessage(message, destination);
+        sessionPool.execute(session -> {
+            sendMessage(session, message, session.getSession()
+                                                 .createTopic(topic));
+            return null;
+        });
     }
 
     /**
@@ -63,26 +63,28 @@ public class MessageProducer {
      * @throws JMSException the JMS exception
      */
     public void sendMessageToQueue(String queue, String message) throws JMSException {
-        Destination destination = session.createQueue(queue);
-        sendMessage(message, destination);
+        sessionPool.execute(session -> {
+            sendMessage(session, message, session.getSession()
+                                                 .createQueue(queue));
+            return null;
+        });
     }
 
     /**
      * Send message.
      *
+     * @param session the session
      * @param message the message
      * @param destination the destination
      * @throws JMSException the JMS exception
      */
-    private void sendMessage(String message, Destination destination) throws JMSException {
-        try (jakarta.jms.MessageProducer producer = session.createProducer(destination)) {
-            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-
-            TextMessage textMessage = session.createTextMessage(message);
+    private void sendMessage(MessagingSessionPool.PooledSession session, String message, Destination destination) throws JMSException {
+        TextMessage textMessage = session.getSession()
+                                         .createTextMessage(message);
 
-            producer.send(textMessage);
-            LOGGER.trace("Message sent in [{}]", destination);
-        }
+        session.getProducer(destination)
+               .send(textMessage);
+        LOGGER.trace("Message sent in [{}]", destination);
     }
 
 }
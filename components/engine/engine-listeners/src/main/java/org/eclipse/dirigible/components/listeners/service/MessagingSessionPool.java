@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+/**
+ * The pool of the sessions used for sending messages by the messaging API. A JMS session must not be
+ * used by more than one thread at a time, hence each send borrows a session of its own. The
+ * producers are created once per session and destination and are reused by the subsequent sends.
+ * The synchronous receives wait for as long as the caller has requested, so they get a new session
+ * each, instead of holding the pooled sessions needed by the sends.
+ */
+@Component
+public class MessagingSessionPool {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessagingSessionPool.class);
+
+    /** The Constant DIRIGIBLE_MESSAGING_SESSION_POOL_SIZE. */
+    static final String DIRIGIBLE_MESSAGING_SESSION_POOL_SIZE = "DIRIGIBLE_MESSAGING_SESSION_POOL_SIZE";
+
+    /** The Constant DIRIGIBLE_MESSAGING_DELIVERY_MODE. */
+    static final String DIRIGIBLE_MESSAGING_DELIVERY_MODE = "DIRIGIBLE_MESSAGING_DELIVERY_MODE";
+
+    /** The Constant DIRIGIBLE_MESSAGING_SESSION_WAIT_TIMEOUT. */
+    static final String DIRIGIBLE_MESSAGING_SESSION_WAIT_TIMEOUT = "DIRIGIBLE_MESSAGING_SESSION_WAIT_TIMEOUT";
+
+    /** The Constant DIRIGIBLE_MESSAGING_SESSION_PRODUCERS. */
+    static final String DIRIGIBLE_MESSAGING_SESSION_PRODUCERS = "DIRIGIBLE_MESSAGING_SESSION_PRODUCERS";
+
+    /** The Constant DEFAULT_SESSION_POOL_SIZE. */
+    private static final int DEFAULT_SESSION_POOL_SIZE = 8;
+
+    /** The Constant DEFAULT_SESSION_WAIT_TIMEOUT in milliseconds. */
+    private static final int DEFAULT_SESSION_WAIT_TIMEOUT = 30000;
+
+    /** The Constant DEFAULT_SESSION_PRODUCERS. */
+    private static final int DEFAULT_SESSION_PRODUCERS = 32;
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The max count of sessions. */
+    private final int size;
+
+    /** The delivery mode of the sent messages. */
+    private final int deliveryMode;
+
+    /** The max time to wait for a session in milliseconds. */
+    private final long waitTimeout;
+
+    /** The max count of cached producers per session. */
+    private final int maxProducers;
+
+    /** The idle sessions. */
+    private final BlockingQueue<PooledSession> idle = new LinkedBlockingQueue<>();
+
+    /** The permits for the borrowed sessions, one per session of the pool. */
+    private final Semaphore permits;
+
+    /** The closed. */
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new messaging session pool.
+     *
+     * @param connection the connection
+     */
+    @Autowired
+    public MessagingSessionPool(@Qualifier("ActiveMQConnection") Connection connection) {
+        this(connection, Math.max(1, Configuration.getAsInt(DIRIGIBLE_MESSAGING_SESSION_POOL_SIZE, DEFAULT_SESSION_POOL_SIZE)),
+                "NON_PERSISTENT".equalsIgnoreCase(Configuration.get(DIRIGIBLE_MESSAGING_DELIVERY_MODE, "PERSISTENT"))
+                        ? DeliveryMode.NON_PERSISTENT
+                        : DeliveryMode.PERSISTENT,
+                Math.max(0, Configuration.getAsInt(DIRIGIBLE_MESSAGING_SESSION_WAIT_TIMEOUT, DEFAULT_SESSION_WAIT_TIMEOUT)),
+                Math.max(1, Configuration.getAsInt(DIRIGIBLE_MESSAGING_SESSION_PRODUCERS, DEFAULT_SESSION_PRODUCERS)));
+    }
+
+    /**
+     * Instantiates a new messaging session pool.
+     *
+     * @param connection the connection
+     * @param size the max count of sessions
+     * @param deliveryMode the delivery mode
+     */
+    MessagingSessionPool(Connection connection, int size, int deliveryMode) {
+        this(connection, size, deliveryMode, DEFAULT_SESSION_WAIT_TIMEOUT, DEFAULT_SESSION_PRODUCERS);
+    }
+
+    /**
+     * Instantiates a new messaging session pool.
+     *
+     * @param connection the connection
+     * @param size the max count of sessions
+     * @param deliveryMode the delivery mode
+     * @param waitTimeout the max time to wait for a session in milliseconds
+     * @param maxProducers the max count of cached producers per session
+     */
+    MessagingSessionPool(Connection connection, int size, int deliveryMode, long waitTimeout, int maxProducers) {
+        this.connection = connection;
+        this.size = size;
+        this.deliveryMode = deliveryMode;
+        this.waitTimeout = waitTimeout;
+        this.maxProducers = maxProducers;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Executes the callback with a session borrowed from the pool. A session, which has thrown an
+     * exception, is closed instead of returned to the pool.
+     *
+     * @param <T> the generic type
+     * @param callback the callback
+     * @return the result of the callback
+     * @throws JMSException the JMS exception
+     */
+    <T> T execute(SessionCallback<T> callback) throws JMSException {
+        PooledSession session = borrow();
+        boolean broken = true;
+        try {
+            T result = callback.doInSession(session);
+            broken = false;
+            return result;
+        } finally {
+            release(session, broken);
+        }
+    }
+
+    /**
+     * Executes the callback with a new session, which is not taken from the pool and is closed
+     * afterwards. It is meant for the operations, which may block for long, such as the synchronous
+     * receives.
+     *
+     * @param <T> the generic type
+     * @param callback the callback
+     * @return the result of the callback
+     * @throws JMSException the JMS exception
+     */
+    <T> T executeInNewSession(SessionCallback<T> callback) throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("The messaging session pool is closed");
+        }
+        PooledSession session = createSession();
+        try {
+            return callback.doInSession(session);
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Closes the sessions of the pool.
+     */
+    public void close() {
+        closed = true;
+        PooledSession session;
+        while ((session = idle.poll()) != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * Borrows a session. A permit is acquired first, waiting for a session to be released, but not
+     * longer than the wait timeout, and then an idle session is taken or a new one is created in place
+     * of a closed one.
+     *
+     * @return the pooled session
+     * @throws JMSException the JMS exception
+     */
+    private PooledSession borrow() throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("The messaging session pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(waitTimeout, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No messaging session has been released within [" + waitTimeout + "] ms, all [" + size
+                        + "] sessions are in use. Consider increasing " + DIRIGIBLE_MESSAGING_SESSION_POOL_SIZE + ".");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a messaging session", e);
+        }
+        PooledSession session = idle.poll();
+        if (session != null) {
+            return session;
+        }
+        try {
+            return createSession();
+        } catch (JMSException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a session, which is not yet counted by the pool.
+     *
+     * @return the pooled session
+     * @throws JMSException the JMS exception
+     */
+    private PooledSession createSession() throws JMSException {
+        return new PooledSession(connection.createSession(false, Session.AUTO_ACKNOWLEDGE), deliveryMode, maxProducers);
+    }
+
+    /**
+     * Returns the session to the pool, or closes it if it has failed. Either way its permit is
+     * released, so that a waiting borrow takes the session or creates a new one.
+     *
+     * @param session the session
+     * @param broken whether the session has failed
+     */
+    private void release(PooledSession session, boolean broken) {
+        if (broken || closed) {
+            session.close();
+        } else {
+            idle.offer(session);
+        }
+        permits.release();
+    }
+
+    /**
+     * The callback executed with a pooled session.
+     *
+     * @param <T> the generic type
+     */
+    @FunctionalInterface
+    interface SessionCallback<T> {
+
+        /**
+         * Do in session.
+         *
+         * @param session the session
+         * @return the result
+         * @throws JMSException the JMS exception
+         */
+        T doInSession(PooledSession session) throws JMSException;
+    }
+
+    /**
+     * The session of the pool with its producers.
+     */
+    static class PooledSession {
+
+        /** The session. */
+        private final Session session;
+
+        /** The delivery mode. */
+        private final int deliveryMode;
+
+        /** The producers per destination, the least recently used of which is closed on overflow. */
+        private final Map<Destination, jakarta.jms.MessageProducer> producers;
+
+        /**
+         * Instantiates a new pooled session.
+         *
+         * @param session the session
+         * @param deliveryMode the delivery mode
+         * @param maxProducers the max count of cached producers
+         */
+        PooledSession(Session session, int deliveryMode, int maxProducers) {
+            this.session = session;
+            this.deliveryMode = deliveryMode;
+            this.producers = new LinkedHashMap<>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Destination, jakarta.jms.MessageProducer> eldest) {
+                    if (size() <= maxProducers) {
+                        return false;
+                    }
+                    closeProducer(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Gets the session.
+         *
+         * @return the session
+         */
+        Session getSession() {
+            return session;
+        }
+
+        /**
+         * Gets the producer for the destination, creating it on first use.
+         *
+         * @param destination the destination
+         * @return the producer
+         * @throws JMSException the JMS exception
+         */
+        jakarta.jms.MessageProducer getProducer(Destination destination) throws JMSException {
+            jakarta.jms.MessageProducer producer = producers.get(destination);
+            if (producer == null) {
+                producer = session.createProducer(destination);
+                producer.setDeliveryMode(deliveryMode);
+                producers.put(destination, producer);
+            }
+            return producer;
+        }
+
+        /**
+         * Closes a producer evicted from the cache.
+         *
+         * @param producer the producer
+         */
+        private void closeProducer(jakarta.jms.MessageProducer producer) {
+            try {
+                producer.close();
+            } catch (JMSException | RuntimeException e) {
+                LOGGER.warn("Failed to close producer [{}]", producer, e);
+            }
+        }
+
+        /**
+         * Gets the count of the cached producers.
+         *
+         * @return the count
+         */
+        int getProducersCount() {
+            return producers.size();
+        }
+
+        /**
+         * Closes the session together with its producers.
+         */
+        void close() {
+            try {
+                session.close();
+            } catch (JMSException | RuntimeException e) {
+                LOGGER.warn("Failed to close session [{}]", session, e);
+            }
+            producers.clear();
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * The Class ListenerHandlerRuntimeTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class ListenerHandlerRuntimeTest {
+
+    /** The Constant MESSAGE. */
+    private static final String MESSAGE = "This is a test message";
+
+    /** The Constant HANDLER. */
+    private static final String HANDLER = "test-handler";
+
+    /** The runtime. */
+    private ListenerHandlerRuntime runtime;
+
+    /** The js code runner. */
+    @Mock
+    private DirigibleJavascriptCodeRunner jsCodeRunner;
+
+    /** The module. */
+    @Mock
+    private Module module;
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    void setUp() {
+        runtime = spy(new ListenerHandlerRuntime(HANDLER));
+        doReturn(jsCodeRunner).when(runtime)
+                              .createJSCodeRunner();
+        when(jsCodeRunner.run(HANDLER)).thenReturn(module);
+    }
+
+    /**
+     * Test the handler is loaded once for consecutive invocations.
+     */
+    @Test
+    void testInvokeReusesLoadedHandler() {
+        runtime.invoke("onMessage", MESSAGE);
+        runtime.invoke("onMessage", MESSAGE);
+
+        verify(runtime, times(1)).createJSCodeRunner();
+        verify(jsCodeRunner, times(1)).run(HANDLER);
+        verify(jsCodeRunner, times(2)).runMethod(module, "onMessage", MESSAGE);
+    }
+
+    /**
+     * Test the handler is reloaded after a failed invocation.
+     */
+    @Test
+    void testInvokeReloadsHandlerAfterFailure() {
+        when(jsCodeRunner.runMethod(module, "onMessage", MESSAGE)).thenThrow(IllegalStateException.class)
+                                                                  .thenReturn(null);
+
+        assertThrows(IllegalStateException.class, () -> runtime.invoke("onMessage", MESSAGE));
+        runtime.invoke("onMessage", MESSAGE);
+
+        verify(jsCodeRunner).close();
+        verify(jsCodeRunner, times(2)).run(HANDLER);
+    }
+
+    /**
+     * Test the handler is reloaded after recycling all the runtimes.
+     */
+    @Test
+    void testInvokeReloadsHandlerAfterRecycleAll() {
+        runtime.invoke("onMessage", MESSAGE);
+        ListenerHandlerRuntime.recycleAll();
+        runtime.invoke("onMessage", MESSAGE);
+
+        verify(jsCodeRunner).close();
+        verify(jsCodeRunner, times(2)).run(HANDLER);
+    }
+
+}
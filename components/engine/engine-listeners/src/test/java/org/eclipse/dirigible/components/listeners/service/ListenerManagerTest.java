@@ -18,10 +18,15 @@ import static org.mockito.Mockito.when;
 import jakarta.jms.Connection;
 import jakarta.jms.ExceptionListener;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
 import jakarta.jms.MessageConsumer;
 import jakarta.jms.Queue;
 import jakarta.jms.Session;
 import jakarta.jms.Topic;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.activemq.ActiveMQConnectionFactory;
 import org.eclipse.dirigible.components.listeners.config.ActiveMQConnectionArtifactsFactory;
 import org.eclipse.dirigible.components.listeners.domain.Listener;
 import org.eclipse.dirigible.components.listeners.domain.ListenerKind;
@@ -158,6 +163,59 @@ class ListenerManagerTest {
         verifyConfiguredMessageListener();
     }
 
+    /**
+     * Test that a message of a topic is handled once, although the listener has several consumers.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testTopicMessageIsHandledOnce() throws Exception {
+        ActiveMQConnectionFactory brokerConnectionFactory =
+                new ActiveMQConnectionFactory("vm://ListenerManagerTest?broker.persistent=false&broker.useJmx=false");
+        when(connectionArtifactsFactory.createConnection(any(ExceptionListener.class))).thenAnswer(invocation -> {
+            Connection brokerConnection = brokerConnectionFactory.createConnection();
+            brokerConnection.start();
+            return brokerConnection;
+        });
+        when(connectionArtifactsFactory.createSession(any(Connection.class))).thenAnswer(invocation -> {
+            Connection brokerConnection = invocation.getArgument(0);
+            return brokerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        });
+        when(listener.getKind()).thenReturn(ListenerKind.TOPIC);
+        when(listener.getName()).thenReturn(TOPIC);
+        when(listener.getConsumers()).thenReturn(3);
+
+        AtomicInteger handled = new AtomicInteger();
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+        ListenerManager topicManager = new ListenerManager(listener, connectionArtifactsFactory) {
+            @Override
+            AsynchronousMessageListener createMessageListener() {
+                return new AsynchronousMessageListener(listener) {
+                    @Override
+                    public void onMessage(Message message) {
+                        handled.incrementAndGet();
+                        first.countDown();
+                        second.countDown();
+                    }
+                };
+            }
+        };
+        topicManager.startListener();
+
+        try (Connection producerConnection = brokerConnectionFactory.createConnection()) {
+            Session producerSession = producerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            producerSession.createProducer(producerSession.createTopic(TOPIC))
+                           .send(producerSession.createTextMessage("message"));
+
+            assertThat(first.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.await(500, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(handled.get()).isEqualTo(1);
+        } finally {
+            topicManager.stopListener();
+        }
+    }
+
     /**
      * Mock connection and session.
      *
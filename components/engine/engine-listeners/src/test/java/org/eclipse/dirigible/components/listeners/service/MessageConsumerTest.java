@@ -12,16 +12,20 @@ package org.eclipse.dirigible.components.listeners.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import jakarta.jms.BytesMessage;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
 import jakarta.jms.JMSException;
 import jakarta.jms.Queue;
 import jakarta.jms.Session;
 import jakarta.jms.TextMessage;
 import jakarta.jms.Topic;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,9 +49,12 @@ class MessageConsumerTest {
     private static final String TOPIC = "test-topic";
 
     /** The consumer. */
-    @InjectMocks
     private MessageConsumer consumer;
 
+    /** The connection. */
+    @Mock
+    private Connection connection;
+
     /** The session. */
     @Mock
     private Session session;
@@ -72,6 +79,17 @@ class MessageConsumerTest {
     @Mock
     private BytesMessage byteMessage;
 
+    /**
+     * Sets the up.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        consumer = new MessageConsumer(new MessagingSessionPool(connection, 1, DeliveryMode.PERSISTENT));
+    }
+
     /**
      * Test receive message from queue.
      *
@@ -90,6 +108,26 @@ class MessageConsumerTest {
         assertThat(actualMessage).isEqualTo(MESSAGE);
     }
 
+    /**
+     * Test each receive uses a session of its own, which is closed afterwards.
+     *
+     * @throws TimeoutException the timeout exception
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testReceiveMessagesUseOwnSessions() throws TimeoutException, JMSException {
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(jsmConsumer);
+        when(jsmConsumer.receive(TIMEOUT)).thenReturn(txtMessage);
+        when(txtMessage.getText()).thenReturn(MESSAGE);
+
+        consumer.receiveMessageFromQueue(QUEUE, TIMEOUT);
+        consumer.receiveMessageFromQueue(QUEUE, TIMEOUT);
+
+        verify(connection, times(2)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session, times(2)).close();
+    }
+
     /**
      * Test receive message from queue on timeout.
      *
@@ -10,16 +10,19 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
 import jakarta.jms.JMSException;
 import jakarta.jms.Queue;
 import jakarta.jms.Session;
 import jakarta.jms.TextMessage;
 import jakarta.jms.Topic;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -40,9 +43,12 @@ class MessageProducerTest {
     private static final String TOPIC = "test-topic";
 
     /** The producer. */
-    @InjectMocks
     private MessageProducer producer;
 
+    /** The connection. */
+    @Mock
+    private Connection connection;
+
     /** The session. */
     @Mock
     private Session session;
@@ -63,6 +69,17 @@ class MessageProducerTest {
     @Mock
     private TextMessage txtMessage;
 
+    /**
+     * Sets the up.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        producer = new MessageProducer(new MessagingSessionPool(connection, 1, DeliveryMode.PERSISTENT));
+    }
+
     /**
      * Test send message to topic.
      *
@@ -95,4 +112,24 @@ class MessageProducerTest {
         verify(jsmProducer).send(txtMessage);
     }
 
+    /**
+     * Test send messages to queue reuses the session and the producer.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToQueueReusesSessionAndProducer() throws JMSException {
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+
+        verify(connection, times(1)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session, times(1)).createProducer(queue);
+        verify(jsmProducer).setDeliveryMode(DeliveryMode.PERSISTENT);
+        verify(jsmProducer, times(2)).send(txtMessage);
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * The Class MessagingSessionPoolTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessagingSessionPoolTest {
+
+    /** The connection. */
+    @Mock
+    private Connection connection;
+
+    /** The session. */
+    @Mock
+    private Session session;
+
+    /**
+     * Test the wait for a session is limited by the wait timeout.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testBorrowTimesOut() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        MessagingSessionPool pool = new MessagingSessionPool(connection, 1, DeliveryMode.PERSISTENT, 50, 8);
+
+        IllegalStateException exception =
+                assertThrows(IllegalStateException.class, () -> pool.execute(outer -> pool.execute(inner -> Boolean.TRUE)));
+
+        assertThat(exception.getMessage()).contains("[1] sessions are in use");
+        verify(connection, times(1)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+    }
+
+    /**
+     * Test the new sessions are not counted against the pooled ones and are closed after use.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testNewSessionIsNotPooled() throws JMSException {
+        Session receiveSession = mock(Session.class);
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session, receiveSession);
+        MessagingSessionPool pool = new MessagingSessionPool(connection, 1, DeliveryMode.PERSISTENT, 50, 8);
+
+        Session used = pool.execute(pooled -> pool.executeInNewSession(MessagingSessionPool.PooledSession::getSession));
+
+        assertThat(used).isSameAs(receiveSession);
+        verify(receiveSession).close();
+        verify(session, never()).close();
+    }
+
+    /**
+     * Test a borrow waiting for the only session succeeds as soon as the session is closed as broken.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testWaitingBorrowAfterBrokenSession() throws Exception {
+        Session replacement = mock(Session.class);
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session, replacement);
+        MessagingSessionPool pool = new MessagingSessionPool(connection, 1, DeliveryMode.PERSISTENT, 10000, 8);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Session> broken = executor.submit(() -> pool.execute(pooled -> {
+                borrowed.countDown();
+                await(fail);
+                throw new JMSException("broken");
+            }));
+            assertThat(borrowed.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Session> waiting = executor.submit(() -> pool.execute(MessagingSessionPool.PooledSession::getSession));
+            Thread.sleep(100);
+            assertThat(waiting.isDone()).isFalse();
+
+            fail.countDown();
+
+            assertThat(waiting.get(2, TimeUnit.SECONDS)).isSameAs(replacement);
+            ExecutionException exception = assertThrows(ExecutionException.class, broken::get);
+            assertThat(exception.getCause()).isInstanceOf(JMSException.class);
+            verify(session).close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Awaits the latch, keeping the interrupted status of the thread.
+     *
+     * @param latch the latch
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * Test the least recently used producer is closed, when the cache of a session is full.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testProducersAreBounded() throws JMSException {
+        Queue first = mock(Queue.class);
+        Queue second = mock(Queue.class);
+        Queue third = mock(Queue.class);
+        MessageProducer firstProducer = mock(MessageProducer.class);
+        MessageProducer secondProducer = mock(MessageProducer.class);
+        MessageProducer thirdProducer = mock(MessageProducer.class);
+        when(session.createProducer(first)).thenReturn(firstProducer);
+        when(session.createProducer(second)).thenReturn(secondProducer);
+        when(session.createProducer(third)).thenReturn(thirdProducer);
+        MessagingSessionPool.PooledSession pooled = new MessagingSessionPool.PooledSession(session, DeliveryMode.PERSISTENT, 2);
+
+        pooled.getProducer(first);
+        pooled.getProducer(second);
+        pooled.getProducer(first);
+        pooled.getProducer(third);
+
+        assertThat(pooled.getProducersCount()).isEqualTo(2);
+        verify(secondProducer).close();
+        verify(firstProducer, never()).close();
+        assertThat(pooled.getProducer(first)).isSameAs(firstProducer);
+    }
+
+}
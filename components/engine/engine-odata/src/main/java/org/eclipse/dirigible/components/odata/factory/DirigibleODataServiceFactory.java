@@ -13,6 +13,7 @@ package org.eclipse.dirigible.components.odata.factory;
 import static org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor.DEFAULT_DATA_SOURCE_CONTEXT_KEY;
 import java.io.InputStream;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.sql.DataSource;
 import org.apache.olingo.odata2.api.ODataCallback;
 import org.apache.olingo.odata2.api.ODataService;
@@ -49,6 +50,12 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
     private static DataSourcesManager dataSourcesManager;
     private static ODataMetadataService odataMetadataService;
 
+    /** The version of the OData schemas, containers and mappings, increased on each change. */
+    private static final AtomicLong modelVersion = new AtomicLong();
+
+    /** The current model, or null if not built yet. */
+    private static volatile ODataModel model;
+
     public DirigibleODataServiceFactory() {
         // called by ODataServlet
     }
@@ -79,15 +86,13 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
     @Override
     public ODataService createService(ODataContext ctx) throws ODataException {
         try {
-            EdmProvider edmProvider = new EdmxProvider();
-            InputStream metadata = odataMetadataService.getMetadata();
-            ((EdmxProvider) edmProvider).parse(metadata, false);
+            ODataModel current = getModel();
 
             setDefaultDataSource(ctx);
 
-            DefaultSQLProcessor singleProcessor = new DefaultSQLProcessor(getEdmTableMappingProvider(), getEventHandler());
+            DefaultSQLProcessor singleProcessor = new DefaultSQLProcessor(current.tableMappingProvider(), current.eventHandler());
 
-            return createODataSingleProcessorService(edmProvider, singleProcessor);
+            return createODataSingleProcessorService(current.edmProvider(), singleProcessor);
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
                 logger.error(e.getMessage(), e);
@@ -96,6 +101,67 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
         }
     }
 
+    /**
+     * Marks the model as outdated after a change of the OData schemas, containers or mappings, so that
+     * it is rebuilt on the next request.
+     */
+    public static void invalidateModel() {
+        modelVersion.incrementAndGet();
+    }
+
+    /**
+     * Gets the model of the current version, building it if it is outdated. The model is replaced as a
+     * whole, hence the requests in progress keep using the one they started with.
+     *
+     * @return the model
+     * @throws ODataException the o data exception
+     */
+    private ODataModel getModel() throws ODataException {
+        ODataModel current = model;
+        long version = modelVersion.get();
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        synchronized (DirigibleODataServiceFactory.class) {
+            current = model;
+            version = modelVersion.get();
+            if (current == null || current.version() != version) {
+                current = buildModel(version);
+                model = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Builds the model from the stored OData schemas, containers and mappings.
+     *
+     * @param version the version of the stored artefacts
+     * @return the model
+     * @throws ODataException the o data exception
+     */
+    private ODataModel buildModel(long version) throws ODataException {
+        EdmxProvider edmProvider = new EdmxProvider();
+        InputStream metadata = odataMetadataService.getMetadata();
+        edmProvider.parse(metadata, false);
+        if (logger.isDebugEnabled()) {
+            logger.debug("OData model version [{}] built", version);
+        }
+        return new ODataModel(version, edmProvider, getEdmTableMappingProvider(), getEventHandler());
+    }
+
+    /**
+     * The parsed OData model, which is immutable and shared by all the requests.
+     *
+     * @param version the version of the stored artefacts it is built from
+     * @param edmProvider the edm provider
+     * @param tableMappingProvider the table mapping provider
+     * @param eventHandler the event handler
+     */
+    private record ODataModel(long version, EdmProvider edmProvider, ODataEdmTableMappingProvider tableMappingProvider,
+            OData2EventHandler eventHandler) {
+    }
+
     /**
      * Gets the callback.
      *
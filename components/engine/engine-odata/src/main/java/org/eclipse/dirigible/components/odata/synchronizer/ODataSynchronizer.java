@@ -29,6 +29,7 @@ import org.eclipse.dirigible.components.odata.domain.ODataContainer;
 import org.eclipse.dirigible.components.odata.domain.ODataHandler;
 import org.eclipse.dirigible.components.odata.domain.ODataMapping;
 import org.eclipse.dirigible.components.odata.domain.ODataSchema;
+import org.eclipse.dirigible.components.odata.factory.DirigibleODataServiceFactory;
 import org.eclipse.dirigible.components.odata.service.ODataContainerService;
 import org.eclipse.dirigible.components.odata.service.ODataHandlerService;
 import org.eclipse.dirigible.components.odata.service.ODataMappingService;
@@ -286,6 +287,7 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
                     odatah.getNamespace(), odatah.getMethod(), odatah.getKind(), odatah.getHandler());
             odataHandlerService.save(odataHandler);
         }
+        DirigibleODataServiceFactory.invalidateModel();
     }
 
     /**
@@ -299,6 +301,7 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
         odataContainerService.removeContainer(odata.getLocation());
         odataMappingService.removeMappings(odata.getLocation());
         odataHandlerService.removeHandlers(odata.getLocation());
+        DirigibleODataServiceFactory.invalidateModel();
     }
 
     /**
@@ -313,6 +316,7 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
             odataContainerService.removeContainer(odata.getLocation());
             odataMappingService.removeMappings(odata.getLocation());
             odataHandlerService.removeHandlers(odata.getLocation());
+            DirigibleODataServiceFactory.invalidateModel();
             getService().delete(odata);
         } catch (Exception e) {
             if (logger.isErrorEnabled()) {
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.olingo.odata2.api.ODataService;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.api.processor.ODataContext;
+import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.components.odata.service.ODataMetadataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * The Class DirigibleODataServiceFactoryTest.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DirigibleODataServiceFactoryTest {
+
+    /** The data sources manager. */
+    @Mock
+    private DataSourcesManager dataSourcesManager;
+
+    /** The odata metadata service. */
+    @Mock
+    private ODataMetadataService odataMetadataService;
+
+    /** The context. */
+    @Mock
+    private ODataContext context;
+
+    /** The name of the container in the stored metadata. */
+    private String containerName;
+
+    /** The count of the built table mapping providers. */
+    private final AtomicInteger mappingProviders = new AtomicInteger();
+
+    /** The factory. */
+    private DirigibleODataServiceFactory factory;
+
+    /**
+     * Sets up the factory with a fresh model.
+     *
+     * @throws ODataException the o data exception
+     */
+    @BeforeEach
+    public void setUp() throws ODataException {
+        containerName = "First";
+        when(odataMetadataService.getMetadata()).thenAnswer(invocation -> new ByteArrayInputStream(createMetadata(containerName)));
+        factory = new DirigibleODataServiceFactory(dataSourcesManager, odataMetadataService) {
+            @Override
+            public ODataEdmTableMappingProvider getEdmTableMappingProvider() {
+                mappingProviders.incrementAndGet();
+                return mock(ODataEdmTableMappingProvider.class);
+            }
+        };
+        DirigibleODataServiceFactory.invalidateModel();
+    }
+
+    /**
+     * The model is parsed once and shared by the following requests.
+     *
+     * @throws ODataException the o data exception
+     */
+    @Test
+    public void modelIsCached() throws ODataException {
+        assertEquals("First", getContainerName(factory.createService(context)));
+        assertEquals("First", getContainerName(factory.createService(context)));
+
+        verify(odataMetadataService, times(1)).getMetadata();
+        assertEquals(1, mappingProviders.get());
+    }
+
+    /**
+     * Invalidating the model makes the next request parse the stored metadata again.
+     *
+     * @throws ODataException the o data exception
+     */
+    @Test
+    public void invalidateModelForcesReparse() throws ODataException {
+        assertEquals("First", getContainerName(factory.createService(context)));
+
+        containerName = "Second";
+        assertEquals("First", getContainerName(factory.createService(context)));
+
+        DirigibleODataServiceFactory.invalidateModel();
+        assertEquals("Second", getContainerName(factory.createService(context)));
+
+        verify(odataMetadataService, times(2)).getMetadata();
+        assertEquals(2, mappingProviders.get());
+    }
+
+    /**
+     * Gets the name of the default entity container of a service.
+     *
+     * @param service the service
+     * @return the container name
+     * @throws ODataException the o data exception
+     */
+    private static String getContainerName(ODataService service) throws ODataException {
+        return service.getEntityDataModel()
+                      .getDefaultEntityContainer()
+                      .getName();
+    }
+
+    /**
+     * Creates the metadata with an empty default entity container.
+     *
+     * @param name the container name
+     * @return the metadata
+     */
+    private static byte[] createMetadata(String name) {
+        return ("<?xml version='1.0' encoding='UTF-8'?>\n"
+                + "<edmx:Edmx xmlns:edmx=\"http://schemas.microsoft.com/ado/2007/06/edmx\" Version=\"1.0\">\n"
+                + "    <edmx:DataServices m:DataServiceVersion=\"1.0\" xmlns:m=\"http://schemas.microsoft.com/ado/2007/08/dataservices/metadata\">\n"
+                + "        <Schema Namespace=\"Default\" xmlns=\"http://schemas.microsoft.com/ado/2008/09/edm\">\n"
+                + "            <EntityContainer Name=\"" + name + "\" m:IsDefaultEntityContainer=\"true\"/>\n"
+                + "        </Schema>\n" + "    </edmx:DataServices>\n" + "</edmx:Edmx>\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+}
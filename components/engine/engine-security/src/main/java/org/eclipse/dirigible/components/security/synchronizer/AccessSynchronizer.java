@@ -26,6 +26,7 @@ import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
 import org.eclipse.dirigible.components.security.domain.Access;
 import org.eclipse.dirigible.components.security.domain.Constraints;
 import org.eclipse.dirigible.components.security.service.AccessService;
+import org.eclipse.dirigible.components.security.verifier.AccessVerifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -55,6 +56,11 @@ public class AccessSynchronizer extends BaseSynchronizer<Access, Long> {
      */
     private final AccessService securityAccessService;
 
+    /**
+     * The security access verifier.
+     */
+    private final AccessVerifier accessVerifier;
+
     /**
      * The synchronization callback.
      */
@@ -64,10 +70,12 @@ public class AccessSynchronizer extends BaseSynchronizer<Access, Long> {
      * Instantiates a new security access synchronizer.
      *
      * @param securityAccessService the security access service
+     * @param accessVerifier the security access verifier
      */
     @Autowired
-    public AccessSynchronizer(AccessService securityAccessService) {
+    public AccessSynchronizer(AccessService securityAccessService, AccessVerifier accessVerifier) {
         this.securityAccessService = securityAccessService;
+        this.accessVerifier = accessVerifier;
     }
 
     /**
@@ -115,6 +123,7 @@ public class AccessSynchronizer extends BaseSynchronizer<Access, Long> {
                     access.setId(maybe.getId());
                 }
                 access = getService().save(access);
+                accessVerifier.invalidate();
                 result.add(access);
                 return result;
             } catch (Exception e) {
@@ -169,6 +178,7 @@ public class AccessSynchronizer extends BaseSynchronizer<Access, Long> {
     @Override
     protected boolean completeImpl(TopologyWrapper<Access> wrapper, ArtefactPhase flow) {
         callback.registerState(this, wrapper, ArtefactLifecycle.CREATED, "");
+        accessVerifier.invalidate();
         return true;
     }
 
@@ -181,6 +191,7 @@ public class AccessSynchronizer extends BaseSynchronizer<Access, Long> {
     public void cleanup(Access access) {
         try {
             getService().delete(access);
+            accessVerifier.invalidate();
         } catch (Exception e) {
             if (logger.isErrorEnabled()) {
                 logger.error(e.getMessage(), e);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.eclipse.dirigible.components.security.domain.Access;
+
+/**
+ * Immutable prefix tree of the security accesses, built per scope. The paths of the accesses are
+ * matched as plain string prefixes of the requested path and the accesses of the longest matching
+ * prefix win, the same as a linear scan over all the accesses would do.
+ */
+class AccessIndex {
+
+    /** The Constant ANY_METHOD. */
+    private static final String ANY_METHOD = "*";
+
+    /** The empty index. */
+    static final AccessIndex EMPTY = new AccessIndex(Collections.emptyMap(), 0);
+
+    /** The root nodes per scope. */
+    private final Map<String, Node> roots;
+
+    /** The number of the indexed accesses. */
+    private final int size;
+
+    /**
+     * Instantiates a new access index.
+     *
+     * @param roots the roots
+     * @param size the size
+     */
+    private AccessIndex(Map<String, Node> roots, int size) {
+        this.roots = roots;
+        this.size = size;
+    }
+
+    /**
+     * Builds the index of the given accesses.
+     *
+     * @param accesses the accesses
+     * @return the access index
+     */
+    static AccessIndex of(List<Access> accesses) {
+        Map<String, Node> roots = new HashMap<>();
+        int size = 0;
+        for (Access access : accesses) {
+            if (access.getScope() == null || access.getPath() == null || access.getMethod() == null) {
+                continue;
+            }
+            Node node = roots.computeIfAbsent(normalizeScope(access.getScope()), k -> new Node());
+            String path = access.getPath();
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), k -> new Node());
+            }
+            node.accesses.add(access);
+            size++;
+        }
+        return new AccessIndex(roots, size);
+    }
+
+    /**
+     * Gets the most specific accesses matching the given scope, path and method.
+     *
+     * @param scope the scope
+     * @param path the path
+     * @param method the method
+     * @return the matching accesses
+     */
+    List<Access> match(String scope, String path, String method) {
+        Node node = roots.get(normalizeScope(scope));
+        List<Access> matching = new ArrayList<>();
+        int i = 0;
+        while (node != null) {
+            if (!node.accesses.isEmpty()) {
+                List<Access> candidates = filterByMethod(node.accesses, method);
+                if (!candidates.isEmpty()) {
+                    matching = candidates;
+                }
+            }
+            if (i == path.length()) {
+                break;
+            }
+            node = node.children.get(path.charAt(i++));
+        }
+        return matching;
+    }
+
+    /**
+     * Gets the number of the indexed accesses.
+     *
+     * @return the size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Filter by method.
+     *
+     * @param accesses the accesses
+     * @param method the method
+     * @return the list
+     */
+    private static List<Access> filterByMethod(List<Access> accesses, String method) {
+        List<Access> result = new ArrayList<>(accesses.size());
+        for (Access access : accesses) {
+            if (ANY_METHOD.equals(access.getMethod()) || access.getMethod()
+                                                               .equals(method)) {
+                result.add(access);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Normalize scope.
+     *
+     * @param scope the scope
+     * @return the string
+     */
+    private static String normalizeScope(String scope) {
+        return scope.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * The node of the prefix tree.
+     */
+    private static class Node {
+
+        /** The children by the next character of the path. */
+        private final Map<Character, Node> children = new HashMap<>();
+
+        /** The accesses with path ending at this node. */
+        private final List<Access> accesses = new ArrayList<>(1);
+    }
+
+}
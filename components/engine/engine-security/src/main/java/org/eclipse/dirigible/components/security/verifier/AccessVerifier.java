@@ -18,7 +18,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -39,6 +38,16 @@ public class AccessVerifier {
     @Autowired
     private AccessService securityAccessService;
 
+    /**
+     * The index of the security accesses.
+     */
+    private volatile AccessIndex index = AccessIndex.EMPTY;
+
+    /**
+     * Whether the index has to be rebuilt before its next use.
+     */
+    private volatile boolean stale = true;
+
     /**
      * Checks whether the URI is secured via the *.access file or not
      *
@@ -48,37 +57,52 @@ public class AccessVerifier {
      * @return all the most specific security access entry matching the URI if any
      */
     public List<Access> getMatchingSecurityAccesses(String scope, String path, String method) {
-        List<Access> securityAccesses = new ArrayList<>();
-        Access currentSecurityAccess = null;
-        List<Access> existingSecurityAccesses = securityAccessService.getAll();
-        for (Access securityAccess : existingSecurityAccesses) {
-            if (scope.equalsIgnoreCase(securityAccess.getScope()) && path.startsWith(securityAccess.getPath())
-                    && (securityAccess.getMethod()
-                                      .equals("*")
-                            || method.equals(securityAccess.getMethod()))) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
-                            securityAccess.getLocation()));
-                }
-                if ((currentSecurityAccess == null) || (securityAccess.getPath()
-                                                                      .length() > currentSecurityAccess.getPath()
-                                                                                                       .length())) {
-                    currentSecurityAccess = securityAccess;
-                    securityAccesses.clear();
-                    securityAccesses.add(securityAccess);
-                } else if (securityAccess.getPath()
-                                         .length() == currentSecurityAccess.getPath()
-                                                                           .length()) {
-                    securityAccesses.add(securityAccess);
-                }
-            }
-        }
+        List<Access> securityAccesses = getIndex().match(scope, path, method);
         if (securityAccesses.isEmpty()) {
             if (logger.isTraceEnabled()) {
                 logger.trace(String.format("URI [%s] with HTTP method [%s] is NOT secured", path, method));
             }
+        } else if (logger.isDebugEnabled()) {
+            for (Access securityAccess : securityAccesses) {
+                logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
+                        securityAccess.getLocation()));
+            }
         }
         return securityAccesses;
     }
 
+    /**
+     * Marks the index as stale, so that it is rebuilt from the current security accesses on its next
+     * use. The previous index is replaced at once, hence the concurrent requests never observe a
+     * partially built one.
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Gets the index, rebuilding it if stale.
+     *
+     * @return the index
+     */
+    private AccessIndex getIndex() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    stale = false;
+                    try {
+                        index = AccessIndex.of(securityAccessService.getAll());
+                    } catch (RuntimeException e) {
+                        stale = true;
+                        throw e;
+                    }
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Security accesses index rebuilt with [{}] entries", index.size());
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
 }
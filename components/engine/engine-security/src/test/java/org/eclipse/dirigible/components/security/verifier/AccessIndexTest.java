@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import org.eclipse.dirigible.components.security.domain.Access;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class AccessIndexTest.
+ */
+class AccessIndexTest {
+
+    /** The root access. */
+    private final Access root = createAccess("root", "HTTP", "/a", "*", "r1");
+
+    /** The get access. */
+    private final Access get = createAccess("get", "HTTP", "/a/b/c", "GET", "r2");
+
+    /** The get access with another role. */
+    private final Access getOther = createAccess("getOther", "HTTP", "/a/b/c", "GET", "r3");
+
+    /** The post access. */
+    private final Access post = createAccess("post", "HTTP", "/a/b/c/d", "POST", "r4");
+
+    /** The index. */
+    private final AccessIndex index = AccessIndex.of(List.of(root, get, getOther, post));
+
+    /**
+     * Test the longest matching prefix wins.
+     */
+    @Test
+    void testLongestPrefixWins() {
+        assertEquals(List.of(get, getOther), index.match("HTTP", "/a/b/c/d/e.txt", "GET"));
+        assertEquals(List.of(post), index.match("HTTP", "/a/b/c/d/e.txt", "POST"));
+        assertEquals(List.of(root), index.match("HTTP", "/a/b", "GET"));
+    }
+
+    /**
+     * Test the paths are matched as string prefixes.
+     */
+    @Test
+    void testStringPrefix() {
+        assertEquals(List.of(get, getOther), index.match("HTTP", "/a/b/cde", "GET"));
+        assertEquals(List.of(root), index.match("HTTP", "/abc", "DELETE"));
+    }
+
+    /**
+     * Test the method filtering falls back to a shorter prefix.
+     */
+    @Test
+    void testMethodFallback() {
+        assertEquals(List.of(root), index.match("HTTP", "/a/b/c/d", "PUT"));
+    }
+
+    /**
+     * Test the scope is case insensitive and not matching paths are not secured.
+     */
+    @Test
+    void testScope() {
+        assertEquals(List.of(root), index.match("http", "/a", "GET"));
+        assertTrue(index.match("CMIS", "/a/b/c", "GET")
+                        .isEmpty());
+        assertTrue(index.match("HTTP", "/b", "GET")
+                        .isEmpty());
+        assertTrue(index.match("HTTP", "", "GET")
+                        .isEmpty());
+    }
+
+    /**
+     * Creates the access.
+     *
+     * @param name the name
+     * @param scope the scope
+     * @param path the path
+     * @param method the method
+     * @param role the role
+     * @return the access
+     */
+    private static Access createAccess(String name, String scope, String path, String method, String role) {
+        return new Access("/test/" + name + ".access", name, "description", scope, path, method, role);
+    }
+
+}
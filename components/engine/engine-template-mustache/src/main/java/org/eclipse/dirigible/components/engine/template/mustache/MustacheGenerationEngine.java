@@ -20,7 +20,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.springframework.stereotype.Component;
 
@@ -46,6 +48,12 @@ public class MustacheGenerationEngine implements TemplateEngine {
     /** The Constant MUSTACHE_DEFAULT_END_SYMBOL. */
     private static final String MUSTACHE_DEFAULT_END_SYMBOL = "}}";
 
+    /** The mustache factory of the templates without partials. */
+    private final DefaultMustacheFactory mustacheFactory = new DefaultMustacheFactory();
+
+    /** The compiled templates. */
+    private final TemplateCache<Mustache> cache = new TemplateCache<>();
+
     /**
      * Gets the name.
      *
@@ -83,19 +91,63 @@ public class MustacheGenerationEngine implements TemplateEngine {
      */
     @Override
     public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException {
-        sm = sm == null ? MUSTACHE_DEFAULT_START_SYMBOL : sm;
-        em = em == null ? MUSTACHE_DEFAULT_END_SYMBOL : em;
+        String startSymbol = sm == null ? MUSTACHE_DEFAULT_START_SYMBOL : sm;
+        String endSymbol = em == null ? MUSTACHE_DEFAULT_END_SYMBOL : em;
         decorateParameters(parameters);
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-        DefaultMustacheFactory defaultMustacheFactory = new DefaultMustacheFactory();
-        Mustache mustache = defaultMustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8),
-                location, sm, em);
+        Mustache mustache;
+        if (hasPartials(input, startSymbol)) {
+            mustache = compile(new DefaultMustacheFactory(), location, input, startSymbol, endSymbol);
+        } else {
+            mustache = cache.getOrCompile(input, startSymbol, endSymbol,
+                    () -> compile(mustacheFactory, location, input, startSymbol, endSymbol));
+        }
         mustache.execute(writer, parameters);
         writer.flush();
         return baos.toByteArray();
     }
 
+    /**
+     * Checks whether the template includes partials or extends a parent template. These are compiled
+     * by a new factory on each generation, since a factory caches the partials for good, while the
+     * cache of the templates is keyed only by the content of the template itself.
+     *
+     * @param input the input
+     * @param startSymbol the start symbol
+     * @return true, if the template refers to other templates
+     */
+    private static boolean hasPartials(byte[] input, String startSymbol) {
+        return Pattern.compile(Pattern.quote(startSymbol) + "\\s*[<>]")
+                      .matcher(new String(input, StandardCharsets.UTF_8))
+                      .find();
+    }
+
+    /**
+     * Compiles the template.
+     *
+     * @param factory the factory
+     * @param location the location
+     * @param input the input
+     * @param startSymbol the start symbol
+     * @param endSymbol the end symbol
+     * @return the mustache
+     */
+    private static Mustache compile(DefaultMustacheFactory factory, String location, byte[] input, String startSymbol, String endSymbol) {
+        return factory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location, startSymbol,
+                endSymbol);
+    }
+
+    /**
+     * Gets the cache.
+     *
+     * @return the cache
+     */
+    @Override
+    public TemplateCache<Mustache> getCache() {
+        return cache;
+    }
+
     /**
      * Decorate parameters.
      *
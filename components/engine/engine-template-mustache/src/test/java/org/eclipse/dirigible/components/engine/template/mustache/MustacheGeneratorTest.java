@@ -13,12 +13,16 @@ package org.eclipse.dirigible.components.engine.template.mustache;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.github.mustachejava.util.DecoratedCollection;
 
@@ -164,4 +168,52 @@ public class MustacheGeneratorTest {
                 "{{", "}}");
         assertEquals("test table1, table2", new String(result));
     }
+
+    /**
+     * Generate from cached template.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generateFromCachedTemplate() throws IOException {
+        TemplateEngine generationEngine = new MustacheGenerationEngine();
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("testParameter", "testValue1");
+        byte[] result = generationEngine.generate(parameters, "/location1", "test {{testParameter}}".getBytes(), "{{", "}}");
+        assertEquals("test testValue1", new String(result));
+        parameters.put("testParameter", "testValue2");
+        result = generationEngine.generate(parameters, "/location2", "test {{testParameter}}".getBytes(), "{{", "}}");
+        assertEquals("test testValue2", new String(result));
+        assertEquals(1, generationEngine.getCache()
+                                        .getMisses());
+        assertEquals(1, generationEngine.getCache()
+                                        .getHits());
+    }
+
+    /**
+     * Generate with a partial, which is compiled again after it is changed.
+     *
+     * @param folder the folder of the templates
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generateWithChangedPartial(@TempDir Path folder) throws IOException {
+        TemplateEngine generationEngine = new MustacheGenerationEngine();
+        Path partial = folder.resolve("partial.mustache");
+        String location = folder.resolve("main.mustache")
+                                .toString();
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("testParameter", "testValue");
+
+        Files.writeString(partial, "first {{testParameter}}", StandardCharsets.UTF_8);
+        byte[] result = generationEngine.generate(parameters, location, "test {{> partial}}".getBytes(), "{{", "}}");
+        assertEquals("test first testValue", new String(result));
+
+        Files.writeString(partial, "second {{testParameter}}", StandardCharsets.UTF_8);
+        result = generationEngine.generate(parameters, location, "test {{> partial}}".getBytes(), "{{", "}}");
+        assertEquals("test second testValue", new String(result));
+        assertEquals(0, generationEngine.getCache()
+                                        .getMisses());
+    }
+
 }
@@ -20,8 +20,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
 import org.eclipse.dirigible.components.engine.template.TemplateEngine;
 import org.springframework.stereotype.Component;
 
@@ -34,16 +37,19 @@ public class VelocityGenerationEngine implements TemplateEngine {
     /** The Constant ENGINE_NAME. */
     public static final String ENGINE_NAME = "velocity";
 
-    /** The engine. */
-    private VelocityEngine engine;
+    /** The runtime. */
+    private final RuntimeInstance runtime;
+
+    /** The compiled templates. */
+    private final TemplateCache<Template> cache = new TemplateCache<>();
 
     /**
      * Instantiates a new velocity generation engine.
      */
     public VelocityGenerationEngine() {
-        engine = new VelocityEngine();
+        runtime = new RuntimeInstance();
         try {
-            engine.init();
+            runtime.init();
         } catch (Throwable e) {
             // if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
             e.printStackTrace();
@@ -90,24 +96,52 @@ public class VelocityGenerationEngine implements TemplateEngine {
     public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-        ByteArrayInputStream in = new ByteArrayInputStream(input);
         try {
+            Template template = cache.getOrCompile(input, null, null, () -> compile(location, input));
             final VelocityContext context = new VelocityContext();
             prepareContextData(parameters, context);
-            engine.evaluate(context, writer, location, new InputStreamReader(in, StandardCharsets.UTF_8));
+            template.merge(context, writer);
             writer.flush();
             return baos.toByteArray();
+        } catch (IOException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new IOException("Could not evaluate template by Velocity [" + location + "]: " + ex.getMessage(), ex);
-        } finally {
-            try {
-                in.close();
-            } catch (IOException e) {
-                // do nothing
-            }
         }
     }
 
+    /**
+     * Compile the template, the same way as it is parsed on evaluation, so that it can be merged
+     * repeatedly and concurrently.
+     *
+     * @param location the location
+     * @param input the input
+     * @return the template
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Template compile(String location, byte[] input) throws IOException {
+        Template template = new Template();
+        template.setName(location);
+        template.setRuntimeServices(runtime);
+        try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8)) {
+            template.setData(runtime.parse(reader, template));
+            template.initDocument();
+        } catch (ParseException ex) {
+            throw new IOException("Could not parse template by Velocity [" + location + "]: " + ex.getMessage(), ex);
+        }
+        return template;
+    }
+
+    /**
+     * Gets the cache.
+     *
+     * @return the cache
+     */
+    @Override
+    public TemplateCache<Template> getCache() {
+        return cache;
+    }
+
     /**
      * Put the input parameters to the Velocity Context for processing.
      *
@@ -38,4 +38,25 @@ public class VelocityGeneratorTest {
         assertEquals("test testValue", new String(result));
     }
 
+    /**
+     * Generate from cached template.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void generateFromCachedTemplate() throws IOException {
+        TemplateEngine generationEngine = new VelocityGenerationEngine();
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("testParameter", "testValue1");
+        byte[] result = generationEngine.generate(parameters, "/location1", "test $testParameter".getBytes(), null, null);
+        assertEquals("test testValue1", new String(result));
+        parameters.put("testParameter", "testValue2");
+        result = generationEngine.generate(parameters, "/location2", "test $testParameter".getBytes(), null, null);
+        assertEquals("test testValue2", new String(result));
+        assertEquals(1, generationEngine.getCache()
+                                        .getMisses());
+        assertEquals(1, generationEngine.getCache()
+                                        .getHits());
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.template;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Content addressed cache of compiled templates shared across the generations of a template engine.
+ *
+ * The entries are keyed by the checksum of the template content and its delimiters, hence the same
+ * template is compiled once regardless of its location, while a modified template is never served
+ * from the cache. The least recently used entries are evicted above the configured size. The
+ * compiled templates must be safe for concurrent rendering.
+ *
+ * @param <T> the type of the compiled template
+ */
+public class TemplateCache<T> {
+
+    /** The Constant DIRIGIBLE_TEMPLATE_CACHE_SIZE. */
+    private static final String DIRIGIBLE_TEMPLATE_CACHE_SIZE = "DIRIGIBLE_TEMPLATE_CACHE_SIZE";
+
+    /** The compiled templates by checksum. */
+    private final Map<String, T> templates;
+
+    /** The hits. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The misses. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new template cache.
+     */
+    public TemplateCache() {
+        int maxSize = Configuration.getAsInt(DIRIGIBLE_TEMPLATE_CACHE_SIZE, 1000);
+        templates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Gets the compiled template for the given content and delimiters, or compiles and caches it.
+     *
+     * @param input the template content
+     * @param sm the start delimiter or null
+     * @param em the end delimiter or null
+     * @param compiler the compiler invoked on miss
+     * @return the compiled template
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public T getOrCompile(byte[] input, String sm, String em, TemplateCompiler<T> compiler) throws IOException {
+        String checksum = checksum(input, sm, em);
+        T template = templates.get(checksum);
+        if (template != null) {
+            hits.incrementAndGet();
+            return template;
+        }
+        misses.incrementAndGet();
+        template = compiler.compile();
+        templates.put(checksum, template);
+        return template;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    /**
+     * Gets the hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the misses.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return templates.size();
+    }
+
+    /**
+     * Checksum.
+     *
+     * @param input the input
+     * @param sm the sm
+     * @param em the em
+     * @return the string
+     */
+    private static String checksum(byte[] input, String sm, String em) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((sm + "\u0000" + em + "\u0000").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of()
+                            .formatHex(digest.digest(input));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The compiler of a template.
+     *
+     * @param <T> the type of the compiled template
+     */
+    @FunctionalInterface
+    public interface TemplateCompiler<T> {
+
+        /**
+         * Compile.
+         *
+         * @return the compiled template
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        T compile() throws IOException;
+    }
+
+}
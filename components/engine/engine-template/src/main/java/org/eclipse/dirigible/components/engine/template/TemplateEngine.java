@@ -52,4 +52,13 @@ public interface TemplateEngine {
      */
     public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException;
 
+    /**
+     * Gets the cache of the compiled templates.
+     *
+     * @return the cache or null, if the engine does not cache its templates
+     */
+    public default TemplateCache<?> getCache() {
+        return null;
+    }
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.template.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
+import org.eclipse.dirigible.components.engine.template.TemplateCache;
+import org.eclipse.dirigible.components.engine.template.TemplateEngine;
+import org.eclipse.dirigible.components.engine.template.TemplateEnginesManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The Class TemplateCachesEndpoint.
+ */
+@RestController
+@RequestMapping(BaseEndpoint.PREFIX_ENDPOINT_CORE + "template/caches")
+public class TemplateCachesEndpoint {
+
+    /** The template engines manager. */
+    private final TemplateEnginesManager templateEnginesManager;
+
+    /**
+     * Instantiates a new template caches endpoint.
+     *
+     * @param templateEnginesManager the template engines manager
+     */
+    public TemplateCachesEndpoint(TemplateEnginesManager templateEnginesManager) {
+        this.templateEnginesManager = templateEnginesManager;
+    }
+
+    /**
+     * Gets the statistics of the compiled template caches per engine.
+     *
+     * @return the statistics
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        for (TemplateEngine engine : templateEnginesManager.getTemplateEngines()) {
+            TemplateCache<?> cache = engine.getCache();
+            if (cache != null) {
+                Map<String, Object> engineStatistics = new LinkedHashMap<>();
+                engineStatistics.put("size", cache.getSize());
+                engineStatistics.put("hits", cache.getHits());
+                engineStatistics.put("misses", cache.getMisses());
+                statistics.put(engine.getName(), engineStatistics);
+            }
+        }
+        return ResponseEntity.ok(statistics);
+    }
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.springframework.stereotype.Component;
+
+/**
+ * The cache of the validators and the compressed variants of the static web resources.
+ *
+ * The entity tags are derived from the checksum of the content, hence they are the same after a
+ * restart and on all the nodes of a cluster. The gzip variant of a compressible resource is computed
+ * once and kept until the resource is modified. The resources backed by a file are validated by
+ * their size and modification time, so that an unchanged resource is neither read nor hashed again.
+ * The least recently used entries are evicted above the configured size.
+ */
+@Component
+public class WebResourcesCache {
+
+    /** The Constant DIRIGIBLE_WEB_CACHE_SIZE. */
+    private static final String DIRIGIBLE_WEB_CACHE_SIZE = "DIRIGIBLE_WEB_CACHE_SIZE";
+
+    /** The Constant DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE. */
+    private static final String DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE = "DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE";
+
+    /** The resources by path. */
+    private final Map<String, WebResource> resources;
+
+    /** The max size of a resource to be compressed. */
+    private final long compressionMaxSize;
+
+    /** The hits. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The misses. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new web resources cache.
+     */
+    public WebResourcesCache() {
+        int maxSize = Configuration.getAsInt(DIRIGIBLE_WEB_CACHE_SIZE, 1000);
+        compressionMaxSize = Configuration.getAsInt(DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE, 512 * 1024);
+        resources = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WebResource> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Gets the cached resource backed by a file, or computes it, if the file has been modified.
+     *
+     * @param path the path of the resource
+     * @param file the file
+     * @param contentType the content type
+     * @return the web resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public WebResource get(String path, File file, String contentType) throws IOException {
+        long size = file.length();
+        long lastModified = file.lastModified();
+        WebResource resource = resources.get(path);
+        if (resource != null && resource.size() == size && resource.lastModified() == lastModified) {
+            hits.incrementAndGet();
+            return resource;
+        }
+        misses.incrementAndGet();
+        if (isCompressible(contentType) && size <= compressionMaxSize) {
+            byte[] content = Files.readAllBytes(file.toPath());
+            resource = new WebResource(checksum(content), size, lastModified, gzip(content));
+        } else {
+            MessageDigest digest = digest();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            resource = new WebResource(HexFormat.of()
+                                                .formatHex(digest.digest()),
+                    size, lastModified, null);
+        }
+        resources.put(path, resource);
+        return resource;
+    }
+
+    /**
+     * Gets the cached resource for the content, which is not backed by a file. The content is hashed
+     * on each call, while the compressed variant is reused as long as the content is the same.
+     *
+     * @param path the path of the resource
+     * @param content the content
+     * @param contentType the content type
+     * @return the web resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public WebResource get(String path, byte[] content, String contentType) throws IOException {
+        String checksum = checksum(content);
+        WebResource resource = resources.get(path);
+        if (resource != null && resource.checksum()
+                                        .equals(checksum)) {
+            hits.incrementAndGet();
+            return resource;
+        }
+        misses.incrementAndGet();
+        byte[] compressed = isCompressible(contentType) && content.length <= compressionMaxSize ? gzip(content) : null;
+        resource = new WebResource(checksum, content.length, -1, compressed);
+        resources.put(path, resource);
+        return resource;
+    }
+
+    /**
+     * Removes the resources under the location.
+     *
+     * @param location the location
+     */
+    public void invalidate(String location) {
+        synchronized (resources) {
+            resources.keySet()
+                     .removeIf(path -> path.equals(location) || path.startsWith(location.endsWith("/") ? location : location + "/"));
+        }
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        resources.clear();
+    }
+
+    /**
+     * Gets the hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the misses.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return resources.size();
+    }
+
+    /**
+     * Checks if the content type is worth compressing.
+     *
+     * @param contentType the content type
+     * @return true, if is compressible
+     */
+    public static boolean isCompressible(String contentType) {
+        return contentType != null && (!ContentTypeHelper.isBinary(contentType) || ContentTypeHelper.IMAGE_SVG_XML.equals(contentType)
+                || ContentTypeHelper.APPLICATION_WASM.equals(contentType));
+    }
+
+    /**
+     * Compresses the content with gzip.
+     *
+     * @param content the content
+     * @return the compressed content, or null if it is not smaller than the content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.size() < content.length ? out.toByteArray() : null;
+    }
+
+    /**
+     * Checksum.
+     *
+     * @param content the content
+     * @return the string
+     */
+    private static String checksum(byte[] content) {
+        return HexFormat.of()
+                        .formatHex(digest().digest(content));
+    }
+
+    /**
+     * Digest.
+     *
+     * @return the message digest
+     */
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The validators and the compressed variant of a web resource.
+     *
+     * @param checksum the checksum of the content
+     * @param size the size
+     * @param lastModified the last modified time of the file, or -1 if not backed by a file
+     * @param gzip the gzip variant, or null if not compressed
+     */
+    public record WebResource(String checksum, long size, long lastModified, byte[] gzip) {
+
+        /**
+         * Gets the entity tag of the representation with the given content coding.
+         *
+         * @param encoding the content coding, or null for the identity
+         * @return the entity tag
+         */
+        public String getTag(String encoding) {
+            return encoding == null ? "\"" + checksum + "\"" : "\"" + checksum + "-" + encoding + "\"";
+        }
+
+        /**
+         * Checks whether the If-None-Match header matches any representation of the resource, as they
+         * all share the checksum of the content.
+         *
+         * @param ifNoneMatch the If-None-Match header
+         * @return true, if the client has the current content
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if ("*".equals(tag)) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                    tag = tag.substring(1, tag.length() - 1);
+                }
+                int dash = tag.indexOf('-');
+                if (checksum.equals(dash < 0 ? tag : tag.substring(0, dash))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
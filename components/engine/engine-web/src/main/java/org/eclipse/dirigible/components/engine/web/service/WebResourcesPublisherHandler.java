@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import java.io.File;
+import java.io.IOException;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes the outdated entries of the published and unpublished web resources from the cache. After
+ * a delta publish, the entity tags and the compressed variants of the changed resources are computed
+ * right away, so that the first requests do not pay for hashing and compressing them. After a full
+ * publish they are computed by the first requests instead, since the whole location could be much
+ * larger than the cache.
+ */
+@Component
+public class WebResourcesPublisherHandler implements PublisherHandler {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(WebResourcesPublisherHandler.class);
+
+    /** The repository. */
+    private final IRepository repository;
+
+    /** The web resources cache. */
+    private final WebResourcesCache webResourcesCache;
+
+    /**
+     * Instantiates a new web resources publisher handler.
+     *
+     * @param repository the repository
+     * @param webResourcesCache the web resources cache
+     */
+    @Autowired
+    public WebResourcesPublisherHandler(IRepository repository, WebResourcesCache webResourcesCache) {
+        this.repository = repository;
+        this.webResourcesCache = webResourcesCache;
+    }
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        if (metadata != null && metadata.isDelta()) {
+            for (String path : metadata.changedPaths()) {
+                webResourcesCache.invalidate(path);
+                precompute(repository.getResource(path));
+            }
+            return;
+        }
+        webResourcesCache.invalidate(registryLocation);
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        webResourcesCache.invalidate(location);
+    }
+
+    /**
+     * Precomputes the resource, if it is compressible and backed by a file.
+     *
+     * @param resource the resource
+     */
+    private void precompute(IResource resource) {
+        if (!resource.exists() || !WebResourcesCache.isCompressible(resource.getContentType())) {
+            return;
+        }
+        try {
+            File file = new File(repository.getInternalResourcePath(resource.getPath()));
+            if (file.isFile()) {
+                webResourcesCache.get(resource.getPath(), file, resource.getContentType());
+            }
+        } catch (RepositoryException | IOException e) {
+            logger.warn("Failed to precompute the web resource [{}]", resource.getPath(), e);
+        }
+    }
+
+}
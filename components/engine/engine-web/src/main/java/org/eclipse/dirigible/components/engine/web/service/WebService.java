@@ -10,20 +10,22 @@
  */
 package org.eclipse.dirigible.components.engine.web.service;
 
-import java.nio.charset.StandardCharsets;
+import java.io.File;
+import java.io.IOException;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
-import org.eclipse.dirigible.commons.config.ResourcesCache;
-import org.eclipse.dirigible.commons.config.ResourcesCache.Cache;
 import org.eclipse.dirigible.components.engine.web.exposure.ExposeManager;
+import org.eclipse.dirigible.components.engine.web.service.WebResourcesCache.WebResource;
 import org.eclipse.dirigible.components.registry.accessor.RegistryAccessor;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
 import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -40,8 +42,14 @@ import org.springframework.web.server.ResponseStatusException;
 @RequestScope
 public class WebService {
 
-    /** The Constant WEB_CACHE. */
-    private static final Cache WEB_CACHE = ResourcesCache.getWebCache();
+    /** The Constant GZIP. */
+    private static final String GZIP = "gzip";
+
+    /** The Constant BROTLI. */
+    private static final String BROTLI = "br";
+
+    /** The Constant BROTLI_EXTENSION. */
+    private static final String BROTLI_EXTENSION = ".br";
 
     /** The Constant INDEX_HTML. */
     private static final String INDEX_HTML = "index.html";
@@ -54,6 +62,10 @@ public class WebService {
     @Autowired
     private RegistryAccessor registryAccessor;
 
+    /** The web resources cache. */
+    @Autowired
+    private WebResourcesCache webResourcesCache;
+
     /**
      * Gets the resource.
      *
@@ -85,17 +97,23 @@ public class WebService {
      * @return the resource by path
      */
     private ResponseEntity getResourceByPath(String path) {
-        if (isCached(path)) {
-            return sendResourceNotModified();
-        }
-
         if (registryAccessor.existResource(path)) {
             IResource resource = registryAccessor.getResource(path);
             if (resource == null) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Resource requested is not exposed.");
             }
             String contentType = resource.getContentType();
-            return sendResource(path, resource.isBinary(), resource.getContent(), contentType);
+            try {
+                File file = getFile(resource.getPath());
+                if (file != null) {
+                    WebResource webResource = webResourcesCache.get(resource.getPath(), file, contentType);
+                    return sendResource(webResource, contentType, new FileSystemResource(file), getBrotliFile(file, contentType));
+                }
+                byte[] content = resource.getContent();
+                return sendResource(webResourcesCache.get(resource.getPath(), content, contentType), contentType, content, null);
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Resource cannot be read: " + path, e);
+            }
         }
 
         String errorMessage = "Resource not found: " + path;
@@ -103,70 +121,114 @@ public class WebService {
             byte[] content = registryAccessor.getRegistryContent(path);
             if (content != null) {
                 String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(path));
-                return sendResource(path, ContentTypeHelper.isBinary(contentType), content, contentType);
+                return sendResource(webResourcesCache.get(path, content, contentType), contentType, content, null);
             } else {
                 throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Requested resource not found.");
             }
-        } catch (RepositoryNotFoundException e) {
+        } catch (RepositoryNotFoundException | IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, errorMessage);
         }
     }
 
     /**
-     * Send resource not modified.
+     * Send resource in the representation preferred by the client, or not modified if the client
+     * already has the current content. The brotli variant is served only if it has been precompressed
+     * next to the resource, while the gzip one is computed by the cache. The files are streamed instead
+     * of being loaded in memory.
      *
+     * @param webResource the web resource
+     * @param contentType the content type
+     * @param content the content as a byte array or a file system resource
+     * @param brotliFile the brotli variant or null
      * @return the response
      */
-    private ResponseEntity sendResourceNotModified() {
+    private ResponseEntity sendResource(WebResource webResource, String contentType, Object content, File brotliFile) {
         final HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add("ETag", getTag());
-        return new ResponseEntity(httpHeaders, HttpStatus.NOT_MODIFIED);
+        httpHeaders.add("Cache-Control", "public, must-revalidate, max-age=0");
+        Object body = content;
+        String encoding = null;
+        if (brotliFile != null || webResource.gzip() != null) {
+            httpHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (brotliFile != null && isAccepted(acceptEncoding, BROTLI)) {
+                body = new FileSystemResource(brotliFile);
+                encoding = BROTLI;
+            } else if (webResource.gzip() != null && isAccepted(acceptEncoding, GZIP)) {
+                body = webResource.gzip();
+                encoding = GZIP;
+            }
+        }
+        httpHeaders.add("ETag", webResource.getTag(encoding));
+        if (webResource.matches(getTag())) {
+            return new ResponseEntity(httpHeaders, HttpStatus.NOT_MODIFIED);
+        }
+        httpHeaders.setContentType(MediaType.valueOf(contentType));
+        if (encoding != null) {
+            httpHeaders.add(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return new ResponseEntity(body, httpHeaders, HttpStatus.OK);
     }
 
     /**
-     * Send resource.
+     * Gets the file of the repository resource.
      *
-     * @param path the path
-     * @param isBinary the is binary
-     * @param content the content
-     * @param contentType the content type
-     * @return the response
+     * @param repositoryPath the repository path
+     * @return the file or null if the resource is not backed by a file
      */
-    private ResponseEntity sendResource(String path, boolean isBinary, byte[] content, String contentType) {
-        String tag = cacheResource(path);
-        final HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setContentType(MediaType.valueOf(contentType));
-        httpHeaders.add("Cache-Control", "public, must-revalidate, max-age=0");
-        httpHeaders.add("ETag", tag);
-        if (isBinary) {
-            return new ResponseEntity(content, httpHeaders, HttpStatus.OK);
+    private File getFile(String repositoryPath) {
+        try {
+            File file = new File(registryAccessor.getRepository()
+                                                 .getInternalResourcePath(repositoryPath));
+            return file.isFile() ? file : null;
+        } catch (RepositoryException e) {
+            return null;
         }
-        return new ResponseEntity(new String(content, StandardCharsets.UTF_8), httpHeaders, HttpStatus.OK);
     }
 
     /**
-     * Cache resource.
+     * Gets the brotli variant of a compressible file, which has been precompressed next to it.
      *
-     * @param path the path
-     * @return the string
+     * @param file the file
+     * @param contentType the content type
+     * @return the brotli file or null if there is no up-to-date one
      */
-    private String cacheResource(String path) {
-        String tag = WEB_CACHE.generateTag();
-        WEB_CACHE.setTag(path, tag);
-        return tag;
+    private File getBrotliFile(File file, String contentType) {
+        if (!WebResourcesCache.isCompressible(contentType)) {
+            return null;
+        }
+        File brotliFile = new File(file.getPath() + BROTLI_EXTENSION);
+        return brotliFile.isFile() && brotliFile.lastModified() >= file.lastModified() ? brotliFile : null;
     }
 
     /**
-     * Checks if is cached.
+     * Checks whether the content coding is accepted by the Accept-Encoding header.
      *
-     * @param path the path
-     * @return true, if is cached
+     * @param acceptEncoding the Accept-Encoding header
+     * @param coding the content coding
+     * @return true, if is accepted
      */
-    private boolean isCached(String path) {
-        String tag = getTag();
-        String cachedTag = WEB_CACHE.getTag(path);
-        return tag == null || cachedTag == null ? false : tag.equals(cachedTag);
-
+    private static boolean isAccepted(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            if (!coding.equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -16,11 +16,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 
 import org.apache.commons.io.FileUtils;
 import org.eclipse.dirigible.components.engine.web.exposure.ExposeManager;
@@ -137,6 +141,7 @@ public class WebEndpointTest {
         Files.writeString(Paths.get(registyrFolder, "demo", "ui", "hello-world.txt"), "Hello World!", StandardOpenOption.CREATE);
         Files.writeString(Paths.get(registyrFolder, "demo", "hidden", "hidden.txt"), "Hidden", StandardOpenOption.CREATE);
         Files.writeString(Paths.get(registyrFolder, "demo", "ui", "index.html"), "Hidden", StandardOpenOption.CREATE);
+        Files.writeString(Paths.get(registyrFolder, "demo", "ui", "repeated.txt"), "Hello World! ".repeat(100), StandardOpenOption.CREATE);
         try {
             synchronizationWatcher.force();
             synchronizationProcessor.processSynchronizers();
@@ -160,6 +165,27 @@ public class WebEndpointTest {
             mockMvc.perform(get("/services/web/demo/ui/"))
                    .andDo(print())
                    .andExpect(status().is2xxSuccessful());
+            String tag = "\"" + HexFormat.of()
+                                         .formatHex(MessageDigest.getInstance("SHA-256")
+                                                                 .digest("Hello World!".getBytes(StandardCharsets.UTF_8)))
+                    + "\"";
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt"))
+                   .andDo(print())
+                   .andExpect(header().string("ETag", tag))
+                   .andExpect(status().is2xxSuccessful());
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt").header("If-None-Match", tag))
+                   .andDo(print())
+                   .andExpect(status().isNotModified());
+            mockMvc.perform(get("/services/web/demo/ui/repeated.txt").header("Accept-Encoding", "gzip, deflate"))
+                   .andDo(print())
+                   .andExpect(header().string("Content-Encoding", "gzip"))
+                   .andExpect(header().string("Vary", "Accept-Encoding"))
+                   .andExpect(status().is2xxSuccessful());
+            mockMvc.perform(get("/services/web/demo/ui/repeated.txt"))
+                   .andDo(print())
+                   .andExpect(header().doesNotExist("Content-Encoding"))
+                   .andExpect(content().string("Hello World! ".repeat(100)))
+                   .andExpect(status().is2xxSuccessful());
         } finally {
             FileUtils.deleteDirectory(Paths.get(registyrFolder, "demo")
                                            .toFile());
@@ -43,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The Class TransportEndpoint.
@@ -149,7 +150,9 @@ public class TransportEndpoint {
             relativePath = UrlFacade.decode(folder, null);
         }
 
-        transportService.importZipToPath(workspace, project, relativePath, file.getBytes(), true);
+        try (InputStream in = file.getInputStream()) {
+            transportService.importZipToPath(workspace, project, relativePath, in, true);
+        }
         return ResponseEntity.ok()
                              .build();
     }
@@ -166,30 +169,41 @@ public class TransportEndpoint {
      * @throws DecoderException the repository export exception
      */
     @GetMapping(value = "/project/{workspace}/{project}/{*folder}", produces = "multipart/form-data")
-    public ResponseEntity<?> exportProject(@PathVariable("workspace") String workspace, @PathVariable("project") String project,
-            @PathVariable("folder") String folder) throws RepositoryExportException, UnsupportedEncodingException, DecoderException {
+    public ResponseEntity<StreamingResponseBody> exportProject(@PathVariable("workspace") String workspace,
+            @PathVariable("project") String project, @PathVariable("folder") String folder)
+            throws RepositoryExportException, UnsupportedEncodingException, DecoderException {
 
         SimpleDateFormat pattern = getDateFormat();
-        byte[] zip;
+        StreamingResponseBody zip;
 
+        // the paths of the current user are resolved here, as the body is written on an async thread
         if ("*".equals(project)) {
-            zip = transportService.exportWorkspace(workspace);
+            String path = transportService.getWorkspacePath(workspace);
+            zip = output -> transportService.exportZip(path, false, output);
 
             final HttpHeaders httpHeaders = new HttpHeaders();
             httpHeaders.setContentDisposition(
                     ContentDisposition.parse("attachment; filename=\"" + workspace + "-" + pattern.format(new Date()) + ".zip\""));
-            return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
+            return new ResponseEntity<>(zip, httpHeaders, HttpStatus.OK);
         } else if (folder == null || folder.isEmpty() || folder.trim()
                                                                .isEmpty()
-                || folder.equals("/"))
-            zip = transportService.exportProject(workspace, project);
-        else
-            zip = transportService.exportFolder(workspace, project, folder);
+                || folder.equals("/")) {
+            String path = transportService.getProjectPath(workspace, project);
+            zip = output -> transportService.exportZip(path, true, output);
+        } else {
+            String path;
+            try {
+                path = transportService.getFolderPath(workspace, project, folder);
+            } catch (DecoderException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+            zip = output -> transportService.exportZip(path, true, output);
+        }
 
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentDisposition(
                 ContentDisposition.parse("attachment; filename=\"" + project + "-" + pattern.format(new Date()) + ".zip\""));
-        return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(zip, httpHeaders, HttpStatus.OK);
     }
 
     /**
@@ -204,7 +218,9 @@ public class TransportEndpoint {
     public ResponseEntity<?> importSnapshot(@Validated @RequestParam("file") MultipartFile file)
             throws RepositoryImportException, IOException {
 
-        transportService.importSnapshot(file.getBytes());
+        try (InputStream in = file.getInputStream()) {
+            transportService.importSnapshot(in);
+        }
         return ResponseEntity.ok()
                              .build();
     }
@@ -216,14 +232,14 @@ public class TransportEndpoint {
      * @throws RepositoryExportException the repository export exception
      */
     @GetMapping(value = "/snapshot", produces = "multipart/form-data")
-    public ResponseEntity<?> exportSnapshot() throws RepositoryExportException {
+    public ResponseEntity<StreamingResponseBody> exportSnapshot() throws RepositoryExportException {
 
         SimpleDateFormat pattern = getDateFormat();
-        byte[] zip = transportService.exportSnapshot();
+        StreamingResponseBody zip = output -> transportService.exportSnapshot(output);
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentDisposition(
                 ContentDisposition.parse("attachment; filename=\"repository-snapshot-" + pattern.format(new Date()) + ".zip\""));
-        return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(zip, httpHeaders, HttpStatus.OK);
     }
 
     /**
@@ -16,6 +16,7 @@ import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.security.UserFacade;
 import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
 import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
@@ -33,6 +34,9 @@ public class PublisherService {
 
     public static final String DIRIGIBLE_PUBLISH_DISABLED = "DIRIGIBLE_PUBLISH_DISABLED";
 
+    /** The Constant DIRIGIBLE_PUBLISH_DELTA. */
+    public static final String DIRIGIBLE_PUBLISH_DELTA = "DIRIGIBLE_PUBLISH_DELTA";
+
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(PublisherService.class);
 
@@ -138,23 +142,44 @@ public class PublisherService {
             }
         }
 
+        boolean delta = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_PUBLISH_DELTA, Boolean.FALSE.toString()));
+        Set<String> changedPaths = delta ? new LinkedHashSet<>() : null;
         ICollection sourceCollection = getRepository().getCollection(sourceLocation);
         if (sourceCollection.exists()) {
             // publish collection
             ICollection targetCollection = getRepository().getCollection(targetLocation);
-            sourceCollection.copyTo(targetCollection.getPath());
-            logger.info("Published collection: {} -> {}", sourceCollection.getPath(), targetCollection.getPath());
+            if (delta) {
+                publishCollectionDelta(sourceCollection, targetCollection, changedPaths);
+                logger.info("Published collection: {} -> {} with [{}] changes", sourceCollection.getPath(), targetCollection.getPath(),
+                        changedPaths.size());
+            } else {
+                sourceCollection.copyTo(targetCollection.getPath());
+                logger.info("Published collection: {} -> {}", sourceCollection.getPath(), targetCollection.getPath());
+            }
         } else {
             // publish a single resource
             IResource sourceResource = getRepository().getResource(sourceLocation);
             IResource targetResource = getRepository().getResource(targetLocation);
             if (targetResource.exists()) {
-                targetResource.setContent(sourceResource.getContent());
+                if (!delta || isChanged(sourceResource, targetResource)) {
+                    targetResource.setContent(sourceResource.getContent());
+                    if (delta) {
+                        changedPaths.add(targetResource.getPath());
+                    }
+                }
             } else {
                 getRepository().createResource(targetLocation, sourceResource.getContent());
+                if (delta) {
+                    changedPaths.add(targetResource.getPath());
+                }
             }
             logger.info("Published resource: {} -> {}", sourceResource.getPath(), targetResource.getPath());
         }
+        if (delta) {
+            afterPublishMetadata = new PublisherHandler.AfterPublishMetadata(afterPublishMetadata.workspace(),
+                    afterPublishMetadata.projectName(), afterPublishMetadata.entryPath(), afterPublishMetadata.isDirectory(),
+                    Collections.unmodifiableSet(changedPaths));
+        }
 
         for (PublisherHandler next : publisherHandlers) {
             try {
@@ -167,6 +192,76 @@ public class PublisherService {
         }
     }
 
+    /**
+     * Publishes only the differences between the source and the target collections. The resources,
+     * which are new or changed, are written, the ones, which do not exist in the source anymore, are
+     * deleted, and the unchanged ones are left untouched, so that their modification time is kept.
+     *
+     * @param sourceCollection the source collection
+     * @param targetCollection the target collection
+     * @param changedPaths the collected paths of the created, updated and deleted target entities
+     */
+    private void publishCollectionDelta(ICollection sourceCollection, ICollection targetCollection, Set<String> changedPaths) {
+        if (!targetCollection.exists()) {
+            targetCollection.create();
+            changedPaths.add(targetCollection.getPath());
+        }
+
+        Set<String> sourceResourcesNames = new HashSet<>();
+        for (IResource sourceResource : sourceCollection.getResources()) {
+            sourceResourcesNames.add(sourceResource.getName());
+            IResource targetResource = targetCollection.getResource(sourceResource.getName());
+            if (!targetResource.exists()) {
+                targetCollection.createResource(sourceResource.getName(), sourceResource.getContent(), sourceResource.isBinary(),
+                        sourceResource.getContentType());
+                changedPaths.add(targetResource.getPath());
+            } else if (isChanged(sourceResource, targetResource)) {
+                targetResource.setContent(sourceResource.getContent(), sourceResource.isBinary(), sourceResource.getContentType());
+                changedPaths.add(targetResource.getPath());
+            }
+        }
+        for (IResource targetResource : targetCollection.getResources()) {
+            if (!sourceResourcesNames.contains(targetResource.getName())) {
+                targetResource.delete();
+                changedPaths.add(targetResource.getPath());
+            }
+        }
+
+        Set<String> sourceCollectionsNames = new HashSet<>();
+        for (ICollection sourceChild : sourceCollection.getCollections()) {
+            sourceCollectionsNames.add(sourceChild.getName());
+            publishCollectionDelta(sourceChild, targetCollection.getCollection(sourceChild.getName()), changedPaths);
+        }
+        for (ICollection targetChild : targetCollection.getCollections()) {
+            if (!sourceCollectionsNames.contains(targetChild.getName())) {
+                targetChild.delete();
+                changedPaths.add(targetChild.getPath());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the source resource differs from the published one. The content is compared only
+     * if the sizes are equal and the source has been modified after the target was written.
+     *
+     * @param sourceResource the source resource
+     * @param targetResource the target resource
+     * @return true, if changed
+     */
+    private boolean isChanged(IResource sourceResource, IResource targetResource) {
+        IEntityInformation sourceInformation = sourceResource.getInformation();
+        IEntityInformation targetInformation = targetResource.getInformation();
+        if (!Objects.equals(sourceInformation.getSize(), targetInformation.getSize())) {
+            return true;
+        }
+        Date sourceModifiedAt = sourceInformation.getModifiedAt();
+        Date targetModifiedAt = targetInformation.getModifiedAt();
+        if (sourceModifiedAt != null && targetModifiedAt != null && !sourceModifiedAt.after(targetModifiedAt)) {
+            return false;
+        }
+        return !Arrays.equals(sourceResource.getContent(), targetResource.getContent());
+    }
+
     /**
      * Publish resource.
      *
@@ -11,6 +11,7 @@
 package org.eclipse.dirigible.components.ide.workspace.service;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.zip.ZipInputStream;
 
@@ -74,10 +75,10 @@ public class TransportService {
      * @param workspaceName the workspace name
      * @param projectName the project name
      * @param pathInProject the path in project
-     * @param content the content
+     * @param content the zip content
      * @param override the override
      */
-    public void importZipToPath(String workspaceName, String projectName, String pathInProject, byte[] content, Boolean override) {
+    public void importZipToPath(String workspaceName, String projectName, String pathInProject, InputStream content, Boolean override) {
         if (override == null)
             override = true;
         Workspace workspace = getWorkspace(workspaceName);
@@ -132,23 +133,20 @@ public class TransportService {
      *
      * @param workspace the workspace
      * @param project the project
-     * @return the byte[]
+     * @param output the output stream of the zip
      */
-    public byte[] exportProject(String workspace, String project) {
-        Workspace workspaceApi = getWorkspace(workspace);
-        Project projectApi = getProject(workspaceApi, project);
-        return getRepository().exportZip(projectApi.getPath(), true);
+    public void exportProject(String workspace, String project, OutputStream output) {
+        exportZip(getProjectPath(workspace, project), true, output);
     }
 
     /**
      * Export workspace.
      *
      * @param workspace the workspace
-     * @return the byte[]
+     * @param output the output stream of the zip
      */
-    public byte[] exportWorkspace(String workspace) {
-        Workspace workspaceApi = getWorkspace(workspace);
-        return getRepository().exportZip(workspaceApi.getPath(), false);
+    public void exportWorkspace(String workspace, OutputStream output) {
+        exportZip(getWorkspacePath(workspace), false, output);
     }
 
     /**
@@ -157,15 +155,61 @@ public class TransportService {
      * @param workspace the workspace
      * @param project the project
      * @param folder the project
-     * @return the byte[]
+     * @param output the output stream of the zip
      * @throws UnsupportedEncodingException the unsupported encoding exception
      * @throws DecoderException the decoder exception
      */
-    public byte[] exportFolder(String workspace, String project, String folder) throws UnsupportedEncodingException, DecoderException {
-        Workspace workspaceApi = getWorkspace(workspace);
-        Project projectApi = getProject(workspaceApi, project);
+    public void exportFolder(String workspace, String project, String folder, OutputStream output)
+            throws UnsupportedEncodingException, DecoderException {
+        exportZip(getFolderPath(workspace, project, folder), true, output);
+    }
+
+    /**
+     * Gets the repository path of a workspace of the current user.
+     *
+     * @param workspace the workspace
+     * @return the workspace path
+     */
+    public String getWorkspacePath(String workspace) {
+        return getWorkspace(workspace).getPath();
+    }
+
+    /**
+     * Gets the repository path of a project of the current user.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @return the project path
+     */
+    public String getProjectPath(String workspace, String project) {
+        return getProject(getWorkspace(workspace), project).getPath();
+    }
+
+    /**
+     * Gets the repository path of a folder in a project of the current user.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @param folder the url encoded folder
+     * @return the folder path
+     * @throws UnsupportedEncodingException the unsupported encoding exception
+     * @throws DecoderException the decoder exception
+     */
+    public String getFolderPath(String workspace, String project, String folder) throws UnsupportedEncodingException, DecoderException {
         String decodedPath = UrlFacade.decode(folder, null);
-        return getRepository().exportZip(projectApi.getPath() + IRepositoryStructure.SEPARATOR + decodedPath, true);
+        return getProjectPath(workspace, project) + IRepositoryStructure.SEPARATOR + decodedPath;
+    }
+
+    /**
+     * Exports a repository path as a zip. The path is resolved by the caller, since the export may
+     * run on a thread without the context of the current user.
+     *
+     * @param path the repository path
+     * @param omitRootFolder whether to omit the root folder in the zip
+     * @param output the output stream of the zip
+     */
+    public void exportZip(String path, boolean omitRootFolder, OutputStream output) {
+        getRepository().exportZip(path, omitRootFolder, output);
     }
 
     /**
@@ -192,19 +236,19 @@ public class TransportService {
     /**
      * Import snapshot.
      *
-     * @param content the content
+     * @param content the zip content
      */
-    public void importSnapshot(byte[] content) {
+    public void importSnapshot(InputStream content) {
         getRepository().importZip(content, IRepositoryStructure.SEPARATOR, true, false, null);
     }
 
     /**
      * Export snapshot.
      *
-     * @return the byte[]
+     * @param output the output stream of the zip
      */
-    public byte[] exportSnapshot() {
-        return getRepository().exportZip(IRepositoryStructure.SEPARATOR, true);
+    public void exportSnapshot(OutputStream output) {
+        getRepository().exportZip(IRepositoryStructure.SEPARATOR, true, output);
     }
 
     /**
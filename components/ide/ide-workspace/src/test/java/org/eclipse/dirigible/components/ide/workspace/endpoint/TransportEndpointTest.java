@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.ide.workspace.endpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.eclipse.dirigible.components.ide.workspace.domain.ProjectStatusProvider;
+import org.eclipse.dirigible.components.ide.workspace.domain.Workspace;
+import org.eclipse.dirigible.components.ide.workspace.service.WorkspaceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * The Class TransportEndpointTest.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+public class TransportEndpointTest {
+
+    /** The Constant USER. */
+    private static final String USER = "alice";
+
+    /** The workspace service. */
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    /** The transport endpoint. */
+    @Autowired
+    private TransportEndpoint transportEndpoint;
+
+    /**
+     * Cleanup.
+     */
+    @AfterEach
+    public void cleanup() {
+        ThreadContextFacade.tearDown();
+    }
+
+    /**
+     * The export is written on another thread, as by Spring MVC, after the context of the request has
+     * been cleared, still with the project of the user of the request.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void exportProjectOfUser() throws Exception {
+        ThreadContextFacade.setUp();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteUser(USER);
+        ThreadContextFacade.set(HttpServletRequest.class.getCanonicalName(), request);
+
+        Workspace workspace = workspaceService.createWorkspace("transport1");
+        workspace.createProject("project1")
+                 .createFile("file1.txt", "hello".getBytes());
+        assertTrue(workspace.getPath()
+                            .contains(USER));
+
+        ResponseEntity<StreamingResponseBody> response = transportEndpoint.exportProject("transport1", "project1", null);
+        ThreadContextFacade.tearDown();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CompletableFuture.runAsync(() -> {
+            try {
+                response.getBody()
+                        .writeTo(output);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        })
+                         .get(30, TimeUnit.SECONDS);
+
+        List<String> entries = getEntries(output.toByteArray());
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0)
+                          .endsWith("file1.txt"));
+    }
+
+    /**
+     * Gets the names of the file entries of a zip.
+     *
+     * @param zip the zip
+     * @return the entries
+     * @throws Exception the exception
+     */
+    private static List<String> getEntries(byte[] zip) throws Exception {
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    entries.add(entry.getName());
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    static class TestConfiguration {
+
+        /**
+         * Creates the project status provider.
+         *
+         * @return the project status provider
+         */
+        @Bean
+        public ProjectStatusProvider createProjectStatusProvider() {
+            return new DummyProjectStatusProvider();
+        }
+
+    }
+}
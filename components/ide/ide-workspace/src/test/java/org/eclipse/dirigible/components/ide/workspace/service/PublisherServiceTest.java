@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.ide.workspace.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class PublisherServiceTest.
+ */
+public class PublisherServiceTest {
+
+    /** The Constant WORKSPACE_PATH. */
+    private static final String WORKSPACE_PATH = "/users/alice/workspace1/project1/";
+
+    /** The Constant REGISTRY_PATH. */
+    private static final String REGISTRY_PATH = "/registry/public/project1/";
+
+    /** The root folder of the repository. */
+    @TempDir
+    Path root;
+
+    /** The repository. */
+    private IRepository repository;
+
+    /** The handler. */
+    private RecordingHandler handler;
+
+    /** The publisher service. */
+    private PublisherService publisherService;
+
+    /**
+     * Creates the publisher over a local repository.
+     */
+    @BeforeEach
+    public void setUp() {
+        repository = new LocalRepository(root.toString(), true);
+        handler = new RecordingHandler();
+        publisherService = new PublisherService(repository, List.of(handler));
+    }
+
+    /**
+     * Cleanup.
+     */
+    @AfterEach
+    public void cleanup() {
+        Configuration.remove(PublisherService.DIRIGIBLE_PUBLISH_DELTA);
+    }
+
+    /**
+     * A full publish copies the whole project and does not report the changed paths.
+     */
+    @Test
+    public void fullPublish() {
+        repository.createResource(WORKSPACE_PATH + "a.txt", "a".getBytes());
+
+        publisherService.publish("alice", "workspace1", "project1", "");
+
+        assertTrue(repository.getResource(REGISTRY_PATH + "a.txt")
+                             .exists());
+        assertEquals(1, handler.published.size());
+        assertFalse(handler.published.get(0)
+                                     .isDelta());
+        assertNull(handler.published.get(0)
+                                    .changedPaths());
+    }
+
+    /**
+     * A delta publish reports only the created, updated and deleted paths, and does not touch the
+     * unchanged resources.
+     */
+    @Test
+    public void deltaPublishReportsChangedPaths() {
+        Configuration.set(PublisherService.DIRIGIBLE_PUBLISH_DELTA, "true");
+        repository.createResource(WORKSPACE_PATH + "changed.txt", "before".getBytes());
+        repository.createResource(WORKSPACE_PATH + "unchanged.txt", "same".getBytes());
+        repository.createResource(WORKSPACE_PATH + "removed.txt", "removed".getBytes());
+        repository.createResource(WORKSPACE_PATH + "folder/nested.txt", "nested".getBytes());
+
+        publisherService.publish("alice", "workspace1", "project1", "");
+
+        assertTrue(handler.published.get(0)
+                                    .isDelta());
+        assertTrue(handler.published.get(0)
+                                    .changedPaths()
+                                    .contains(REGISTRY_PATH + "unchanged.txt"));
+
+        repository.getResource(WORKSPACE_PATH + "changed.txt")
+                  .setContent("after, longer".getBytes());
+        repository.removeResource(WORKSPACE_PATH + "removed.txt");
+        repository.createResource(WORKSPACE_PATH + "folder/added.txt", "added".getBytes());
+
+        publisherService.publish("alice", "workspace1", "project1", "");
+
+        assertEquals(2, handler.published.size());
+        assertEquals(Set.of(REGISTRY_PATH + "changed.txt", REGISTRY_PATH + "removed.txt", REGISTRY_PATH + "folder/added.txt"),
+                handler.published.get(1)
+                                 .changedPaths());
+        assertArrayEquals("after, longer".getBytes(), repository.getResource(REGISTRY_PATH + "changed.txt")
+                                                                .getContent());
+        assertFalse(repository.getResource(REGISTRY_PATH + "removed.txt")
+                              .exists());
+        assertTrue(repository.getResource(REGISTRY_PATH + "unchanged.txt")
+                             .exists());
+    }
+
+    /**
+     * The handler recording the published metadata.
+     */
+    private static class RecordingHandler implements PublisherHandler {
+
+        /** The published metadata. */
+        private final List<AfterPublishMetadata> published = new ArrayList<>();
+
+        /**
+         * After publish.
+         *
+         * @param workspaceLocation the workspace location
+         * @param registryLocation the registry location
+         * @param metadata the metadata
+         */
+        @Override
+        public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+            published.add(metadata);
+        }
+    }
+
+}
@@ -16,9 +16,10 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.GenerationType;
 
@@ -59,7 +60,7 @@ public class PersistenceManager<T> {
     private static final String CONNECTION_ID_SEPARATOR = ":";
 
     /** The Constant EXISTING_TABLES_CACHE. */
-    private static final List<String> EXISTING_TABLES_CACHE = Collections.synchronizedList(new ArrayList<String>());
+    private static final Set<String> EXISTING_TABLES_CACHE = ConcurrentHashMap.newKeySet();
 
     /** The entity manager interceptor. */
     private IEntityManagerInterceptor entityManagerInterceptor;
@@ -241,6 +242,27 @@ public class PersistenceManager<T> {
         return insertProcessor.insert(connection, tableModel, pojo);
     }
 
+    /**
+     * Insert the records in the table representing the POJO instances in batches.
+     *
+     * @param connection the database connection
+     * @param pojos the POJO instances of the same class
+     * @return the ids of the pojos just inserted
+     */
+    public List<Object> insertAll(Connection connection, List<T> pojos) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("insertAll -> connection: " + connection.hashCode() + ", pojos: " + pojos.size());
+        }
+        if (pojos.isEmpty()) {
+            return new ArrayList<>();
+        }
+        T first = pojos.get(0);
+        tableCheck(connection, first.getClass());
+        PersistenceTableModel tableModel = PersistenceFactory.createModel(first);
+        PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(getEntityManagerInterceptor());
+        return insertProcessor.insertAll(connection, tableModel, pojos);
+    }
+
     /**
      * Getter for the single POJO instance.
      *
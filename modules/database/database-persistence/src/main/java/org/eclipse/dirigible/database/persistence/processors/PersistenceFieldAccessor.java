@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.processors;
+
+import static java.text.MessageFormat.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.database.persistence.PersistenceException;
+import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
+
+/**
+ * The accessor of a field of a POJO. The method handles of the field are created once per class
+ * and field, so that the values are read and written without a lookup of the field and without
+ * switching its accessible flag each time. The final fields are written reflectively, as a method
+ * handle cannot write them, hence they behave as with {@link Field#set(Object, Object)}.
+ */
+final class PersistenceFieldAccessor {
+
+    /** The Constant ACCESSORS. */
+    private static final Map<Class<?>, Map<String, PersistenceFieldAccessor>> ACCESSORS = new ConcurrentHashMap<>();
+
+    /** The Constant GETTER_TYPE. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** The Constant SETTER_TYPE. */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** The field. */
+    private final Field field;
+
+    /** The getter. */
+    private final MethodHandle getter;
+
+    /** The setter, resolved on the first write of a non final field. */
+    private volatile MethodHandle setter;
+
+    /**
+     * Instantiates a new persistence field accessor.
+     *
+     * @param field the field
+     * @throws IllegalAccessException the illegal access exception
+     */
+    private PersistenceFieldAccessor(Field field) throws IllegalAccessException {
+        // the field instance is owned by the accessor, hence it stays accessible
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.field = field;
+        this.getter = lookup.unreflectGetter(field)
+                            .asType(GETTER_TYPE);
+    }
+
+    /**
+     * Gets the accessor of a field of a class.
+     *
+     * @param clazz the clazz
+     * @param fieldName the field name
+     * @return the accessor
+     * @throws NoSuchFieldException the no such field exception
+     * @throws IllegalAccessException the illegal access exception
+     */
+    static PersistenceFieldAccessor of(Class<?> clazz, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Map<String, PersistenceFieldAccessor> accessors = ACCESSORS.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        PersistenceFieldAccessor accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            accessor = new PersistenceFieldAccessor(getFieldFromClass(clazz, fieldName));
+            accessors.putIfAbsent(fieldName, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Gets the field.
+     *
+     * @return the field
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets the value of the field.
+     *
+     * @param pojo the pojo
+     * @return the value
+     */
+    Object get(Object pojo) {
+        try {
+            return getter.invokeExact(pojo);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param pojo the pojo
+     * @param value the value
+     * @throws IllegalArgumentException if the value is not assignable to the field
+     * @throws IllegalAccessException if the field cannot be written, as the components of a record
+     */
+    void set(Object pojo, Object value) throws IllegalAccessException {
+        if (value == null && field.getType()
+                                  .isPrimitive()) {
+            throw new IllegalArgumentException(
+                    format("Cannot set a null value to the primitive Field [{0}] of Class [{1}]", field.getName(), pojo.getClass()
+                                                                                                                   .getCanonicalName()));
+        }
+        if (Modifier.isFinal(field.getModifiers())) {
+            field.set(pojo, value);
+            return;
+        }
+        try {
+            getSetter().invokeExact(pojo, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(format("Cannot set a value of Class [{0}] to the Field [{1}] of type [{2}] of Class [{3}]",
+                    value.getClass()
+                         .getCanonicalName(),
+                    field.getName(), field.getType()
+                                          .getCanonicalName(),
+                    pojo.getClass()
+                        .getCanonicalName()),
+                    e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Gets the setter, resolving it on the first call.
+     *
+     * @return the setter
+     * @throws IllegalAccessException the illegal access exception
+     */
+    private MethodHandle getSetter() throws IllegalAccessException {
+        MethodHandle result = setter;
+        if (result == null) {
+            result = MethodHandles.lookup()
+                                  .unreflectSetter(field)
+                                  .asType(SETTER_TYPE);
+            setter = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the field from class.
+     *
+     * @param clazz the clazz
+     * @param fieldName the field name
+     * @return the field from class
+     * @throws NoSuchFieldException the no such field exception
+     */
+    private static Field getFieldFromClass(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+        for (Field next : PersistenceAnnotationsParser.collectFields(clazz)) {
+            if (next.getName()
+                    .equals(fieldName)) {
+                return next;
+            }
+        }
+        throw new NoSuchFieldException(format("There is no a Field named [{0}] in the POJO of Class [{1}]", fieldName, clazz.getCanonicalName()));
+    }
+
+}
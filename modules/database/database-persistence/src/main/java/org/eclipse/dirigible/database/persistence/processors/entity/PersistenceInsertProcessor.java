@@ -18,6 +18,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import jakarta.persistence.GenerationType;
 
@@ -44,6 +46,9 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(PersistenceInsertProcessor.class);
 
+    /** The Constant BATCH_SIZE. */
+    private static final int BATCH_SIZE = 1000;
+
     /**
      * Instantiates a new persistence insert processor.
      *
@@ -149,6 +154,81 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
         return result;
     }
 
+    /**
+     * Insert all the pojos in batches of a single prepared statement. The pojos with identity
+     * generated primary keys are inserted one by one, since not all the drivers return the keys
+     * generated for a batch.
+     *
+     * @param connection the connection
+     * @param tableModel the table model
+     * @param pojos the pojos
+     * @return the identifiers of the inserted pojos
+     * @throws PersistenceException the persistence exception
+     */
+    public List<Object> insertAll(Connection connection, PersistenceTableModel tableModel, List<T> pojos) throws PersistenceException {
+        if (logger.isTraceEnabled()) {
+            logger.trace("insertAll -> connection: " + connection.hashCode() + ", tableModel: "
+                    + Serializer.serializeTableModel(tableModel) + ", pojos: " + pojos.size());
+        }
+        List<Object> result = new ArrayList<>(pojos.size());
+        if (pojos.isEmpty()) {
+            return result;
+        }
+        if (isIdentityGenerated(tableModel)) {
+            for (T pojo : pojos) {
+                result.add(insert(connection, tableModel, pojo));
+            }
+            return result;
+        }
+        String sql = null;
+        PreparedStatement preparedStatement = null;
+        try {
+            sql = generateScript(connection, tableModel);
+            preparedStatement = openPreparedStatement(connection, sql);
+            int batched = 0;
+            for (T pojo : pojos) {
+                setGeneratedValues(connection, tableModel, pojo);
+                setValuesFromPojo(tableModel, pojo, preparedStatement);
+                preparedStatement.addBatch();
+                result.add(getPrimaryKeyValue(tableModel, pojo));
+                if (++batched == BATCH_SIZE) {
+                    preparedStatement.executeBatch();
+                    batched = 0;
+                }
+            }
+            if (batched > 0) {
+                preparedStatement.executeBatch();
+            }
+        } catch (Exception e) {
+            if (logger.isErrorEnabled()) {
+                logger.error(sql);
+            }
+            if (logger.isErrorEnabled()) {
+                logger.error(e.getMessage(), e);
+            }
+            throw new PersistenceException(sql, e);
+        } finally {
+            closePreparedStatement(preparedStatement);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the primary key is generated by an identity column.
+     *
+     * @param tableModel the table model
+     * @return true, if is identity generated
+     */
+    private boolean isIdentityGenerated(PersistenceTableModel tableModel) {
+        for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
+            if (columnModel.isPrimaryKey() && GenerationType.IDENTITY.name()
+                                                                     .equals(columnModel.getGenerated())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Sets the generated values.
      *
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.processors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+/**
+ * The Persistence Field Accessor Test.
+ */
+public class PersistenceFieldAccessorTest {
+
+    /**
+     * The values are written to the mutable fields.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void setMutableField() throws Exception {
+        Item item = new Item("a");
+        PersistenceFieldAccessor accessor = PersistenceFieldAccessor.of(Item.class, "count");
+        accessor.set(item, 5);
+        assertEquals(5, accessor.get(item));
+    }
+
+    /**
+     * The final fields are written reflectively.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void setFinalField() throws Exception {
+        Item item = new Item("a");
+        PersistenceFieldAccessor accessor = PersistenceFieldAccessor.of(Item.class, "name");
+        accessor.set(item, "b");
+        assertEquals("b", accessor.get(item));
+    }
+
+    /**
+     * A value of another type is rejected with an illegal argument exception.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void setWrongType() throws Exception {
+        Item item = new Item("a");
+        assertThrows(IllegalArgumentException.class, () -> PersistenceFieldAccessor.of(Item.class, "count")
+                                                                                   .set(item, "five"));
+        assertThrows(IllegalArgumentException.class, () -> PersistenceFieldAccessor.of(Item.class, "label")
+                                                                                   .set(item, 5));
+        assertThrows(IllegalArgumentException.class, () -> PersistenceFieldAccessor.of(Item.class, "count")
+                                                                                   .set(item, null));
+    }
+
+    /**
+     * The components of a record can be read, while writing them fails as with reflection.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void accessRecordComponent() throws Exception {
+        Point point = new Point(1, 2);
+        PersistenceFieldAccessor accessor = PersistenceFieldAccessor.of(Point.class, "x");
+        assertEquals(1, accessor.get(point));
+        assertThrows(IllegalAccessException.class, () -> accessor.set(point, 3));
+    }
+
+    /**
+     * The Class Item.
+     */
+    static class Item {
+
+        /** The name. */
+        private final String name;
+
+        /** The label. */
+        private String label;
+
+        /** The count. */
+        private int count;
+
+        /**
+         * Instantiates a new item.
+         *
+         * @param name the name
+         */
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The Record Point.
+     *
+     * @param x the x
+     * @param y the y
+     */
+    record Point(int x, int y) {
+    }
+
+}
@@ -65,6 +65,8 @@ public class PersistenceManagerTest extends AbstractPersistenceManagerTest {
             deletePojo(connection, persistenceManager);
             // delete one record by custom script
             deleteCustom(connection, persistenceManager);
+            // insert several records in a batch
+            insertAllPojos(connection, persistenceManager);
             // drop the table
             dropTableForPojo(connection, persistenceManager);
         } finally {
@@ -320,6 +322,33 @@ public class PersistenceManagerTest extends AbstractPersistenceManagerTest {
         assertNull(customer);
     }
 
+    /**
+     * Insert all pojos.
+     *
+     * @param connection the connection
+     * @param persistenceManager the persistence manager
+     */
+    private void insertAllPojos(Connection connection, PersistenceManager<Customer> persistenceManager) {
+        List<Customer> customers = new ArrayList<Customer>();
+        for (int i = 10; i < 13; i++) {
+            Customer customer = new Customer();
+            customer.setId(i);
+            customer.setFirstName("First" + i);
+            customer.setLastName("Last" + i);
+            customer.setAge(i);
+            customers.add(customer);
+        }
+        List<Object> ids = persistenceManager.insertAll(connection, customers);
+
+        assertEquals(3, ids.size());
+        assertEquals(10, ids.get(0));
+
+        Customer customer = persistenceManager.find(connection, Customer.class, 12);
+
+        assertEquals("First12", customer.getFirstName());
+        assertEquals("Last12", customer.getLastName());
+    }
+
     /**
      * Drop table for pojo.
      *
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.sql.dialects.h2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.junit.Test;
+
+/**
+ * The Class DataSourceDialectTest.
+ */
+public class DataSourceDialectTest {
+
+    /**
+     * The dialect is resolved by a connection only on the first call for a data source.
+     */
+    @Test
+    public void dialectIsCachedPerDataSource() {
+        AtomicInteger connections = new AtomicInteger();
+        DataSource dataSource = createDataSource(connections);
+
+        ISqlDialect first = SqlFactory.deriveDialect(dataSource);
+        ISqlDialect second = SqlFactory.deriveDialect(dataSource);
+
+        assertTrue(first instanceof H2SqlDialect);
+        assertSame(first, second);
+        assertEquals("SELECT * FROM CUSTOMERS", SqlFactory.getNative(dataSource)
+                                                          .select()
+                                                          .column("*")
+                                                          .from("CUSTOMERS")
+                                                          .build());
+        assertEquals(1, connections.get());
+    }
+
+    /**
+     * The dialect of another data source is resolved separately.
+     */
+    @Test
+    public void dialectIsResolvedForEachDataSource() {
+        AtomicInteger connections = new AtomicInteger();
+        SqlFactory.deriveDialect(createDataSource(connections));
+        SqlFactory.deriveDialect(createDataSource(connections));
+
+        assertEquals(2, connections.get());
+    }
+
+    /**
+     * The open connection is used to resolve the dialect, instead of opening a new one.
+     */
+    @Test
+    public void dialectIsResolvedByOpenConnection() {
+        AtomicInteger connections = new AtomicInteger();
+        DataSource dataSource = createDataSource(connections);
+
+        ISqlDialect dialect = SqlFactory.deriveDialect(dataSource, createConnection());
+
+        assertTrue(dialect instanceof H2SqlDialect);
+        assertSame(dialect, SqlFactory.deriveDialect(dataSource));
+        assertEquals(0, connections.get());
+    }
+
+    /**
+     * Creates a data source of an H2 database, which counts the opened connections.
+     *
+     * @param connections the connections counter
+     * @return the data source
+     */
+    private static DataSource createDataSource(AtomicInteger connections) {
+        return (DataSource) Proxy.newProxyInstance(DataSourceDialectTest.class.getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getConnection":
+                            connections.incrementAndGet();
+                            return createConnection();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Creates a connection to an H2 database.
+     *
+     * @return the connection
+     */
+    private static Connection createConnection() {
+        DatabaseMetaData metadata = (DatabaseMetaData) Proxy.newProxyInstance(DataSourceDialectTest.class.getClassLoader(),
+                new Class<?>[] {DatabaseMetaData.class}, (proxy, method, args) -> {
+                    if ("getDatabaseProductName".equals(method.getName())) {
+                        return "H2";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return (Connection) Proxy.newProxyInstance(DataSourceDialectTest.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMetaData":
+                            return metadata;
+                        case "close":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+}
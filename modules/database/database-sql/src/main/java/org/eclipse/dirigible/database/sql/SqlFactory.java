@@ -12,6 +12,9 @@ package org.eclipse.dirigible.database.sql;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
 import org.eclipse.dirigible.database.sql.builders.AlterBranchingBuilder;
 import org.eclipse.dirigible.database.sql.builders.CreateBranchingBuilder;
 import org.eclipse.dirigible.database.sql.builders.DropBranchingBuilder;
@@ -83,6 +86,16 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
         return new SqlFactory(deriveDialect(connection));
     }
 
+    /**
+     * Gets the native factory of a data source, which dialect is resolved only once per data source.
+     *
+     * @param dataSource the data source
+     * @return the native
+     */
+    public static SqlFactory getNative(DataSource dataSource) {
+        return new SqlFactory(deriveDialect(dataSource));
+    }
+
     /**
      * Instantiates a new sql factory.
      */
@@ -114,6 +127,36 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
 
     }
 
+    /**
+     * Derive dialect of a data source, which is resolved only once per data source.
+     *
+     * @param dataSource the data source
+     * @return the i sql dialect
+     */
+    public static ISqlDialect deriveDialect(DataSource dataSource) {
+        try {
+            return SqlDialectFactory.getDialect(dataSource);
+        } catch (SQLException e) {
+            throw new SqlException("Error on deriving the database dialect from the data source", e);
+        }
+    }
+
+    /**
+     * Derive dialect of a data source by an already opened connection of it, which is used only if the
+     * dialect of the data source is not resolved yet.
+     *
+     * @param dataSource the data source
+     * @param connection the connection of the data source
+     * @return the i sql dialect
+     */
+    public static ISqlDialect deriveDialect(DataSource dataSource, Connection connection) {
+        try {
+            return SqlDialectFactory.getDialect(dataSource, connection);
+        } catch (SQLException e) {
+            throw new SqlException("Error on deriving the database dialect from the data source", e);
+        }
+    }
+
     /**
      * Select.
      *
@@ -16,6 +16,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+import javax.sql.DataSource;
 
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.ISqlDialectProvider;
@@ -28,6 +31,9 @@ public class SqlDialectFactory {
     /** The Constant ACCESS_MANAGERS. */
     private static final ServiceLoader<ISqlDialectProvider> SQL_PROVIDERS = ServiceLoader.load(ISqlDialectProvider.class);
 
+    /** The dialects resolved per data source. */
+    private static final Map<DataSource, ISqlDialect> DATA_SOURCE_DIALECTS = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Gets the dialect.
      *
@@ -49,6 +55,41 @@ public class SqlDialectFactory {
         return dialect;
     }
 
+    /**
+     * Gets the dialect of a data source. The dialect is resolved from the database metadata only once
+     * per data source, since the database product behind it does not change.
+     *
+     * @param dataSource the data source
+     * @return the dialect
+     * @throws SQLException the SQL exception
+     */
+    public static final ISqlDialect getDialect(DataSource dataSource) throws SQLException {
+        ISqlDialect dialect = DATA_SOURCE_DIALECTS.get(dataSource);
+        if (dialect == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                dialect = getDialect(dataSource, connection);
+            }
+        }
+        return dialect;
+    }
+
+    /**
+     * Gets the dialect of a data source, resolving it by an already opened connection of the data
+     * source, if it is not known yet.
+     *
+     * @param dataSource the data source
+     * @param connection the connection of the data source
+     * @return the dialect
+     * @throws SQLException the SQL exception
+     */
+    public static final ISqlDialect getDialect(DataSource dataSource, Connection connection) throws SQLException {
+        ISqlDialect dialect = DATA_SOURCE_DIALECTS.get(dataSource);
+        if (dialect == null) {
+            dialect = getDialect(connection);
+            DATA_SOURCE_DIALECTS.put(dataSource, dialect);
+        }
+        return dialect;
+    }
 
 
     /** The Constant databaseTypeMappings. */
@@ -12,6 +12,7 @@ package org.eclipse.dirigible.graalium.core;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.function.Consumer;
@@ -153,6 +154,23 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
         return codeRunner.prepareSource(codeFilePath);
     }
 
+    /**
+     * Prepare the Source to be run as a new module, even if it has already been run by this runner.
+     *
+     * @param codeFilePath the code file path to use
+     * @return the source
+     */
+    public Source prepareIsolatedSource(Path codeFilePath) {
+        return codeRunner.prepareIsolatedSource(codeFilePath);
+    }
+
+    /**
+     * Releases the isolated sources, which have been prepared but not run.
+     */
+    public void releaseIsolatedSources() {
+        codeRunner.releaseIsolatedSources();
+    }
+
     /**
      * Run the given source.
      *
@@ -201,6 +219,16 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
         return onMessage.execute(args);
     }
 
+    /**
+     * Replaces the <code>__context</code> global object, e.g. when the runner is reused for another
+     * execution.
+     *
+     * @param context the parameters
+     */
+    public void setContextParameters(Map<Object, Object> context) {
+        codeRunner.addGlobalObjects(List.of(new DirigibleContextGlobalObject(context)));
+    }
+
     /**
      * Gets the code runner.
      *
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Bounded pool of warmed up {@link DirigibleJavascriptCodeRunner} instances, grouped by project.
+ *
+ * A borrowed runner is used exclusively by the borrowing thread until it is released back to the
+ * pool. The <code>__context</code> global object is replaced on every borrow and cleared on every
+ * release, so no request parameters leak between borrows. The entry modules should be prepared with
+ * {@link DirigibleJavascriptCodeRunner#prepareIsolatedSource(java.nio.file.Path)}, so that they are
+ * evaluated again on every borrow, while the imported modules stay loaded. Runners are evicted after
+ * DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_USES executions or DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_AGE
+ * seconds, and all runners of a project are discarded when the project is invalidated (e.g. on
+ * publish), since the already loaded modules would be stale otherwise.
+ */
+public class DirigibleJavascriptCodeRunnerPool {
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED. */
+    private static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_IDLE. */
+    private static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_IDLE = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_IDLE";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_USES. */
+    private static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_USES = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_USES";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_AGE. */
+    private static final String DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_AGE = "DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_AGE";
+
+    /** The instance. */
+    private static final DirigibleJavascriptCodeRunnerPool INSTANCE = new DirigibleJavascriptCodeRunnerPool();
+
+    /** The idle runners per project. */
+    private final Map<String, BlockingDeque<PooledCodeRunner>> idle = new ConcurrentHashMap<>();
+
+    /** The generations per project, incremented on invalidation. */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the pool instance.
+     *
+     * @return the pool
+     */
+    public static DirigibleJavascriptCodeRunnerPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks whether pooling is enabled.
+     *
+     * @return true, if enabled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED, Boolean.FALSE.toString()));
+    }
+
+    /**
+     * Borrows a runner for the given project, creating a new one if none is idle.
+     *
+     * @param projectName the project name
+     * @param parameters the parameters exposed as <code>__context</code>
+     * @param sourceProvider the source provider
+     * @return the pooled code runner
+     */
+    public PooledCodeRunner borrow(String projectName, Map<Object, Object> parameters, JavascriptSourceProvider sourceProvider) {
+        long generation = getGeneration(projectName).get();
+        BlockingDeque<PooledCodeRunner> runners = idle.get(projectName);
+        PooledCodeRunner pooled = runners != null ? runners.pollFirst() : null;
+        while (pooled != null && (pooled.getGeneration() != generation || pooled.isExpired())) {
+            pooled.getRunner()
+                  .close();
+            pooled = runners.pollFirst();
+        }
+        if (pooled == null) {
+            pooled = new PooledCodeRunner(projectName, generation, new DirigibleJavascriptCodeRunner(null, false, sourceProvider));
+        }
+        pooled.getRunner()
+              .setContextParameters(parameters);
+        pooled.incrementUses();
+        return pooled;
+    }
+
+    /**
+     * Releases a borrowed runner back to the pool. Unhealthy, expired or stale runners are closed.
+     *
+     * @param pooled the pooled code runner
+     * @param healthy whether the last execution completed without errors
+     */
+    public void release(PooledCodeRunner pooled, boolean healthy) {
+        if (!healthy || pooled.isExpired() || pooled.getGeneration() != getGeneration(pooled.getProjectName()).get()) {
+            pooled.getRunner()
+                  .close();
+            return;
+        }
+        pooled.getRunner()
+              .setContextParameters(null);
+        pooled.getRunner()
+              .releaseIsolatedSources();
+        BlockingDeque<PooledCodeRunner> runners =
+                idle.computeIfAbsent(pooled.getProjectName(), k -> new LinkedBlockingDeque<>(getMaxIdle()));
+        if (!runners.offerFirst(pooled)) {
+            pooled.getRunner()
+                  .close();
+        }
+    }
+
+    /**
+     * Invalidates all the runners of the given project.
+     *
+     * @param projectName the project name
+     */
+    public void invalidate(String projectName) {
+        getGeneration(projectName).incrementAndGet();
+        BlockingDeque<PooledCodeRunner> runners = idle.remove(projectName);
+        if (runners != null) {
+            runners.forEach(pooled -> pooled.getRunner()
+                                            .close());
+        }
+    }
+
+    /**
+     * Invalidates all the runners.
+     */
+    public void invalidateAll() {
+        generations.keySet()
+                   .forEach(this::invalidate);
+    }
+
+    /**
+     * Gets the generation.
+     *
+     * @param projectName the project name
+     * @return the generation
+     */
+    private AtomicLong getGeneration(String projectName) {
+        return generations.computeIfAbsent(projectName, k -> new AtomicLong());
+    }
+
+    /**
+     * Gets the max idle runners per project.
+     *
+     * @return the max idle
+     */
+    private static int getMaxIdle() {
+        return Configuration.getAsInt(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_IDLE, 8);
+    }
+
+    /**
+     * The Class PooledCodeRunner.
+     */
+    public static class PooledCodeRunner {
+
+        /** The project name. */
+        private final String projectName;
+
+        /** The generation. */
+        private final long generation;
+
+        /** The runner. */
+        private final DirigibleJavascriptCodeRunner runner;
+
+        /** The created at. */
+        private final long createdAt = System.currentTimeMillis();
+
+        /** The uses. */
+        private int uses;
+
+        /**
+         * Instantiates a new pooled code runner.
+         *
+         * @param projectName the project name
+         * @param generation the generation
+         * @param runner the runner
+         */
+        PooledCodeRunner(String projectName, long generation, DirigibleJavascriptCodeRunner runner) {
+            this.projectName = projectName;
+            this.generation = generation;
+            this.runner = runner;
+        }
+
+        /**
+         * Gets the project name.
+         *
+         * @return the project name
+         */
+        public String getProjectName() {
+            return projectName;
+        }
+
+        /**
+         * Gets the generation.
+         *
+         * @return the generation
+         */
+        long getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Gets the runner.
+         *
+         * @return the runner
+         */
+        public DirigibleJavascriptCodeRunner getRunner() {
+            return runner;
+        }
+
+        /**
+         * Increment uses.
+         */
+        void incrementUses() {
+            uses++;
+        }
+
+        /**
+         * Checks if is expired.
+         *
+         * @return true, if is expired
+         */
+        boolean isExpired() {
+            int maxUses = Configuration.getAsInt(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_USES, 1000);
+            long maxAge = Configuration.getAsInt(DIRIGIBLE_GRAALIUM_CONTEXT_POOL_MAX_AGE, 600) * 1000L;
+            return uses >= maxUses || System.currentTimeMillis() - createdAt > maxAge;
+        }
+    }
+
+}
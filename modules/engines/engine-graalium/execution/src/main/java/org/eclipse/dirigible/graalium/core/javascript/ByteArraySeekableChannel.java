@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A read only channel over the cached content of a file.
+ */
+class ByteArraySeekableChannel implements SeekableByteChannel {
+
+    /** The content. */
+    private final byte[] content;
+
+    /** The position. */
+    private long position;
+
+    /** The open. */
+    private boolean open = true;
+
+    /**
+     * Instantiates a new byte array seekable channel.
+     *
+     * @param content the content
+     */
+    ByteArraySeekableChannel(byte[] content) {
+        this.content = content;
+    }
+
+    /**
+     * Read.
+     *
+     * @param dst the dst
+     * @return the count of read bytes, or -1 at the end of the content
+     * @throws ClosedChannelException the closed channel exception
+     */
+    @Override
+    public int read(ByteBuffer dst) throws ClosedChannelException {
+        ensureOpen();
+        if (position >= content.length) {
+            return -1;
+        }
+        int count = (int) Math.min(dst.remaining(), content.length - position);
+        dst.put(content, (int) position, count);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Not supported by a read only channel.
+     *
+     * @param src the src
+     * @return nothing
+     */
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * Position.
+     *
+     * @return the position
+     * @throws ClosedChannelException the closed channel exception
+     */
+    @Override
+    public long position() throws ClosedChannelException {
+        ensureOpen();
+        return position;
+    }
+
+    /**
+     * Position.
+     *
+     * @param newPosition the new position
+     * @return the seekable byte channel
+     * @throws ClosedChannelException the closed channel exception
+     */
+    @Override
+    public SeekableByteChannel position(long newPosition) throws ClosedChannelException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+        }
+        position = newPosition;
+        return this;
+    }
+
+    /**
+     * Size.
+     *
+     * @return the size
+     * @throws ClosedChannelException the closed channel exception
+     */
+    @Override
+    public long size() throws ClosedChannelException {
+        ensureOpen();
+        return content.length;
+    }
+
+    /**
+     * Not supported by a read only channel.
+     *
+     * @param size the size
+     * @return nothing
+     */
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * Checks if is open.
+     *
+     * @return true, if is open
+     */
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Close.
+     */
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    /**
+     * Ensure open.
+     *
+     * @throws ClosedChannelException the closed channel exception
+     */
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+}
@@ -58,6 +58,17 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
      */
     private final GraalJSInterceptor graalJSInterceptor;
 
+    /**
+     * The graal JS file system.
+     */
+    private final GraalJSFileSystem graalJSFileSystem;
+
+    /**
+     * The sequence of the isolated evaluations. It is never restarted, since the context keeps the
+     * modules evaluated under the previous alias paths.
+     */
+    private long isolatedEvaluations;
+
     /**
      * Instantiates a new graal JS code runner.
      *
@@ -72,7 +83,7 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
         Engine graalEngine = builder.waitForDebugger ? EngineCreator.getOrCreateDebuggableEngine() : EngineCreator.getOrCreateEngine();
         DownloadableModuleResolver downloadableModuleResolver = new DownloadableModuleResolver(builder.dependenciesCachePath);
 
-        GraalJSFileSystem graalJSFileSystem = new GraalJSFileSystem(currentWorkingDirectoryPath, builder.moduleResolvers,
+        graalJSFileSystem = new GraalJSFileSystem(currentWorkingDirectoryPath, builder.moduleResolvers,
                 downloadableModuleResolver, builder.onRealPathNotFound, builder.delegateFileSystem);
 
         graalJSSourceCreator = new GraalJSSourceCreator(builder.jsModuleType);
@@ -138,6 +149,29 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
         return graalJSSourceCreator.createSource(relativeCodeFilePath);
     }
 
+    /**
+     * Prepares a source, which is evaluated as a new module even if the same file has already been
+     * evaluated in this context, e.g. when the context is reused for another request. The module is
+     * identified by a sibling alias path, hence the relative imports are resolved as usual. The alias
+     * is removed once the source is run.
+     *
+     * @param codeFilePath the code file path
+     * @return the source
+     */
+    public Source prepareIsolatedSource(Path codeFilePath) {
+        Path realCodeFilePath = currentWorkingDirectoryPath.resolve(codeFilePath);
+        long evaluation = ++isolatedEvaluations;
+        String fileName = realCodeFilePath.getFileName()
+                                          .toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String aliasFileName = extensionIndex > 0
+                ? fileName.substring(0, extensionIndex) + "~" + evaluation + fileName.substring(extensionIndex)
+                : fileName + "~" + evaluation;
+        Path aliasCodeFilePath = realCodeFilePath.resolveSibling(aliasFileName);
+        graalJSFileSystem.addAlias(aliasCodeFilePath, realCodeFilePath);
+        return graalJSSourceCreator.createSource(realCodeFilePath, aliasCodeFilePath);
+    }
+
     /**
      * Run.
      *
@@ -146,9 +180,23 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
      */
     @Override
     public Value run(Source codeSource) {
-        Value result = graalContext.eval(codeSource);
-        rethrowIfError(result);
-        return result;
+        try {
+            Value result = graalContext.eval(codeSource);
+            rethrowIfError(result);
+            return result;
+        } finally {
+            if (codeSource.getPath() != null) {
+                graalJSFileSystem.removeAlias(Path.of(codeSource.getPath()));
+            }
+        }
+    }
+
+    /**
+     * Removes the alias paths of the isolated sources, which have been prepared but not run, e.g.
+     * before the runner is returned to a pool.
+     */
+    public void releaseIsolatedSources() {
+        graalJSFileSystem.clearAliases();
     }
 
     /**
@@ -21,6 +21,7 @@ import java.nio.file.*;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -52,6 +53,11 @@ public class GraalJSFileSystem implements FileSystem {
     private final DownloadableModuleResolver downloadableModuleResolver;
     private final Function<Path, Path> onRealPathNotFound;
 
+    /**
+     * The aliases, mapping unique module paths to the files they are read from.
+     */
+    private final Map<Path, Path> aliases = new ConcurrentHashMap<>();
+
     /**
      * Instantiates a new graal JS file system.
      *
@@ -71,6 +77,42 @@ public class GraalJSFileSystem implements FileSystem {
         this.delegateFileSystemProvider = delegateFileSystem.provider();
     }
 
+    /**
+     * Adds an alias path, which is read from the target file, but has its own identity as a module.
+     *
+     * @param alias the alias
+     * @param target the target
+     */
+    public void addAlias(Path alias, Path target) {
+        aliases.put(alias, target);
+    }
+
+    /**
+     * Removes an alias path, e.g. once the module identified by it has been evaluated.
+     *
+     * @param alias the alias
+     */
+    public void removeAlias(Path alias) {
+        aliases.remove(alias);
+    }
+
+    /**
+     * Removes all the alias paths.
+     */
+    public void clearAliases() {
+        aliases.clear();
+    }
+
+    /**
+     * Resolve alias.
+     *
+     * @param path the path
+     * @return the target path if the given one is an alias, otherwise the path itself
+     */
+    private Path resolveAlias(Path path) {
+        return aliases.getOrDefault(path, path);
+    }
+
     /**
      * Parses the path.
      *
@@ -124,6 +166,10 @@ public class GraalJSFileSystem implements FileSystem {
      */
     @Override
     public Path toRealPath(Path path, LinkOption... linkOptions) throws IOException {
+        if (aliases.containsKey(path)) {
+            return path;
+        }
+
         if (path.isAbsolute() && !path.startsWith(currentWorkingDirectoryPath)) {
             path = currentWorkingDirectoryPath.resolve(path.toString()
                                                            .substring(1));
@@ -170,7 +216,31 @@ public class GraalJSFileSystem implements FileSystem {
      */
     @Override
     public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options, FileAttribute<?>... attrs) throws IOException {
-        return delegateFileSystemProvider.newByteChannel(path, options, attrs);
+        Path realPath = resolveAlias(path);
+        if (isCachedModule(realPath, options)) {
+            return new ByteArraySeekableChannel(GraalJSSourceCache.get()
+                                                                  .getContent(realPath));
+        }
+        return delegateFileSystemProvider.newByteChannel(realPath, options, attrs);
+    }
+
+    /**
+     * Checks whether the path is a module of the default file system opened for reading, which is
+     * read through the shared source cache.
+     *
+     * @param path the path
+     * @param options the options
+     * @return true, if is a cached module
+     */
+    private static boolean isCachedModule(Path path, Set<? extends OpenOption> options) {
+        if (path.getFileSystem() != FileSystems.getDefault() || !(options.isEmpty() || Set.of(StandardOpenOption.READ)
+                                                                                          .containsAll(options))) {
+            return false;
+        }
+        String fileName = path.toString();
+        return SUPPORTED_IMPORT_FROM_EXTENSIONS.stream()
+                                               .anyMatch(fileName::endsWith)
+                && Files.isRegularFile(path);
     }
 
     /**
@@ -184,9 +254,9 @@ public class GraalJSFileSystem implements FileSystem {
     @Override
     public void checkAccess(Path path, Set<? extends AccessMode> modes, LinkOption... linkOptions) throws IOException {
         if (isFollowLinks(linkOptions)) {
-            delegateFileSystemProvider.checkAccess(path, modes.toArray(new AccessMode[0]));
+            delegateFileSystemProvider.checkAccess(resolveAlias(path), modes.toArray(new AccessMode[0]));
         } else if (modes.isEmpty()) {
-            delegateFileSystemProvider.readAttributes(path, "isRegularFile", LinkOption.NOFOLLOW_LINKS);
+            delegateFileSystemProvider.readAttributes(resolveAlias(path), "isRegularFile", LinkOption.NOFOLLOW_LINKS);
         } else {
             throw new UnsupportedOperationException(
                     "CheckAccess for NIO Provider is unsupported with non empty AccessMode and NOFOLLOW_LINKS.");
@@ -303,7 +373,7 @@ public class GraalJSFileSystem implements FileSystem {
      */
     @Override
     public Map<String, Object> readAttributes(Path path, String attributes, LinkOption... options) throws IOException {
-        return delegateFileSystemProvider.readAttributes(path, attributes, options);
+        return delegateFileSystemProvider.readAttributes(resolveAlias(path), attributes, options);
     }
 
     /**
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.eclipse.dirigible.graalium.core.graal.configuration.Configuration;
+import org.graalvm.polyglot.Source;
+
+/**
+ * Content addressed cache of the {@link Source} objects shared across all the contexts.
+ *
+ * The cached sources are created with caching enabled, so that the shared engine reuses the
+ * already parsed and compiled code for them. The files are keyed by their real path, so that the
+ * symbolic links to a file share its entry, and validated against their size and modification
+ * time, so that an unchanged file is not read again, while a modified one is reloaded. The content
+ * of the files is cached as well, so that the modules imported by the sources are read through the
+ * cache too. The internal sources are keyed by name and validated against the checksum of their
+ * content.
+ */
+public class GraalJSSourceCache {
+
+    /** The Constant DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE. */
+    private static final String DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE = "DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE";
+
+    /** The instance. */
+    private static final GraalJSSourceCache INSTANCE = new GraalJSSourceCache();
+
+    /** The cached sources by real path or name. */
+    private final Map<String, CachedSource> sources;
+
+    /** The hits. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The misses. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new graal JS source cache.
+     */
+    private GraalJSSourceCache() {
+        int maxSize = Integer.parseInt(Configuration.get(DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE, "1000"));
+        sources = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSource> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Gets the cache instance.
+     *
+     * @return the graal JS source cache
+     */
+    public static GraalJSSourceCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the cached source for the given name and content, or creates and caches a new one.
+     *
+     * @param name the name
+     * @param content the current content
+     * @param sourceCreator the source creator invoked on miss
+     * @return the source
+     */
+    public Source getOrCreate(String name, byte[] content, Supplier<Source> sourceCreator) {
+        String checksum = checksum(content);
+        CachedSource cached = sources.get(name);
+        if (cached != null && cached.checksum()
+                                    .equals(checksum)) {
+            hits.incrementAndGet();
+            return cached.source();
+        }
+        misses.incrementAndGet();
+        Source source = sourceCreator.get();
+        sources.put(name, new CachedSource(checksum, content.length, -1, null, source, null));
+        return source;
+    }
+
+    /**
+     * Gets the cached source of the given file, or creates and caches a new one. The source is
+     * identified by the given path, hence a source created for another link to the same file is
+     * replaced, while the cached content is reused.
+     *
+     * @param file the path of the file
+     * @param sourceCreator the source creator invoked with the content of the file on miss
+     * @return the source
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public Source getOrCreate(Path file, Function<byte[], Source> sourceCreator) throws IOException {
+        String key = getKey(file);
+        CachedSource cached = load(key, file);
+        if (cached.source() != null && file.equals(cached.sourcePath())) {
+            return cached.source();
+        }
+        Source source = sourceCreator.apply(cached.content());
+        sources.put(key, new CachedSource(cached.checksum(), cached.size(), cached.lastModified(), cached.content(), source, file));
+        return source;
+    }
+
+    /**
+     * Gets the cached content of the given file, or reads and caches it.
+     *
+     * @param file the path of the file
+     * @return the content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public byte[] getContent(Path file) throws IOException {
+        return load(getKey(file), file).content();
+    }
+
+    /**
+     * Gets the key of a file, which is its real path.
+     *
+     * @param file the file
+     * @return the key
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static String getKey(Path file) throws IOException {
+        return file.toRealPath()
+                   .toString();
+    }
+
+    /**
+     * Gets the cached file, or reads it, if it has been modified since it was cached. The source of an
+     * entry is kept, if the content is the same.
+     *
+     * @param key the key of the file
+     * @param file the file
+     * @return the cached source
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private CachedSource load(String key, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime()
+                                      .toMillis();
+        CachedSource cached = sources.get(key);
+        if (cached != null && cached.content() != null && cached.size() == size && cached.lastModified() == lastModified) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        byte[] content = Files.readAllBytes(file);
+        String checksum = checksum(content);
+        boolean unchanged = cached != null && cached.checksum()
+                                                    .equals(checksum);
+        cached = new CachedSource(checksum, size, lastModified, content, unchanged ? cached.source() : null,
+                unchanged ? cached.sourcePath() : null);
+        sources.put(key, cached);
+        return cached;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        sources.clear();
+    }
+
+    /**
+     * Gets the hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the misses.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return sources.size();
+    }
+
+    /**
+     * Checksum.
+     *
+     * @param content the content
+     * @return the string
+     */
+    private static String checksum(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                            .formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cached source.
+     *
+     * @param checksum the checksum
+     * @param size the size of the file
+     * @param lastModified the last modified time of the file, or -1 for an internal source
+     * @param content the content of the file, or null for an internal source
+     * @param source the source, or null if only the content has been requested
+     * @param sourcePath the path identifying the source of a file, or null
+     */
+    private record CachedSource(String checksum, long size, long lastModified, byte[] content, Source source, Path sourcePath) {
+    }
+
+}
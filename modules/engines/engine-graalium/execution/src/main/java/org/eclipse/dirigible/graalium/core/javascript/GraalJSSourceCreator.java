@@ -10,7 +10,6 @@
  */
 package org.eclipse.dirigible.graalium.core.javascript;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -22,6 +21,9 @@ import org.graalvm.polyglot.Source;
  */
 public class GraalJSSourceCreator {
 
+    /** The prefix of the cache keys of the internal sources. */
+    private static final String INTERNAL_SOURCE_PREFIX = "internal:";
+
     /** The js module type. */
     private final ModuleType jsModuleType;
 
@@ -54,9 +56,11 @@ public class GraalJSSourceCreator {
      * @return the source
      */
     public Source createInternalSource(String source, String fileName) {
-        Source.Builder sourceBuilder = Source.newBuilder("js", source, fileName)
-                                             .internal(true);
-        return createSource(sourceBuilder);
+        return GraalJSSourceCache.get()
+                                 .getOrCreate(INTERNAL_SOURCE_PREFIX + fileName, source.getBytes(StandardCharsets.UTF_8),
+                                         () -> createSource(Source.newBuilder("js", source, fileName)
+                                                                  .internal(true),
+                                                 true));
     }
 
     /**
@@ -76,9 +80,42 @@ public class GraalJSSourceCreator {
      * @return the source
      */
     public Source createSource(Path sourceFilePath) {
-        File codeFile = sourceFilePath.toFile();
-        Source.Builder sourceBuilder = Source.newBuilder("js", codeFile);
-        return createSource(sourceBuilder);
+        return createSource(sourceFilePath, sourceFilePath);
+    }
+
+    /**
+     * Creates the source with the content of the given file, but identified by another path. The
+     * content is read through the shared cache, which is keyed by the real path of the file. The
+     * source itself is taken from the cache only if it is identified by the file path, since a source
+     * identified by an alias path is evaluated once.
+     *
+     * @param sourceFilePath the source file path
+     * @param modulePath the path identifying the module
+     * @return the source
+     */
+    public Source createSource(Path sourceFilePath, Path modulePath) {
+        GraalJSSourceCache cache = GraalJSSourceCache.get();
+        try {
+            if (sourceFilePath.equals(modulePath)) {
+                return cache.getOrCreate(sourceFilePath, content -> createSource(modulePath, content));
+            }
+            return createSource(modulePath, cache.getContent(sourceFilePath));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates the source with the given content, identified by the module path.
+     *
+     * @param modulePath the module path
+     * @param content the content
+     * @return the source
+     */
+    private Source createSource(Path modulePath, byte[] content) {
+        return createSource(Source.newBuilder("js", modulePath.toFile())
+                                  .content(new String(content, StandardCharsets.UTF_8)),
+                true);
     }
 
     /**
@@ -88,12 +125,23 @@ public class GraalJSSourceCreator {
      * @return the source
      */
     private Source createSource(Source.Builder sourceBuilder) {
+        return createSource(sourceBuilder, false);
+    }
+
+    /**
+     * Creates the source.
+     *
+     * @param sourceBuilder the source builder
+     * @param cached whether the engine should cache the parsed code
+     * @return the source
+     */
+    private Source createSource(Source.Builder sourceBuilder, boolean cached) {
         try {
             // if (ModuleType.ESM.equals(jsModuleType)) {
             // }
             sourceBuilder.mimeType("application/javascript+module");
 
-            return sourceBuilder.cached(false)
+            return sourceBuilder.cached(cached)
                                 .encoding(StandardCharsets.UTF_8)
                                 .build();
         } catch (IOException e) {
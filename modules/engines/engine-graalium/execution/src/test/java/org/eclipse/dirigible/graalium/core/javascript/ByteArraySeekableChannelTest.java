@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * The Class ByteArraySeekableChannelTest.
+ */
+public class ByteArraySeekableChannelTest {
+
+    /** The Constant CONTENT. */
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The content is read in parts of the buffer size, until the end.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testRead() throws IOException {
+        try (ByteArraySeekableChannel channel = new ByteArraySeekableChannel(CONTENT)) {
+            ByteBuffer buffer = ByteBuffer.allocate(4);
+
+            assertEquals(4, channel.read(buffer));
+            assertEquals("0123", toString(buffer));
+            assertEquals(4, channel.position());
+
+            buffer.clear();
+            assertEquals(4, channel.read(buffer));
+            buffer.clear();
+            assertEquals(2, channel.read(buffer));
+            assertEquals("89", toString(buffer));
+            assertEquals(10, channel.position());
+
+            buffer.clear();
+            assertEquals(-1, channel.read(buffer));
+            assertEquals(10, channel.size());
+        }
+    }
+
+    /**
+     * The position moves the next read, also beyond the end of the content.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testPosition() throws IOException {
+        try (ByteArraySeekableChannel channel = new ByteArraySeekableChannel(CONTENT)) {
+            ByteBuffer buffer = ByteBuffer.allocate(3);
+
+            assertEquals(channel, channel.position(7));
+            assertEquals(3, channel.read(buffer));
+            assertEquals("789", toString(buffer));
+
+            channel.position(2);
+            buffer.clear();
+            channel.read(buffer);
+            assertEquals("234", toString(buffer));
+
+            channel.position(20);
+            buffer.clear();
+            assertEquals(-1, channel.read(buffer));
+            assertEquals(20, channel.position());
+
+            assertThrows(IllegalArgumentException.class, () -> channel.position(-1));
+        }
+    }
+
+    /**
+     * The channel is read only.
+     */
+    @Test
+    public void testReadOnly() {
+        ByteArraySeekableChannel channel = new ByteArraySeekableChannel(CONTENT);
+
+        assertThrows(NonWritableChannelException.class, () -> channel.truncate(5));
+        assertThrows(NonWritableChannelException.class, () -> channel.write(ByteBuffer.wrap(CONTENT)));
+    }
+
+    /**
+     * A closed channel cannot be used anymore.
+     */
+    @Test
+    public void testClosed() {
+        ByteArraySeekableChannel channel = new ByteArraySeekableChannel(CONTENT);
+        channel.close();
+
+        assertFalse(channel.isOpen());
+        assertThrows(ClosedChannelException.class, () -> channel.read(ByteBuffer.allocate(1)));
+        assertThrows(ClosedChannelException.class, channel::position);
+        assertThrows(ClosedChannelException.class, channel::size);
+    }
+
+    /**
+     * Gets the read content of a buffer.
+     *
+     * @param buffer the buffer
+     * @return the string
+     */
+    private static String toString(ByteBuffer buffer) {
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.graalvm.polyglot.Source;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The Class GraalJSSourceCacheTest.
+ */
+public class GraalJSSourceCacheTest {
+
+    /** The folder. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The cache. */
+    private final GraalJSSourceCache cache = GraalJSSourceCache.get();
+
+    /** The count of the created sources. */
+    private final AtomicInteger created = new AtomicInteger();
+
+    /**
+     * Clears the shared cache.
+     */
+    @Before
+    public void setUp() {
+        cache.clear();
+    }
+
+    /**
+     * An unchanged file is served from the cache.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testUnchangedFileIsCached() throws IOException {
+        Path file = write("module.js", "let a = 1;");
+
+        Source first = cache.getOrCreate(file, this::createSource);
+        long misses = cache.getMisses();
+        Source second = cache.getOrCreate(file, this::createSource);
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(misses, cache.getMisses());
+    }
+
+    /**
+     * A changed file is read again, even if its size is the same, and its source is created again.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testChangedFileIsNotCached() throws IOException {
+        Path file = write("module.js", "let a = 1;");
+        Source first = cache.getOrCreate(file, this::createSource);
+
+        Files.writeString(file, "let a = 2;");
+        touch(file);
+
+        Source second = cache.getOrCreate(file, this::createSource);
+        assertNotSame(first, second);
+        assertEquals(2, created.get());
+        assertEquals("let a = 2;", second.getCharacters()
+                                         .toString());
+        assertArrayEquals("let a = 2;".getBytes(StandardCharsets.UTF_8), cache.getContent(file));
+    }
+
+    /**
+     * A file touched without a change of its content keeps its source.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testTouchedFileKeepsSource() throws IOException {
+        Path file = write("module.js", "let a = 1;");
+        Source first = cache.getOrCreate(file, this::createSource);
+
+        touch(file);
+
+        assertSame(first, cache.getOrCreate(file, this::createSource));
+        assertEquals(1, created.get());
+    }
+
+    /**
+     * A symbolic link to a file shares the entry of the file.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testSymbolicLinkSharesEntry() throws IOException {
+        Path file = write("module.js", "let a = 1;");
+        Path link = folder.getRoot()
+                          .toPath()
+                          .resolve("link.js");
+        try {
+            Files.createSymbolicLink(link, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Assume.assumeNoException("Symbolic links are not supported", e);
+        }
+
+        byte[] content = cache.getContent(file);
+        long misses = cache.getMisses();
+
+        assertSame(content, cache.getContent(link));
+        assertEquals(misses, cache.getMisses());
+        assertEquals(1, cache.getSize());
+    }
+
+    /**
+     * An alias of a module is read from the entry of its target file.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testAliasSharesEntry() throws IOException {
+        Path file = write("module.js", "let a = 1;");
+        Path alias = folder.getRoot()
+                           .toPath()
+                           .resolve("module$1.js");
+        GraalJSFileSystem fileSystem = new GraalJSFileSystem(folder.getRoot()
+                                                                   .toPath(),
+                List.of(), null, null, FileSystems.getDefault());
+        fileSystem.addAlias(alias, file);
+
+        byte[] content = cache.getContent(file);
+        try (SeekableByteChannel channel = fileSystem.newByteChannel(alias, Set.of())) {
+            assertTrue(channel instanceof ByteArraySeekableChannel);
+            assertEquals(content.length, channel.size());
+        }
+        assertEquals(1, cache.getSize());
+    }
+
+    /**
+     * Writes a file.
+     *
+     * @param name the name
+     * @param content the content
+     * @return the path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Path write(String name, String content) throws IOException {
+        Path file = folder.getRoot()
+                          .toPath()
+                          .resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    /**
+     * Moves the modification time of a file forward.
+     *
+     * @param file the file
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void touch(Path file) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 2000));
+    }
+
+    /**
+     * Creates a source, counting the creations.
+     *
+     * @param content the content
+     * @return the source
+     */
+    private Source createSource(byte[] content) {
+        created.incrementAndGet();
+        return Source.create("js", new String(content, StandardCharsets.UTF_8));
+    }
+
+}
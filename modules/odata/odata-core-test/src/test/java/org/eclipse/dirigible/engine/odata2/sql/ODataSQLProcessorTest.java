@@ -153,6 +153,47 @@ public class ODataSQLProcessorTest extends AbstractSQLProcessorTest {
         assertEquals(2, elements.size());
     }
 
+    /**
+     * Test the feed without $expand, which is written while the result set is read.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testStreamedFeed() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf) //
+                                                .segments("Cars") //
+                                                .param("$top", "10") //
+                                                .param("$inlinecount", "allpages") //
+                                                .accept("application/json")//
+                                                .executeRequest(GET);
+
+        assertEquals(200, response.getStatus());
+
+        String content = IOUtils.toString((InputStream) response.getEntity());
+        Map jobj = new Gson().fromJson(content, Map.class);
+        assertEquals("7", ((Map) jobj.get("d")).get("__count"));
+        List elements = (List) ((Map) jobj.get("d")).get("results");
+        assertEquals(7, elements.size());
+        Set<Object> ids = new HashSet<>();
+        for (Object element : elements) {
+            assertNotNull(((Map) element).get("Make"));
+            ids.add(((Map) element).get("Id"));
+        }
+        assertEquals(7, ids.size());
+
+        Response atomResponse = OData2RequestBuilder.createRequest(sf) //
+                                                    .segments("Cars") //
+                                                    .param("$top", "10") //
+                                                    .accept("application/atom+xml")//
+                                                    .executeRequest(GET);
+
+        assertEquals(200, atomResponse.getStatus());
+        ODataFeed feed = retrieveODataFeed(atomResponse, "Cars");
+        assertEquals(7, feed.getEntries()
+                            .size());
+    }
+
     /**
      * Test count.
      *
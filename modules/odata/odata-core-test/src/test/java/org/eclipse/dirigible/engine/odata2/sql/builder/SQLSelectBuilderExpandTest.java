@@ -31,6 +31,7 @@ import java.util.Map;
 
 import static java.util.Collections.EMPTY_MAP;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * The Class SQLSelectBuilderExpandTest.
@@ -91,6 +92,31 @@ public class SQLSelectBuilderExpandTest {
         assertEquals(expected, q.buildSelect(context));
     }
 
+    /**
+     * Test expand one to many association with leading entities subquery.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExpandOneToManyAssociationWithLeadingEntitiesSubquery() throws Exception {
+        Map<String, String> params = new HashMap<>();
+        params.put("$expand", "Entity2");
+        params.put("$top", "10");
+        PathSegment ps1 = new ODataPathSegmentImpl("Entities1", EMPTY_MAP);
+        UriInfo uriInfo = uriParser.parse(Collections.singletonList(ps1), params);
+
+        SQLSelectBuilder leadingEntitiesQuery = builder.buildSelectEntitySetIdsForTopAndExpandQuery(uriInfo, null);
+        SQLSelectBuilder q = builder.buildSelectEntitySetWithLeadingEntitiesQuery(uriInfo, leadingEntitiesQuery, null);
+        SQLContext context = new SQLContext();
+        String sql = q.buildSelect(context);
+        assertTrue(sql, sql.startsWith("SELECT T0.MESSAGEGUID AS \"MESSAGEGUID_T0\""));
+        assertTrue(sql, sql.contains("LEFT JOIN ITOP_MPLUSERDEFINEDATTRIBUTE AS T1 ON T1.HEADER_ID = T0.ID"));
+        assertTrue(sql, sql.contains("WHERE T0.MESSAGEGUID IN (SELECT LEADING_IDS.\"MESSAGEGUID_T0\" FROM (SELECT "));
+        assertTrue(sql, sql.contains("FETCH FIRST 10 ROWS ONLY) AS LEADING_IDS)"));
+        assertTrue(sql, sql.endsWith("ORDER BY T0.MESSAGEGUID ASC"));
+    }
+
     /**
      * Test expand one to many association with composed key.
      *
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.odata2.sql.processor;
+
+import org.apache.olingo.odata2.api.edm.EdmEntityType;
+import org.apache.olingo.odata2.api.edm.EdmProperty;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.eclipse.dirigible.engine.odata2.sql.builder.SQLSelectBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The Class ResultSetFeedTest.
+ */
+public class ResultSetFeedTest {
+
+    /** The rows, more than the fetch size. */
+    private static final int ROWS = 500;
+
+    /** The fetch size. */
+    private static final int FETCH_SIZE = 10;
+
+    /** The connection. */
+    private Connection connection;
+
+    /** The entity type. */
+    private EdmEntityType entityType;
+
+    /** The query. */
+    private SQLSelectBuilder query;
+
+    /** The result set reader, which reads the ID and the NAME of a row. */
+    private ResultSetReader resultSetReader;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:ResultSetFeedTest");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE FEED (ID INT PRIMARY KEY, NAME VARCHAR(32))");
+            // every entity is spread over two consecutive rows, as when it is joined
+            statement.execute("INSERT INTO FEED SELECT X, 'Entity ' || (X / 2) FROM SYSTEM_RANGE(0, " + (ROWS * 2 - 1) + ")");
+        }
+
+        EdmProperty keyProperty = Mockito.mock(EdmProperty.class);
+        Mockito.when(keyProperty.getName())
+               .thenReturn("NAME");
+        entityType = Mockito.mock(EdmEntityType.class);
+        Mockito.when(entityType.getKeyProperties())
+               .thenReturn(Collections.singletonList(keyProperty));
+        query = Mockito.mock(SQLSelectBuilder.class);
+        Mockito.when(query.hasKeyGeneratedPresent(entityType))
+               .thenReturn(false);
+
+        resultSetReader = new ResultSetReader(null) {
+            @Override
+            protected ResultSetEntity getResultSetEntity(SQLSelectBuilder selectEntityQuery, EdmEntityType type,
+                    Collection<EdmProperty> properties, ResultSet resultSet, boolean hasGeneratedId) throws SQLException, ODataException {
+                Map<String, Object> data = new HashMap<>();
+                data.put("NAME", resultSet.getString("NAME"));
+                return new ResultSetEntity(type, data);
+            }
+        };
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE FEED");
+        }
+        connection.close();
+    }
+
+    /**
+     * Test that the entities already written are not referenced by the feed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testReadEntitiesAreNotReferenced() throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ID, NAME FROM FEED ORDER BY ID")) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetFeed feed = new ResultSetFeed(resultSetReader, query, entityType, Collections.emptyList(), resultSet);
+                assertFalse(feed.isEmpty());
+
+                List<WeakReference<Map<String, Object>>> written = new ArrayList<>();
+                Iterator<Map<String, Object>> iterator = feed.iterator();
+                int count = 0;
+                while (iterator.hasNext()) {
+                    Map<String, Object> entity = iterator.next();
+                    assertEquals("Entity " + count, entity.get("NAME"));
+                    // the last written entity is still held to skip its remaining rows
+                    if (count < ROWS / 2 - 1) {
+                        written.add(new WeakReference<>(entity));
+                    }
+                    count++;
+                    if (count == ROWS / 2) {
+                        // the feed and the iterator are still in use, but the written entities can be collected
+                        assertCollected(written);
+                    }
+                }
+                assertEquals(ROWS, count);
+                assertTrue(feed.isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test that the feed can be iterated only once and does not support random access.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testForwardOnly() throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ID, NAME FROM FEED ORDER BY ID")) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetFeed feed = new ResultSetFeed(resultSetReader, query, entityType, Collections.emptyList(), resultSet);
+                assertTrue(feed.toString()
+                               .startsWith("ResultSetFeed"));
+                try {
+                    feed.size();
+                    fail("The size of a streamed feed must not be supported");
+                } catch (UnsupportedOperationException e) {
+                    // expected
+                }
+                try {
+                    feed.get(0);
+                    fail("The random access to a streamed feed must not be supported");
+                } catch (UnsupportedOperationException e) {
+                    // expected
+                }
+                assertEquals("Entity 0", feed.iterator()
+                                             .next()
+                                             .get("NAME"));
+                try {
+                    feed.iterator();
+                    fail("A streamed feed must be iterated only once");
+                } catch (IllegalStateException e) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that all the referenced entities are collected.
+     *
+     * @param references the references
+     * @throws InterruptedException the interrupted exception
+     */
+    private static void assertCollected(List<WeakReference<Map<String, Object>>> references) throws InterruptedException {
+        for (int i = 0; i < 50 && references.stream()
+                                            .anyMatch(reference -> reference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        for (WeakReference<Map<String, Object>> reference : references) {
+            assertNull(reference.get());
+        }
+    }
+
+}
@@ -121,6 +121,24 @@ public class EdmTableBinding extends Mapping {
         return readMandatoryConfig("sqlTable", String.class);
     }
 
+    /**
+     * Gets the JDBC fetch size for reading the entity set, configured with the optional "fetchSize"
+     * property of the binding.
+     *
+     * @return the fetch size or 0, if the driver default is to be used
+     */
+    public int getFetchSize() {
+        String key = "fetchSize";
+        if (isPropertyMapped(key)) {
+            Object fetchSize = bindingData.get(key);
+            if (fetchSize instanceof Number) {
+                return ((Number) fetchSize).intValue();
+            }
+            return Integer.parseInt(readMandatoryConfig(key, String.class));
+        }
+        return 0;
+    }
+
     /**
      * Gets the mapping table name.
      *
@@ -131,6 +131,37 @@ public class SQLQueryBuilder {
      */
     public SQLSelectBuilder buildSelectEntitySetQuery(final UriInfo uri, List<String> readIdsForExpand, ODataContext context)
             throws ODataException {
+        return buildSelectEntitySetQuery(uri, readIdsForExpand, null, context);
+    }
+
+    /**
+     * Builds the select entity set query for $expand, which selects the leading entities with the
+     * given query in the same statement, instead of filtering on their ids read in advance.
+     *
+     * @param uri the uri
+     * @param leadingEntitiesQuery the query selecting the ids of the leading entities, as built by
+     *        {@link #buildSelectEntitySetIdsForTopAndExpandQuery(UriInfo, ODataContext)}
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    public SQLSelectBuilder buildSelectEntitySetWithLeadingEntitiesQuery(final UriInfo uri, SQLSelectBuilder leadingEntitiesQuery,
+            ODataContext context) throws ODataException {
+        return buildSelectEntitySetQuery(uri, Collections.emptyList(), leadingEntitiesQuery, context);
+    }
+
+    /**
+     * Builds the select entity set query.
+     *
+     * @param uri the uri
+     * @param readIdsForExpand the read ids for expand
+     * @param leadingEntitiesQuery the query selecting the ids of the leading entities or null
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    private SQLSelectBuilder buildSelectEntitySetQuery(final UriInfo uri, List<String> readIdsForExpand,
+            SQLSelectBuilder leadingEntitiesQuery, ODataContext context) throws ODataException {
         EdmEntityType target = uri.getTargetEntitySet()
                                   .getEntityType();
 
@@ -146,7 +177,13 @@ public class SQLQueryBuilder {
 
         final Integer effectiveSkip = calculateEffectiveSkip(uri);
 
-        if (readIdsForExpand == null || readIdsForExpand.isEmpty()) {
+        if (leadingEntitiesQuery != null) {
+            // the top and skip are applied by the query of the leading entities, which is a subquery
+            // SELECT XXX WHERE XXX.ID IN (SELECT ID FROM (SELECT TOP XXX FROM TTTT AS M WHERE FILTER))
+            q.select(uri.getSelect(), uri.getExpand())
+             .from(target, uri.getKeyPredicates());
+            q.filter(uri.getTargetEntitySet(), getKeyProperty(target), leadingEntitiesQuery);
+        } else if (readIdsForExpand == null || readIdsForExpand.isEmpty()) {
             // no expand, we filter as usual
             q.select(uri.getSelect(), uri.getExpand())
              .top(effectiveTop)
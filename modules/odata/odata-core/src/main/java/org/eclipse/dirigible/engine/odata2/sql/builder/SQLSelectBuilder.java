@@ -68,6 +68,15 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     /** The serverside paging. */
     private boolean serversidePaging;
 
+    /** The query selecting the ids of the leading entities of an $expand. */
+    private SQLSelectBuilder leadingEntitiesQuery;
+
+    /** The key column, which is filtered by the leading entities. */
+    private String leadingEntitiesKeyColumn;
+
+    /** The alias of the key column in the query of the leading entities. */
+    private String leadingEntitiesKeyAlias;
+
     /**
      * Instantiates a new SQL select builder.
      *
@@ -271,6 +280,24 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
         return this;
     }
 
+    /**
+     * Filter on the ids of the leading entities selected by a subquery, so that the leading entities and
+     * their expanded entities are read with a single statement.
+     *
+     * @param filterTarget the filter target
+     * @param keyProperty the key property
+     * @param leadingEntitiesQuery the query selecting the ids of the leading entities
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    public SQLSelectBuilder filter(final EdmEntitySet filterTarget, final EdmProperty keyProperty,
+            final SQLSelectBuilder leadingEntitiesQuery) throws ODataException {
+        this.leadingEntitiesKeyColumn = getSQLTableColumnInfo(filterTarget.getEntityType(), keyProperty).getColumnName();
+        this.leadingEntitiesKeyAlias = leadingEntitiesQuery.getSQLTableColumnAlias(filterTarget.getEntityType(), keyProperty);
+        this.leadingEntitiesQuery = leadingEntitiesQuery;
+        return this;
+    }
+
     /**
      * Gets the select expression.
      *
@@ -334,8 +361,11 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     public List<SQLStatementParam> getStatementParams() {
         List<SQLStatementParam> selectClauseStatementParams = getSelectExpression().getStatementParams();
         List<SQLStatementParam> whereClauseStatementParams = getWhereClause().getStatementParams();
+        List<SQLStatementParam> leadingEntitiesStatementParams =
+                leadingEntitiesQuery != null ? leadingEntitiesQuery.getStatementParams() : Collections.emptyList();
 
-        return Stream.concat(selectClauseStatementParams.stream(), whereClauseStatementParams.stream())
+        return Stream.of(selectClauseStatementParams, whereClauseStatementParams, leadingEntitiesStatementParams)
+                     .flatMap(List::stream)
                      .collect(Collectors.toList());
     }
 
@@ -377,7 +407,22 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
         builder.append(selectExpression.evaluate(context, FROM))
                .append(SPACE);
         builder.append(evaluateJoins(context));
-        if (!getWhereClause().isEmpty()) {
+        if (leadingEntitiesQuery != null) {
+            builder.append(" WHERE ");
+            if (!getWhereClause().isEmpty()) {
+                builder.append("(")
+                       .append(getWhereClause().evaluate(context))
+                       .append(") AND ");
+            }
+            // the derived table allows LIMIT in the subquery also on the databases, which do not support it
+            // directly in IN
+            builder.append(leadingEntitiesKeyColumn)
+                   .append(" IN (SELECT LEADING_IDS.\"")
+                   .append(leadingEntitiesKeyAlias)
+                   .append("\" FROM (")
+                   .append(leadingEntitiesQuery.buildSelect(context))
+                   .append(") AS LEADING_IDS) ");
+        } else if (!getWhereClause().isEmpty()) {
             builder.append(" WHERE ");
             builder.append(getWhereClause().evaluate(context))
                    .append(SPACE);
@@ -300,27 +300,44 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
             } else {
                 count = null;
             }
-            List<String> readIdsForExpand = new ArrayList<>();
+            SQLSelectBuilder query;
             if (OData2Utils.hasExpand((UriInfo) uriInfo)) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Reading the ids that will be used for $expand");
-                }
-                readIdsForExpand = readIdsForExpand(uriInfo);
-                if (logger.isInfoEnabled()) {
-                    logger.info("Using IDs for $expand: {}", readIdsForExpand);
+                SQLSelectBuilder leadingEntitiesQuery = this.getSQLQueryBuilder()
+                                                            .buildSelectEntitySetIdsForTopAndExpandQuery((UriInfo) uriInfo, getContext());
+                if (isLeadingEntitiesSubquerySupported(createSQLContext(connection), leadingEntitiesQuery, targetEntityType)) {
+                    query = this.getSQLQueryBuilder()
+                                .buildSelectEntitySetWithLeadingEntitiesQuery((UriInfo) uriInfo, leadingEntitiesQuery, getContext());
+                } else {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Reading the ids that will be used for $expand");
+                    }
+                    List<String> readIdsForExpand = readIdsForExpand(leadingEntitiesQuery, connection);
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Using IDs for $expand: {}", readIdsForExpand);
+                    }
+                    query = this.getSQLQueryBuilder()
+                                .buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
                 }
+            } else {
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetQuery((UriInfo) uriInfo, Collections.emptyList(), getContext());
             }
-
-            SQLSelectBuilder query = this.getSQLQueryBuilder()
-                                         .buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
             try (PreparedStatement statement = createSelectStatement(query, connection)) {
+                int fetchSize = getEntitySetFetchSize(targetEntityType);
+                if (fetchSize > 0) {
+                    statement.setFetchSize(fetchSize);
+                }
                 try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!OData2Utils.hasExpand((UriInfo) uriInfo) && !query.isServersidePaging()) {
+                        // without $expand and paging the entities are written while the result set is read
+                        ResultSetFeed feed = new ResultSetFeed(resultSetReader, query, targetEntityType, properties, resultSet);
+                        return ExpandCallBack.writeFeed(getContext(), (UriInfo) uriInfo, feed, contentType, count, null);
+                    }
                     ResultSetReader.ExpandAccumulator currentAccumulator = new ResultSetReader.ExpandAccumulator(targetEntityType);
                     while (resultSet.next()) {
                         boolean hasGeneratedId = query.hasKeyGeneratedPresent(targetEntitySet.getEntityType());
                         ResultSetReader.ResultSetEntity currentTargetEntity =
                                 resultSetReader.getResultSetEntity(query, targetEntityType, properties, resultSet, hasGeneratedId);
-                        logger.info("Current entity set object is {}", currentTargetEntity);
                         if (!currentAccumulator.isAccumulatorFor(currentTargetEntity)) {
                             currentAccumulator = new ResultSetReader.ExpandAccumulator(currentTargetEntity);
                             entitiesFeed.add(currentAccumulator);
@@ -342,6 +359,19 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         return ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
     }
 
+    /**
+     * Gets the JDBC fetch size for reading the entity set of the given type.
+     *
+     * @param entityType the entity type
+     * @return the fetch size or 0, if the driver default is to be used
+     */
+    protected int getEntitySetFetchSize(EdmEntityType entityType) {
+        return this.getSQLQueryBuilder()
+                   .getTableBinding()
+                   .getEdmTableBinding(entityType)
+                   .getFetchSize();
+    }
+
     /**
      * Read ids for expand.
      *
@@ -350,18 +380,34 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
      * @throws ODataException the o data exception
      */
     public List<String> readIdsForExpand(final GetEntitySetUriInfo uriInfo) throws ODataException {
-        List<String> idsOfLeadingEntities = new ArrayList<>();
         try (Connection connection = getDataSource().getConnection()) {
             SQLSelectBuilder queryForIdsInExpand = this.getSQLQueryBuilder()
                                                        .buildSelectEntitySetIdsForTopAndExpandQuery((UriInfo) uriInfo, getContext());
-            try (PreparedStatement statement = createSelectStatement(queryForIdsInExpand, connection)) {
-                try (ResultSet resultSet = statement.executeQuery()) {
-                    while (resultSet.next()) {// TODO remove the duplication here
-                        // we select only the ids here (we assume that only one key property is in the
-                        // ID)
-                        // Override this method if this is not the case
-                        idsOfLeadingEntities.add(resultSet.getString(1));
-                    }
+            return readIdsForExpand(queryForIdsInExpand, connection);
+        } catch (ODataException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ODataException(e);
+        }
+    }
+
+    /**
+     * Read ids for expand with the given query on an open connection.
+     *
+     * @param queryForIdsInExpand the query for ids in expand
+     * @param connection the connection, which is not closed
+     * @return the list
+     * @throws ODataException the o data exception
+     */
+    protected List<String> readIdsForExpand(SQLSelectBuilder queryForIdsInExpand, Connection connection) throws ODataException {
+        List<String> idsOfLeadingEntities = new ArrayList<>();
+        try (PreparedStatement statement = createSelectStatement(queryForIdsInExpand, connection)) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {// TODO remove the duplication here
+                    // we select only the ids here (we assume that only one key property is in the
+                    // ID)
+                    // Override this method if this is not the case
+                    idsOfLeadingEntities.add(resultSet.getString(1));
                 }
             }
         } catch (Exception e) {
@@ -370,6 +416,23 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         return idsOfLeadingEntities;
     }
 
+    /**
+     * Checks whether the leading entities of an $expand can be selected by a subquery of the entity
+     * set query. Otherwise their ids are read in advance with a separate query.
+     *
+     * @param context the SQL context
+     * @param leadingEntitiesQuery the query selecting the ids of the leading entities
+     * @param entityType the entity type
+     * @return true, if the subquery is supported
+     */
+    protected boolean isLeadingEntitiesSubquerySupported(SQLContext context, SQLSelectBuilder leadingEntitiesQuery,
+            EdmEntityType entityType) {
+        // Sybase ASE does not support TOP in derived tables, the generated keys are row numbers of the
+        // query
+        return context.getDatabaseProduct() != SQLContext.DatabaseProduct.SYBASE_ASE
+                && !leadingEntitiesQuery.hasKeyGeneratedPresent(entityType);
+    }
+
     /**
      * Generates the next link for server-side paging. The next-link is based on the URI of the current
      * request, except that {@code $skip} or {@code $skiptoken} will be removed.
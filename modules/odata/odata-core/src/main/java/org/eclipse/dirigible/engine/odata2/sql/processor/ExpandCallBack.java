@@ -146,7 +146,24 @@ public class ExpandCallBack implements OnWriteFeedContent, OnWriteEntryContent,
         for (ResultSetReader.ExpandAccumulator acc : entitiesFeed) {
             entities.add(acc.renderForExpand());
         }
+        return writeFeed(context, uriInfo, entities, contentType, count, nextLink);
+    }
 
+    /**
+     * Write feed of the already rendered entities. The entities are iterated only once, hence they may
+     * be read lazily while the feed is written.
+     *
+     * @param context the context
+     * @param uriInfo the uri info
+     * @param entities the entities
+     * @param contentType the content type
+     * @param count the count
+     * @param nextLink the next link
+     * @return the o data response
+     * @throws ODataException the o data exception
+     */
+    public static ODataResponse writeFeed(ODataContext context, UriInfo uriInfo, List<Map<String, Object>> entities,
+            final String contentType, Integer count, String nextLink) throws ODataException {
         EntityProviderWriteProperties feedProperties = EntityProviderWriteProperties.serviceRoot(context.getPathInfo()
                                                                                                         .getServiceRoot())
                                                                                     .inlineCountType(uriInfo.getInlineCount())
@@ -158,9 +175,7 @@ public class ExpandCallBack implements OnWriteFeedContent, OnWriteEntryContent,
                                                                                     .nextLink(nextLink)
                                                                                     .build();
 
-        List<Map<String, Object>> feedEntities = new ArrayList<>();
-        feedEntities.addAll(entities);
-        return EntityProvider.writeFeed(contentType, uriInfo.getTargetEntitySet(), feedEntities, feedProperties);
+        return EntityProvider.writeFeed(contentType, uriInfo.getTargetEntitySet(), entities, feedProperties);
     }
 
     /**
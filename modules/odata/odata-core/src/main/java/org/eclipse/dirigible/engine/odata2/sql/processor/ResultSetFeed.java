@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.odata2.sql.processor;
+
+import org.apache.olingo.odata2.api.edm.EdmEntityType;
+import org.apache.olingo.odata2.api.edm.EdmProperty;
+import org.eclipse.dirigible.engine.odata2.sql.builder.SQLSelectBuilder;
+import java.sql.ResultSet;
+import java.util.*;
+
+/**
+ * The entities of a feed without $expand, which are read from the result set while the feed is
+ * being written, so that only the current entity is held in memory instead of the whole feed. The
+ * feed can be iterated only once and only while the result set is open, hence it does not support
+ * random access and its size is not known.
+ */
+class ResultSetFeed extends AbstractList<Map<String, Object>> {
+
+    /** The result set reader. */
+    private final ResultSetReader resultSetReader;
+
+    /** The query. */
+    private final SQLSelectBuilder query;
+
+    /** The entity type. */
+    private final EdmEntityType entityType;
+
+    /** The properties. */
+    private final Collection<EdmProperty> properties;
+
+    /** The result set. */
+    private final ResultSet resultSet;
+
+    /** The has generated id. */
+    private final boolean hasGeneratedId;
+
+    /** The last read entity. */
+    private ResultSetReader.ResultSetEntity current;
+
+    /** The next entity, read ahead of the iteration. */
+    private ResultSetReader.ResultSetEntity next;
+
+    /** The iterated. */
+    private boolean iterated;
+
+    /**
+     * Instantiates a new result set feed.
+     *
+     * @param resultSetReader the result set reader
+     * @param query the query
+     * @param entityType the entity type
+     * @param properties the properties
+     * @param resultSet the result set
+     */
+    ResultSetFeed(ResultSetReader resultSetReader, SQLSelectBuilder query, EdmEntityType entityType, Collection<EdmProperty> properties,
+            ResultSet resultSet) {
+        this.resultSetReader = resultSetReader;
+        this.query = query;
+        this.entityType = entityType;
+        this.properties = properties;
+        this.resultSet = resultSet;
+        this.hasGeneratedId = query.hasKeyGeneratedPresent(entityType);
+    }
+
+    /**
+     * Iterator.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("The entities of a streamed feed can be iterated only once");
+        }
+        iterated = true;
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return fetch();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!fetch()) {
+                    throw new NoSuchElementException();
+                }
+                current = next;
+                next = null;
+                return current.data;
+            }
+        };
+    }
+
+    /**
+     * Checks if is empty, without consuming the first entity.
+     *
+     * @return true, if is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return !fetch();
+    }
+
+    /**
+     * Not supported by a streamed feed.
+     *
+     * @param index the index
+     * @return nothing
+     */
+    @Override
+    public Map<String, Object> get(int index) {
+        throw new UnsupportedOperationException("The entities of a streamed feed can only be iterated");
+    }
+
+    /**
+     * Not supported by a streamed feed.
+     *
+     * @return nothing
+     */
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException("The size of a streamed feed is not known in advance");
+    }
+
+    /**
+     * Describes the feed without iterating it.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+        return "ResultSetFeed [entityType=" + entityType + ", iterated=" + iterated + "]";
+    }
+
+    /**
+     * Reads the next entity, unless it is already read. The consecutive rows of the same entity are
+     * skipped the same way as when the feed is accumulated.
+     *
+     * @return true, if there is a next entity
+     */
+    private boolean fetch() {
+        if (next != null) {
+            return true;
+        }
+        try {
+            while (resultSet.next()) {
+                ResultSetReader.ResultSetEntity entity =
+                        resultSetReader.getResultSetEntity(query, entityType, properties, resultSet, hasGeneratedId);
+                if (current == null || !current.equals(entity)) {
+                    next = entity;
+                    return true;
+                }
+            }
+            return false;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to read entity set", e);
+        }
+    }
+
+}
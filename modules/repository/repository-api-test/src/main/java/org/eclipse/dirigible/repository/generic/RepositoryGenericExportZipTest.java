@@ -292,4 +292,47 @@ public class RepositoryGenericExportZipTest {
         }
 
     }
+    /**
+     * Test export zip to output stream.
+     */
+    @Test
+    public void testExportZipToOutputStream() {
+        if (repository == null) {
+            return;
+        }
+
+        try {
+            repository.createResource("/root1/export/folder3/text3.txt", //$NON-NLS-1$
+                    "text3".getBytes()); //$NON-NLS-1$
+            repository.createResource("/root1/export/folder4/text4.txt", //$NON-NLS-1$
+                    "text4".getBytes()); //$NON-NLS-1$
+            ByteArrayOutputStream zip = new ByteArrayOutputStream();
+            repository.exportZip("/root1/export", true, zip); //$NON-NLS-1$
+
+            try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()))) {
+                ZipEntry entry;
+                int entriesCount = 0;
+                while ((entry = zipInputStream.getNextEntry()) != null) {
+                    String outpath = entry.getName()
+                                          .replace(File.separator, IRepository.SEPARATOR);
+                    if (outpath.equals("export/folder3/text3.txt")) { //$NON-NLS-1$
+                        assertEquals("text3", new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8)); //$NON-NLS-1$
+                        entriesCount++;
+                    }
+                    if (outpath.equals("export/folder4/text4.txt")) { //$NON-NLS-1$
+                        assertEquals("text4", new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8)); //$NON-NLS-1$
+                        entriesCount++;
+                    }
+                }
+                assertEquals(2, entriesCount);
+            }
+            repository.removeCollection("/root1/export/"); //$NON-NLS-1$
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+
+    }
+
 }
@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -39,4 +40,28 @@ public interface IRepositoryExporter {
      */
     public byte[] exportZip(String relativeRoot, boolean inclusive) throws RepositoryExportException;
 
+    /**
+     * Export all the content under the given path(s) with the target repository instance directly to
+     * the output stream, without holding the whole archive in memory. Include the last segment of the
+     * relative roots during the archiving.
+     *
+     * @param relativeRoots the list of relative roots
+     * @param output the output stream, which is not closed
+     * @throws RepositoryExportException in case the export cannot be performed
+     */
+    public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException;
+
+    /**
+     * Export all the content under the given path with the target repository instance directly to the
+     * output stream, without holding the whole archive in memory. Include or NOT the last segment of
+     * the relative root during the archiving.
+     *
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or to pack its content directly
+     *        in the archive
+     * @param output the output stream, which is not closed
+     * @throws RepositoryExportException in case the export cannot be performed
+     */
+    public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException;
+
 }
@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.InputStream;
 import java.util.Map;
 import java.util.zip.ZipInputStream;
 
@@ -87,4 +88,20 @@ public interface IRepositoryImporter {
     public void importZip(byte[] data, String relativeRoot, boolean override, boolean excludeRootFolderName, Map<String, String> filter)
             throws RepositoryImportException;
 
+    /**
+     * Imports content from zip stream to the repository, based on the relative root, reading it entry
+     * by entry, without holding the whole archive in memory. Overrides the previous content depending
+     * on the override parameter. Excludes the name of the root folder, during the import, based on the
+     * excludeRootFolderName parameter.
+     *
+     * @param input the zip content as input stream
+     * @param relativeRoot the relative root
+     * @param override whether to override existing
+     * @param excludeRootFolderName the exclude root folder name
+     * @param filter a filter
+     * @throws RepositoryImportException in case the zip cannot be imported
+     */
+    public void importZip(InputStream input, String relativeRoot, boolean override, boolean excludeRootFolderName, Map<String, String> filter)
+            throws RepositoryImportException;
+
 }
@@ -17,6 +17,8 @@ import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -684,6 +686,35 @@ public abstract class FileSystemRepository implements IRepository {
                 excludeRootFolderName, filter);
     }
 
+    /**
+     * Import zip.
+     *
+     * @param input the input
+     * @param relativeRoot the relative root
+     * @param override the override
+     * @param excludeRootFolderName the exclude root folder name
+     * @param filter the filter
+     * @throws RepositoryImportException the repository import exception
+     */
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.eclipse.dirigible.repository.api.IRepositoryImporter#importZip(java.io.InputStream,
+     * java.lang.String, boolean, boolean, java.util.Map)
+     */
+    @Override
+    public void importZip(InputStream input, String relativeRoot, boolean override, boolean excludeRootFolderName,
+            Map<String, String> filter) throws RepositoryImportException {
+        if (input == null) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Provided Zip Input Stream cannot be null");
+            }
+            throw new RepositoryImportException("Provided Zip Input Stream cannot be null");
+        }
+        ZipInputStream zipInputStream = input instanceof ZipInputStream ? (ZipInputStream) input : new ZipInputStream(input);
+        RepositoryZipImporter.importZip(this, zipInputStream, relativeRoot, override, excludeRootFolderName, filter);
+    }
+
     /**
      * Export zip.
      *
@@ -720,6 +751,43 @@ public abstract class FileSystemRepository implements IRepository {
         return RepositoryZipExporter.exportZip(this, relativeRoot, inclusive);
     }
 
+    /**
+     * Export zip.
+     *
+     * @param relativeRoots the relative roots
+     * @param output the output
+     * @throws RepositoryExportException the repository export exception
+     */
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.eclipse.dirigible.repository.api.IRepositoryExporter#exportZip(java.util.List,
+     * java.io.OutputStream)
+     */
+    @Override
+    public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
+        RepositoryZipExporter.exportZip(this, relativeRoots, output);
+    }
+
+    /**
+     * Export zip.
+     *
+     * @param relativeRoot the relative root
+     * @param inclusive the inclusive
+     * @param output the output
+     * @throws RepositoryExportException the repository export exception
+     */
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.eclipse.dirigible.repository.api.IRepositoryExporter#exportZip(java.lang.String,
+     * boolean, java.io.OutputStream)
+     */
+    @Override
+    public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException {
+        RepositoryZipExporter.exportZip(this, relativeRoot, inclusive, output);
+    }
+
     /**
      * Search name.
      *
@@ -849,6 +917,17 @@ public abstract class FileSystemRepository implements IRepository {
         repositorySearcher.forceReindex();
     }
 
+    /**
+     * Marks a resource or a collection as changed for the search index.
+     *
+     * @param path the path
+     */
+    public void searchChanged(String path) {
+        if (repositorySearcher != null) {
+            repositorySearcher.changed(path);
+        }
+    }
+
     /**
      * Gets the all resource paths.
      *
@@ -87,6 +87,7 @@ public class LocalRepositoryDao {
             String workspacePath = storeFile(path, content);
             cache.put(workspacePath, content);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -128,6 +129,7 @@ public class LocalRepositoryDao {
             String workspacePath = storeFile(localFile.getPath(), content);
             cache.put(workspacePath, content);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(localFile.getPath());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -166,6 +168,8 @@ public class LocalRepositoryDao {
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(path);
+            repository.searchChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -184,6 +188,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -200,6 +205,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.removeFile(workspacePath);
             cache.remove(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -216,6 +222,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.removeFile(workspacePath);
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(path);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -249,6 +256,8 @@ public class LocalRepositoryDao {
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(path);
+            repository.searchChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -274,6 +283,7 @@ public class LocalRepositoryDao {
             });
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            repository.searchChanged(newPath);
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2023 SAP SE or an SAP affiliate company and Eclipse Dirigible
+ * contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class RepositorySearcherTest.
+ */
+public class RepositorySearcherTest {
+
+    /** The Constant COLLECTION. */
+    private static final String COLLECTION = "/testRepositorySearcher";
+
+    /** The repository. */
+    private IRepository repository;
+
+    /** The searcher, which shares the index of the repository. */
+    private RepositorySearcher searcher;
+
+    /** The term, unique for the run, since the index is kept between the runs. */
+    private String term;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        repository = new LocalRepository("target");
+        searcher = new RepositorySearcher(repository);
+        term = "searchable" + System.currentTimeMillis();
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        if (repository.hasCollection(COLLECTION)) {
+            repository.removeCollection(COLLECTION);
+        }
+        searcher.changed(COLLECTION);
+        searcher.applyChanges();
+    }
+
+    /**
+     * A saved resource is searchable once the batch of changes is committed, while a removed one is not
+     * found anymore.
+     */
+    @Test
+    public void testChangedResource() {
+        String path = COLLECTION + "/saved.txt";
+        repository.createResource(path, ("abc " + term).getBytes());
+        searcher.changed(path);
+        assertFalse(searcher.search(term)
+                            .contains(path));
+
+        searcher.applyChanges();
+        assertEquals(List.of(path), searcher.search(term));
+
+        repository.removeResource(path);
+        searcher.changed(path);
+        searcher.applyChanges();
+        assertTrue(searcher.search(term)
+                           .isEmpty());
+    }
+
+    /**
+     * The resources of a changed collection are indexed again, while the resources of a removed
+     * collection are not found anymore.
+     */
+    @Test
+    public void testChangedCollection() {
+        repository.createResource(COLLECTION + "/first.txt", term.getBytes());
+        repository.createResource(COLLECTION + "/sub/second.txt", term.getBytes());
+        searcher.changed(COLLECTION);
+        searcher.applyChanges();
+        List<String> results = searcher.search(term);
+        assertEquals(2, results.size());
+        assertTrue(results.contains(COLLECTION + "/first.txt"));
+        assertTrue(results.contains(COLLECTION + "/sub/second.txt"));
+
+        repository.removeCollection(COLLECTION);
+        searcher.changed(COLLECTION);
+        searcher.applyChanges();
+        assertTrue(searcher.search(term)
+                           .isEmpty());
+    }
+
+}
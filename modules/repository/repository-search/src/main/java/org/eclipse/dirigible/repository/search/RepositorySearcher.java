@@ -15,24 +15,25 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
@@ -41,12 +42,16 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
@@ -56,6 +61,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The Class RepositorySearcher.
+ *
+ * Keeps one long-lived {@link IndexWriter} and a near real-time {@link SearcherManager} per index
+ * location. The repository reports the changed paths, which are indexed and committed in batches
+ * every DIRIGIBLE_REPOSITORY_SEARCH_COMMIT_INTERVAL seconds. The whole repository is reconciled with
+ * the index only every DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL seconds, in order to catch the
+ * changes made outside of the repository API, and only the resources modified after their indexing
+ * are read then.
  */
 public class RepositorySearcher {
 
@@ -71,6 +83,12 @@ public class RepositorySearcher {
     /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION. */
     public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION"; //$NON-NLS-1$
 
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_COMMIT_INTERVAL. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_COMMIT_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_COMMIT_INTERVAL"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL"; //$NON-NLS-1$
+
     /** The Constant CURRENT_DIR. */
     private static final String CURRENT_DIR = ".";
 
@@ -89,6 +107,9 @@ public class RepositorySearcher {
     /** The Constant MAX_RESULTS. */
     private static final int MAX_RESULTS = 1000;
 
+    /** The opened indexes by folder, shared by all the searchers of the same index. */
+    private static final Map<String, IndexHolder> INDEXES = new ConcurrentHashMap<>();
+
     /** The repository. */
     private IRepository repository;
 
@@ -101,14 +122,14 @@ public class RepositorySearcher {
     /** The timer. */
     private Timer timer;
 
-    /** The seconds. */
-    private int seconds = 30;
+    /** The paths changed since the last commit. */
+    private final Set<String> changes = ConcurrentHashMap.newKeySet();
 
-    /** The last updated. */
-    private Date lastUpdated = new Date(0);
+    /** The reconcile interval in milliseconds. */
+    private final long reconcileInterval;
 
-    /** The count updated. */
-    private volatile int countUpdated = 0;
+    /** The last reconciled. */
+    private volatile long lastReconciled = 0;
 
     /**
      * Instantiates a new repository searcher.
@@ -139,77 +160,102 @@ public class RepositorySearcher {
 
         this.index = indexLocation;
 
-        timer = new Timer();
-        timer.schedule(new ReindexTask(), 30000, seconds * 1000);
+        int commitInterval = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_COMMIT_INTERVAL, 5);
+        this.reconcileInterval = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL, 3600) * 1000L;
+
+        timer = new Timer("repository-search", true);
+        timer.schedule(new IndexTask(), 30000, commitInterval * 1000L);
     }
 
     /**
-     * The Class ReindexTask.
+     * The Class IndexTask.
      */
-    class ReindexTask extends TimerTask {
+    class IndexTask extends TimerTask {
 
         /**
          * Run.
          */
         @Override
         public void run() {
-            synchronized (RepositorySearcher.class) {
-                if (countUpdated > 30) {
-                    countUpdated = 0;
-                    lastUpdated = new Date(0);
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Full reindexing of the Repository Content...");
-                    }
+            try {
+                if (System.currentTimeMillis() - lastReconciled >= reconcileInterval) {
+                    reconcile();
                 }
-                reindex();
-                lastUpdated = new Date();
-                countUpdated++;
+                applyChanges();
+            } catch (RuntimeException e) {
+                logger.error("Failed to update the index of the Repository Content", e);
             }
         }
     }
 
+    /**
+     * Marks a resource or a collection as changed, so that it is indexed again or removed from the
+     * index with the next commit.
+     *
+     * @param path the path
+     */
+    public void changed(String path) {
+        if (path != null) {
+            changes.add(path);
+        }
+    }
+
+    /**
+     * Gets the index.
+     *
+     * @return the index
+     */
+    private IndexHolder getIndex() {
+        return INDEXES.computeIfAbsent(root + File.separator + index, IndexHolder::open);
+    }
+
     /**
      * Adds the.
      *
+     * @param writer the writer
      * @param location the location
      * @param contents the contents
      * @param lastModified the last modified
      * @param parameters the parameters
      * @throws RepositoryWriteException the repository write exception
      */
-    private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters) throws RepositoryWriteException {
-        String indexName = index;
-
+    private void add(IndexWriter writer, String location, byte[] contents, long lastModified, Map<String, String> parameters)
+            throws RepositoryWriteException {
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            Analyzer analyzer = new StandardAnalyzer();
-            IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-            iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-            IndexWriter writer = null;
-            try {
-                writer = new IndexWriter(dir, iwc);
-                Document doc = new Document();
-                Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-                doc.add(pathField);
-                doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-                if (parameters != null) {
-                    for (String key : parameters.keySet()) {
-                        doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-                    }
-                }
-                doc.add(new TextField(FIELD_CONTENTS,
-                        new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-                writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-            } finally {
-                if (writer != null) {
-                    writer.close();
+            Document doc = new Document();
+            Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+            doc.add(pathField);
+            doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+            doc.add(new StoredField(FIELD_MODIFIED, lastModified));
+            if (parameters != null) {
+                for (String key : parameters.keySet()) {
+                    doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
                 }
             }
+            doc.add(new TextField(FIELD_CONTENTS,
+                    new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+            writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
         } catch (IOException e) {
             throw new RepositoryWriteException(e);
         }
     }
 
+    /**
+     * Adds the resource, if it has modification information.
+     *
+     * @param writer the writer
+     * @param resource the resource
+     */
+    private void add(IndexWriter writer, IResource resource) {
+        if ((resource.getInformation() != null) && (resource.getInformation()
+                                                            .getModifiedAt() != null)) {
+            add(writer, resource.getPath(), resource.getContent(), resource.getInformation()
+                                                                           .getModifiedAt()
+                                                                           .getTime(),
+                    null);
+        }
+    }
+
     /**
      * Search for a given term in the text files content.
      *
@@ -219,21 +265,18 @@ public class RepositorySearcher {
      */
     public List<String> search(String term) throws RepositoryReadException {
         List<String> results = new ArrayList<String>();
-        String indexName = index;
-
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            IndexReader reader = null;
+            SearcherManager searcherManager = getIndex().searcherManager;
+            IndexSearcher searcher = searcherManager.acquire();
             try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
                 Analyzer analyzer = new StandardAnalyzer();
                 String field = FIELD_CONTENTS;
                 QueryParser parser = new QueryParser(field, analyzer);
                 Query query = parser.parse(term);
                 TopDocs topDocs = searcher.search(query, MAX_RESULTS);
                 for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document document = searcher.doc(scoreDoc.doc);
+                    Document document = searcher.storedFields()
+                                                .document(scoreDoc.doc);
                     for (IndexableField indexableField : document.getFields()) {
                         String name = indexableField.name();
                         if (FIELD_LOCATION.equals(name)) {
@@ -245,51 +288,150 @@ public class RepositorySearcher {
 
                 }
             } finally {
-                if (reader != null) {
-                    reader.close();
-                }
+                searcherManager.release(searcher);
             }
             return results;
-        } catch (IOException | ParseException e) {
+        } catch (IOException | UncheckedIOException | ParseException e) {
             throw new RepositoryReadException(e);
         }
     }
 
     /**
-     * Reindex.
+     * Indexes the changed paths and commits them at once.
      */
-    private void reindex() {
+    void applyChanges() {
+        if (changes.isEmpty()) {
+            return;
+        }
         synchronized (RepositorySearcher.class) {
             long start = System.currentTimeMillis();
-            List<String> paths = repository.getAllResourcePaths();
-            for (String path : paths) {
-                IResource resource = repository.getResource(path);
-                if ((resource != null) && (resource.getInformation() != null) && (resource.getInformation()
-                                                                                          .getModifiedAt() != null)) {
-                    if (lastUpdated.before(resource.getInformation()
-                                                   .getModifiedAt())) {
-                        add(path, resource.getContent(), resource.getInformation()
-                                                                 .getModifiedAt()
-                                                                 .getTime(),
-                                null);
+            List<String> paths = new ArrayList<>(changes);
+            changes.removeAll(paths);
+            IndexHolder holder = getIndex();
+            try {
+                for (String path : paths) {
+                    IResource resource = repository.getResource(path);
+                    if (resource != null && resource.exists()) {
+                        add(holder.writer, resource);
+                        continue;
+                    }
+                    // removed resource, or changed collection
+                    holder.writer.deleteDocuments(new Term(FIELD_LOCATION, path));
+                    holder.writer.deleteDocuments(new PrefixQuery(new Term(FIELD_LOCATION, path + IRepository.SEPARATOR)));
+                    ICollection collection = repository.getCollection(path);
+                    if (collection != null && collection.exists()) {
+                        addAll(holder.writer, collection);
                     }
                 }
+                holder.commit();
+            } catch (IOException e) {
+                throw new RepositoryWriteException(e);
             }
-            long end = System.currentTimeMillis();
             if (logger.isTraceEnabled()) {
-                logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
+                logger.trace("Indexing of [{}] changed paths finished in: {}ms", paths.size(), System.currentTimeMillis() - start);
             }
         }
     }
 
     /**
-     * Force reindex.
+     * Adds all the resources of the collection recursively.
+     *
+     * @param writer the writer
+     * @param collection the collection
+     */
+    private void addAll(IndexWriter writer, ICollection collection) {
+        for (IResource resource : collection.getResources()) {
+            add(writer, resource);
+        }
+        for (ICollection child : collection.getCollections()) {
+            addAll(writer, child);
+        }
+    }
+
+    /**
+     * Reconciles the index with the repository. Only the resources modified after their indexing are
+     * indexed again.
+     */
+    private void reconcile() {
+        synchronized (RepositorySearcher.class) {
+            long start = System.currentTimeMillis();
+            IndexHolder holder = getIndex();
+            int count = 0;
+            try {
+                holder.searcherManager.maybeRefreshBlocking();
+                IndexSearcher searcher = holder.searcherManager.acquire();
+                try {
+                    for (String path : repository.getAllResourcePaths()) {
+                        IResource resource = repository.getResource(path);
+                        if ((resource != null) && (resource.getInformation() != null) && (resource.getInformation()
+                                                                                                  .getModifiedAt() != null)) {
+                            Long indexed = getIndexedModified(searcher, path);
+                            if (indexed == null || indexed < resource.getInformation()
+                                                                     .getModifiedAt()
+                                                                     .getTime()) {
+                                add(holder.writer, resource);
+                                count++;
+                            }
+                        }
+                    }
+                } finally {
+                    holder.searcherManager.release(searcher);
+                }
+                holder.commit();
+            } catch (IOException e) {
+                throw new RepositoryWriteException(e);
+            }
+            lastReconciled = System.currentTimeMillis();
+            if (logger.isTraceEnabled()) {
+                logger.trace("Reconciling of the Repository Content index with [{}] updates finished in: {}ms", count, lastReconciled - start);
+            }
+        }
+    }
+
+    /**
+     * Gets the last modified time of the indexed resource.
+     *
+     * @param searcher the searcher
+     * @param path the path
+     * @return the last modified time or null, if not indexed
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static Long getIndexedModified(IndexSearcher searcher, String path) throws IOException {
+        TopDocs topDocs = searcher.search(new TermQuery(new Term(FIELD_LOCATION, path)), 1);
+        if (topDocs.scoreDocs.length == 0) {
+            return null;
+        }
+        IndexableField field = searcher.storedFields()
+                                       .document(topDocs.scoreDocs[0].doc)
+                                       .getField(FIELD_MODIFIED);
+        return field != null && field.numericValue() != null ? field.numericValue()
+                                                                    .longValue()
+                : null;
+    }
+
+    /**
+     * Force reindex of all the resources, including the pending changes.
      */
     public void forceReindex() {
         synchronized (RepositorySearcher.class) {
-            this.lastUpdated = new Date(0);
-            this.countUpdated = 0;
-            reindex();
+            applyChanges();
+            long start = System.currentTimeMillis();
+            IndexHolder holder = getIndex();
+            try {
+                for (String path : repository.getAllResourcePaths()) {
+                    IResource resource = repository.getResource(path);
+                    if (resource != null) {
+                        add(holder.writer, resource);
+                    }
+                }
+                holder.commit();
+            } catch (IOException e) {
+                throw new RepositoryWriteException(e);
+            }
+            lastReconciled = System.currentTimeMillis();
+            if (logger.isTraceEnabled()) {
+                logger.trace("Reindexing of the Repository Content finished in: " + (lastReconciled - start) + "ms");
+            }
         }
     }
 
@@ -302,4 +444,67 @@ public class RepositorySearcher {
         return root;
     }
 
+    /**
+     * The opened writer and searcher manager of an index.
+     */
+    private static class IndexHolder {
+
+        /** The writer. */
+        private final IndexWriter writer;
+
+        /** The searcher manager. */
+        private final SearcherManager searcherManager;
+
+        /**
+         * Instantiates a new index holder.
+         *
+         * @param writer the writer
+         * @param searcherManager the searcher manager
+         */
+        private IndexHolder(IndexWriter writer, SearcherManager searcherManager) {
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        /**
+         * Opens the index in the given folder.
+         *
+         * @param folder the folder
+         * @return the index holder
+         */
+        static IndexHolder open(String folder) {
+            try {
+                Directory dir = FSDirectory.open(Paths.get(folder));
+                IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+                iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+                IndexWriter writer = new IndexWriter(dir, iwc);
+                SearcherManager searcherManager = new SearcherManager(writer, null);
+                Runtime.getRuntime()
+                       .addShutdownHook(new Thread(() -> {
+                           try {
+                               searcherManager.close();
+                               writer.close();
+                           } catch (IOException e) {
+                               logger.error("Failed to close the index: " + folder, e);
+                           }
+                       }));
+                return new IndexHolder(writer, searcherManager);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Commits the changes and makes them visible to the searches.
+         *
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        void commit() throws IOException {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
 }
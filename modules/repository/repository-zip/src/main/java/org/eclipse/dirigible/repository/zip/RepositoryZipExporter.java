@@ -14,6 +14,7 @@ import static java.text.MessageFormat.format;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.ZipEntry;
@@ -41,41 +42,48 @@ public class RepositoryZipExporter {
      * @throws RepositoryExportException in case the content cannot be exported
      */
     public static byte[] exportZip(IRepository repository, List<String> relativeRoots) throws RepositoryExportException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportZip(repository, relativeRoots, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Export all the content under the given path(s) with the target repository instance directly to
+     * the given output stream, entry by entry, so that the size of the archive is not limited by the
+     * memory. Include the last segment of the relative roots during the archiving. The output stream is
+     * not closed.
+     *
+     * @param repository the target {@link IRepository} instance
+     * @param relativeRoots the relative roots
+     * @param output the output stream
+     * @throws RepositoryExportException in case the content cannot be exported
+     */
+    public static void exportZip(IRepository repository, List<String> relativeRoots, OutputStream output)
+            throws RepositoryExportException {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ZipOutputStream zipOutputStream = null;
-            try {
-                zipOutputStream = new ZipOutputStream(baos);
-
-                for (String relativeRoot : relativeRoots) {
-                    ICollection collection = repository.getCollection(relativeRoot);
-                    if (collection.exists()) {
-                        traverseCollection(zipOutputStream, collection, relativeRoot.length() - collection.getName()
-                                                                                                          .length());
+            ZipOutputStream zipOutputStream = new ZipOutputStream(output);
+            for (String relativeRoot : relativeRoots) {
+                ICollection collection = repository.getCollection(relativeRoot);
+                if (collection.exists()) {
+                    traverseCollection(zipOutputStream, collection, relativeRoot.length() - collection.getName()
+                                                                                                      .length());
+                } else {
+                    IResource iResource = repository.getResource(relativeRoot);
+                    if (iResource.exists()) {
+                        ZipEntry zipEntry = new ZipEntry(iResource.getPath()
+                                                                  .substring(relativeRoot.length() - iResource.getName()
+                                                                                                              .length()));
+                        zipOutputStream.putNextEntry(zipEntry);
+                        zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
+                        zipOutputStream.closeEntry();
                     } else {
-                        IResource iResource = repository.getResource(relativeRoot);
-                        if (iResource.exists()) {
-                            ZipEntry zipEntry = new ZipEntry(iResource.getPath()
-                                                                      .substring(relativeRoot.length() - iResource.getName()
-                                                                                                                  .length()));
-                            zipOutputStream.putNextEntry(zipEntry);
-                            zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-                            zipOutputStream.closeEntry();
-                        } else {
-                            throw new IOException(format("Relative Root: {0} doesn't exist", relativeRoot));
-                        }
+                        throw new IOException(format("Relative Root: {0} doesn't exist", relativeRoot));
                     }
                 }
-            } finally {
-                if (zipOutputStream != null) {
-                    zipOutputStream.finish();
-                    zipOutputStream.flush();
-                    zipOutputStream.close();
-                }
             }
-
-            byte[] result = baos.toByteArray();
-            return result;
+            // finish the archive, but leave the output stream open for its owner
+            zipOutputStream.finish();
+            zipOutputStream.flush();
         } catch (RepositoryReadException | IOException e) {
             throw new RepositoryExportException(e);
         }
@@ -93,6 +101,37 @@ public class RepositoryZipExporter {
      * @throws RepositoryExportException in case the content cannot be exported
      */
     public static byte[] exportZip(IRepository repository, String relativeRoot, boolean inclusive) throws RepositoryExportException {
+        return exportZip(repository, getRelativeRoots(repository, relativeRoot, inclusive));
+    }
+
+    /**
+     * Export all the content under the given path with the target repository instance directly to the
+     * given output stream. Include or NOT the last segment of the relative root during the archiving.
+     * The output stream is not closed.
+     *
+     * @param repository the repository
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or to pack its content directly
+     *        in the archive
+     * @param output the output stream
+     * @throws RepositoryExportException in case the content cannot be exported
+     */
+    public static void exportZip(IRepository repository, String relativeRoot, boolean inclusive, OutputStream output)
+            throws RepositoryExportException {
+        exportZip(repository, getRelativeRoots(repository, relativeRoot, inclusive), output);
+    }
+
+    /**
+     * Gets the relative roots to be archived for the given path.
+     *
+     * @param repository the repository
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or its children
+     * @return the relative roots
+     * @throws RepositoryExportException in case the root does not exist
+     */
+    private static List<String> getRelativeRoots(IRepository repository, String relativeRoot, boolean inclusive)
+            throws RepositoryExportException {
 
         List<String> relativeRoots = new ArrayList<String>();
 
@@ -107,12 +146,12 @@ public class RepositoryZipExporter {
                     relativeRoots.add(iEntity.getPath());
                 }
             }
-            return exportZip(repository, relativeRoots);
+            return relativeRoots;
         }
         IResource resource = repository.getResource(relativeRoot);
         if (resource.exists()) {
             relativeRoots.add(resource.getPath());
-            return exportZip(repository, relativeRoots);
+            return relativeRoots;
         }
         throw new RepositoryExportException(format("Relative Root: {0} does not exist", relativeRoot));
     }